@@ -0,0 +1,51 @@
+package com.example.gaming_directory.benchmark;
+
+import com.example.gaming_directory.search.UsernameIndex;
+import com.example.gaming_directory.service.GamerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// GamerService.autocomplete (GET /api/gamers/autocomplete) for a prefix every username shares, one shared by about
+// a thousand and a nearly unique one. Synthetic usernames are "gamer" + id.
+// Run: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="AutocompleteBenchmark"
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Thread)
+public class AutocompleteBenchmark {
+
+    @Param({"gamer", "gamer12", "gamer1234"})
+    public String prefix;
+
+    @Param({"10"})
+    public int limit;
+
+    private GamerService gamerService;
+
+    @Setup
+    public void setUp(DirectoryState directory) {
+        gamerService = directory.bean(GamerService.class);
+        if (!directory.bean(UsernameIndex.class).isReady()) {
+            throw new IllegalStateException("Username index not built");
+        }
+    }
+
+    @Benchmark
+    public List<String> autocomplete() {
+        return gamerService.autocomplete(prefix, limit);
+    }
+}
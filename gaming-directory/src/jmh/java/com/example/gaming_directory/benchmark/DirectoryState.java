@@ -0,0 +1,53 @@
+package com.example.gaming_directory.benchmark;
+
+import com.example.gaming_directory.GamingDirectoryApplication;
+import com.example.gaming_directory.config.SyntheticData;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// The application started without a web server against a synthetic dataset of the given size.
+// Every gamer has 1 to 9 skills (5 on average), so gamer skill rows are about five times the gamer count.
+@State(Scope.Benchmark)
+public class DirectoryState {
+
+    public static final int GAMES = 500;
+
+    @Param({"10000", "100000", "500000"})
+    public int gamers;
+
+    // Capacity of the username and game name cache (NameIdCache); 0 resolves every name from the database
+    @Param({"100000"})
+    public int nameCacheSize;
+
+    public ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        SpringApplication application = new SpringApplication(GamingDirectoryApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles(SyntheticData.PROFILE);
+        context = application.run(
+            "--spring.datasource.url=jdbc:h2:mem:benchmark-" + gamers,
+            "--gaming.synthetic.gamers=" + gamers,
+            "--gaming.synthetic.games=" + GAMES,
+            "--gaming.synthetic.skills-per-gamer=5",
+            "--gaming.cache.name-ids.maximum-size=" + nameCacheSize,
+            "--logging.level.root=WARN");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
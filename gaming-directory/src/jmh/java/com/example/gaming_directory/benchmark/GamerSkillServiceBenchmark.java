@@ -0,0 +1,61 @@
+package com.example.gaming_directory.benchmark;
+
+import com.example.gaming_directory.dto.CursorPage;
+import com.example.gaming_directory.dto.GamerSkillView;
+import com.example.gaming_directory.entity.GamerSkill;
+import com.example.gaming_directory.enums.Level;
+import com.example.gaming_directory.service.GamerSkillService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Link and level-per-game paths of the service against synthetic datasets of increasing size (see DirectoryState).
+// Run: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="GamerSkillServiceBenchmark"
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Thread)
+public class GamerSkillServiceBenchmark {
+
+    private GamerSkillService gamerSkillService;
+    private int gamers;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup
+    public void setUp(DirectoryState directory) {
+        gamerSkillService = directory.bean(GamerSkillService.class);
+        gamers = directory.gamers;
+    }
+
+    // Create or update the skill of a random gamer in a random game
+    @Benchmark
+    public GamerSkill linkGamerToGame() {
+        return gamerSkillService.linkGamerToGame(
+            "gamer" + (1 + random.nextInt(gamers)),
+            "Game " + (1 + random.nextInt(DirectoryState.GAMES)),
+            randomLevel());
+    }
+
+    // First page of one level in a game, for a game picked across the popularity range
+    @Benchmark
+    public CursorPage<GamerSkillView> getGamersByLevelAndGame() {
+        return gamerSkillService.getGamersByLevelAndGame(
+            "Game " + (1 + random.nextInt(DirectoryState.GAMES)), randomLevel(), null, null);
+    }
+
+    private Level randomLevel() {
+        return Level.values()[random.nextInt(Level.values().length)];
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.gaming_directory.benchmark;
+
+import com.example.gaming_directory.dto.CursorPage;
+import com.example.gaming_directory.dto.GamerSkillView;
+import com.example.gaming_directory.entity.Game;
+import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.entity.GamerSkill;
+import com.example.gaming_directory.enums.Level;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson serialization of the API responses (a page of gamers with their games, a page of gamer skills),
+// with the same ObjectMapper defaults Spring Boot uses. No database involved.
+// Run: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="JsonSerializationBenchmark"
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private static final int SKILLS_PER_GAMER = 5;
+
+    @Param({"1", "50", "500"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private CursorPage<Gamer> gamerPage;
+    private CursorPage<GamerSkillView> gamerSkillPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<Game> games = new ArrayList<>();
+        for (int i = 1; i <= SKILLS_PER_GAMER; i++) {
+            Game game = new Game("Game " + i);
+            game.setId((long) i);
+            games.add(game);
+        }
+
+        List<Gamer> gamers = new ArrayList<>();
+        List<GamerSkillView> gamerSkills = new ArrayList<>();
+        long skillId = 1;
+        for (int i = 1; i <= pageSize; i++) {
+            Gamer gamer = new Gamer("gamer" + i, "USA");
+            gamer.setId((long) i);
+            for (Game game : games) {
+                GamerSkill gamerSkill = new GamerSkill(gamer, game, Level.values()[(int) (skillId % 3)]);
+                gamerSkill.setId(skillId++);
+                gamer.getGamerSkills().add(gamerSkill);
+                if (gamerSkills.size() < pageSize) {
+                    gamerSkills.add(GamerSkillView.of(gamerSkill));
+                }
+            }
+            gamers.add(gamer);
+        }
+        gamerPage = new CursorPage<>(gamers, (long) pageSize, pageSize);
+        gamerSkillPage = new CursorPage<>(gamerSkills, (long) pageSize, pageSize);
+    }
+
+    @Benchmark
+    public byte[] serializeGamerPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(gamerPage);
+    }
+
+    @Benchmark
+    public byte[] serializeGamerSkillPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(gamerSkillPage);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.gaming_directory.benchmark;
+
+import com.example.gaming_directory.cache.NameIdCache;
+import com.example.gaming_directory.dto.GamerMatch;
+import com.example.gaming_directory.dto.GamerSkillView;
+import com.example.gaming_directory.enums.Level;
+import com.example.gaming_directory.repository.GamerSkillRepository;
+import com.example.gaming_directory.search.GamerSkillIndex;
+import com.example.gaming_directory.service.GamerSkillService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// GamerSkillService.findTeammates (GET /api/gamers/{id}/matches) for a gamer of the most played game and of a tail game,
+// and the in-memory ranking on its own.
+// Run: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="MatchmakingBenchmark"
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Thread)
+public class MatchmakingBenchmark {
+
+    // The most played game (many candidates) or the least played one
+    @Param({"popular", "tail"})
+    public String game;
+
+    @Param({"10", "100"})
+    public int limit;
+
+    private GamerSkillService gamerSkillService;
+    private GamerSkillIndex gamerSkillIndex;
+    private Long gamerId;
+    private String gameName;
+    private GamerSkillView ownSkill;
+
+    @Setup
+    public void setUp(DirectoryState directory) {
+        gamerSkillService = directory.bean(GamerSkillService.class);
+        gamerSkillIndex = directory.bean(GamerSkillIndex.class);
+        gameName = game.equals("popular") ? "Game 1" : "Game " + DirectoryState.GAMES;
+
+        // Any gamer at the middle level of the game
+        Long gameId = directory.bean(NameIdCache.class).findGame(gameName).orElseThrow().id();
+        List<GamerSkillView> skills = directory.bean(GamerSkillRepository.class)
+            .findByGame_IdAndLevel(gameId, Level.PRO, 0, Limit.of(1));
+        ownSkill = skills.get(0);
+        gamerId = directory.bean(NameIdCache.class).findGamer(ownSkill.gamerName()).orElseThrow().id();
+    }
+
+    @Benchmark
+    public Optional<List<GamerMatch>> findTeammates() {
+        return gamerSkillService.findTeammates(gamerId, gameName, limit);
+    }
+
+    @Benchmark
+    public List<GamerSkillIndex.Match> rankTeammates() {
+        return gamerSkillIndex.rankTeammates(ownSkill.id(), ownSkill.level(), gameName, ownSkill.gamerCountry(), limit);
+    }
+}
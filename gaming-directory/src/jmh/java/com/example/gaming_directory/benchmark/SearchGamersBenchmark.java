@@ -0,0 +1,64 @@
+package com.example.gaming_directory.benchmark;
+
+import com.example.gaming_directory.dto.CursorPage;
+import com.example.gaming_directory.dto.GamerSkillView;
+import com.example.gaming_directory.enums.Level;
+import com.example.gaming_directory.service.GamerSkillService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// GamerSkillService.searchGamers for every filter combination against synthetic datasets of increasing size.
+// Run: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="SearchGamersBenchmark"
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Thread)
+public class SearchGamersBenchmark {
+
+    // Filters given: level (L), game (G), country (C); "-" searches without filters
+    @Param({"-", "L", "G", "C", "LG", "LC", "GC", "LGC"})
+    public String filters;
+
+    // A broad match (most played game, most common country) or a narrow one (tail game, rarest country)
+    @Param({"broad", "narrow"})
+    public String selectivity;
+
+    private GamerSkillService gamerSkillService;
+    private Level level;
+    private String gameName;
+    private String country;
+
+    @Setup
+    public void setUp(DirectoryState directory) {
+        gamerSkillService = directory.bean(GamerSkillService.class);
+        boolean broad = selectivity.equals("broad");
+        level = filters.contains("L") ? (broad ? Level.NOOB : Level.INVINCIBLE) : null;
+        gameName = filters.contains("G") ? (broad ? "Game 1" : "Game " + DirectoryState.GAMES) : null;
+        country = filters.contains("C") ? (broad ? "USA" : "Iceland") : null;
+    }
+
+    // First page of the search
+    @Benchmark
+    public CursorPage<GamerSkillView> searchGamers() {
+        return gamerSkillService.searchGamers(level, gameName, country, null, null, false);
+    }
+
+    // First page of the search with counts per level, game and country for the filters left open
+    @Benchmark
+    public CursorPage<GamerSkillView> searchGamersWithFacets() {
+        return gamerSkillService.searchGamers(level, gameName, country, null, null, true);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.gaming_directory.benchmark;
+
+import com.example.gaming_directory.dto.GamerSkillCount;
+import com.example.gaming_directory.repository.GamerSkillRepository;
+import com.example.gaming_directory.search.GamerSkillStats;
+import com.example.gaming_directory.service.GamerSkillService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// GamerSkillService.getStats (GET /api/stats) for the whole directory, read from the in-memory counters, against the
+// GROUP BY over gamer_skills it replaces (also what getStats runs before the counters are built). H2 would return the
+// cached result of a repeated query on unchanged tables, so result reuse is switched off for a fair comparison.
+// Run: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="StatsBenchmark"
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Thread)
+public class StatsBenchmark {
+
+    private GamerSkillService gamerSkillService;
+    private GamerSkillRepository gamerSkillRepository;
+
+    @Setup
+    public void setUp(DirectoryState directory) {
+        gamerSkillService = directory.bean(GamerSkillService.class);
+        gamerSkillRepository = directory.bean(GamerSkillRepository.class);
+        directory.bean(JdbcTemplate.class).execute("SET OPTIMIZE_REUSE_RESULTS FALSE");
+        if (!directory.bean(GamerSkillStats.class).isReady()) {
+            throw new IllegalStateException("Gamer skill statistics not built");
+        }
+    }
+
+    @Benchmark
+    public List<GamerSkillCount> counters() {
+        return gamerSkillService.getStats(null, null, null);
+    }
+
+    @Benchmark
+    public List<GamerSkillCount> groupBy() {
+        return gamerSkillRepository.countByGameLevelAndCountry();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.gaming_directory.cache;
+
+import com.example.gaming_directory.event.GameCreatedEvent;
+import com.example.gaming_directory.event.GamerCreatedEvent;
+import com.example.gaming_directory.event.GamerSkillChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Version counters for the game and gamer lists, bumped once a change to them is committed. Strong ETags are
+// derived from them, so an unchanged list is answered with 304 from memory. The boot epoch keeps tags of a
+// previous run (or another instance) from matching after the counters restart at zero.
+@Component
+public class CollectionVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong games = new AtomicLong();
+    private final AtomicLong gamers = new AtomicLong();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameCreated(GameCreatedEvent event) {
+        games.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamerCreated(GamerCreatedEvent event) {
+        gamers.incrementAndGet();
+    }
+
+    // Gamer pages list each gamer's games and levels; the game list does not change
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamerSkillChanged(GamerSkillChangedEvent event) {
+        gamers.incrementAndGet();
+    }
+
+    // ETag of the game list as of now (read it before loading the page, so a concurrent change makes it stale, not the page)
+    public String gamesETag() {
+        return eTag("games", games.get());
+    }
+
+    public String gamersETag() {
+        return eTag("gamers", gamers.get());
+    }
+
+    private String eTag(String collection, long version) {
+        return "\"" + collection + "-" + epoch + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.gaming_directory.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+// The canonical country dictionary (countries and country_aliases, see V5): every ISO 3166-1 country once, with its
+// alpha-2 code, one canonical name and the aliases it may be given by ("us", "United States", "USA" -> "USA").
+// Gamers store the 2-byte id of their country (see CountryConverter). The dictionary is reference data, so it is
+// loaded once into immutable maps, and every gamer of a country shares its canonical name instance.
+@Component
+public class CountryDictionary {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}");
+
+    @Autowired
+    private DataSource dataSource;
+
+    // Loaded on first use rather than at startup, so the migrations have run
+    private volatile Countries countries;
+
+    // Canonical name of a country given by name, ISO code or alias in any case, for writes: unknown countries are rejected
+    public String canonicalName(String country) {
+        return findCanonicalName(country).orElseThrow(() -> new IllegalArgumentException("Unknown country '" + country + "'"));
+    }
+
+    public Optional<String> findCanonicalName(String country) {
+        return country == null ? Optional.empty() : Optional.ofNullable(countries().byAlias().get(key(country)));
+    }
+
+    // Stored name of a country given by name, ISO code or alias, for filters: the canonical name, or the exact name of a
+    // country kept from before the dictionary (see V5). Empty when no gamer can have this country.
+    public Optional<String> findName(String country) {
+        if (country == null) {
+            return Optional.empty();
+        }
+        Countries countries = countries();
+        Short id = countries.ids().get(country);
+        return Optional.ofNullable(id != null ? countries.names().get(id) : countries.byAlias().get(key(country)));
+    }
+
+    // Id of a country by stored name (or alias); gamers are only ever saved with a known country
+    public short idOf(String name) {
+        return findId(name).orElseThrow(() -> new IllegalArgumentException("Unknown country '" + name + "'"));
+    }
+
+    // Id of a country by stored name or alias
+    public Optional<Short> findId(String name) {
+        return findName(name).map(countries().ids()::get);
+    }
+
+    // Name of a country id read from the database
+    public String nameOf(short id) {
+        String name = countries().names().get(id);
+        if (name == null) {
+            throw new IllegalStateException("Unknown country id: " + id);
+        }
+        return name;
+    }
+
+    // Lookup key of a country name or alias: trimmed, single spaces, upper case, accents removed ("Côte d'Ivoire" and
+    // "cote  d'ivoire" are the same key). Aliases are stored in this form.
+    public static String key(String country) {
+        String decomposed = Normalizer.normalize(country.trim(), Normalizer.Form.NFD);
+        return WHITESPACE.matcher(ACCENTS.matcher(decomposed).replaceAll("")).replaceAll(" ").toUpperCase(Locale.ROOT);
+    }
+
+    private Countries countries() {
+        Countries loaded = countries;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = countries;
+                if (loaded == null) {
+                    loaded = load();
+                    countries = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private Countries load() {
+        Map<String, Short> ids = new HashMap<>();
+        Map<Short, String> names = new HashMap<>();
+        Map<String, String> byAlias = new HashMap<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            try (ResultSet rows = statement.executeQuery("SELECT id, name FROM countries")) {
+                while (rows.next()) {
+                    String name = rows.getString(2);
+                    ids.put(name, rows.getShort(1));
+                    names.put(rows.getShort(1), name);
+                }
+            }
+            try (ResultSet rows = statement.executeQuery("SELECT alias, country_id FROM country_aliases")) {
+                while (rows.next()) {
+                    byAlias.put(rows.getString(1), names.get(rows.getShort(2)));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not load the country dictionary", e);
+        }
+        return new Countries(Map.copyOf(ids), Map.copyOf(names), Map.copyOf(byAlias));
+    }
+
+    private record Countries(Map<String, Short> ids, Map<Short, String> names, Map<String, String> byAlias) {}
+}
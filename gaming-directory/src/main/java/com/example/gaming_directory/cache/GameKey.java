@@ -0,0 +1,14 @@
+package com.example.gaming_directory.cache;
+
+import com.example.gaming_directory.entity.Game;
+
+// The immutable, cacheable part of a game: enough to reference it from a new gamer skill
+public record GameKey(Long id, String name) {
+
+    // Detached game carrying only the key fields. Hibernate uses its id for foreign keys without loading it.
+    public Game toGame() {
+        Game game = new Game(name);
+        game.setId(id);
+        return game;
+    }
+}
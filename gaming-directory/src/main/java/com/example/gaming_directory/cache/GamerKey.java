@@ -0,0 +1,14 @@
+package com.example.gaming_directory.cache;
+
+import com.example.gaming_directory.entity.Gamer;
+
+// The immutable, cacheable part of a gamer: enough to reference it from a new gamer skill
+public record GamerKey(Long id, String username, String country) {
+
+    // Detached gamer carrying only the key fields. Hibernate uses its id for foreign keys without loading it.
+    public Gamer toGamer() {
+        Gamer gamer = new Gamer(username, country);
+        gamer.setId(id);
+        return gamer;
+    }
+}
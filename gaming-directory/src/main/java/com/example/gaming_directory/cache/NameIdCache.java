@@ -0,0 +1,117 @@
+package com.example.gaming_directory.cache;
+
+import com.example.gaming_directory.entity.NameKey;
+import com.example.gaming_directory.event.GameCreatedEvent;
+import com.example.gaming_directory.event.GamerCreatedEvent;
+import com.example.gaming_directory.repository.GameRepository;
+import com.example.gaming_directory.repository.GamerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Bounded, concurrent cache resolving usernames and game names to ids, so the link write path does not read them from the database.
+// Entries are keyed by the name's NameKey, so "Joey" and "joey" share one entry and one database lookup.
+// Misses are not cached, so a new gamer or game is found as soon as it is committed.
+@Component
+public class NameIdCache {
+
+    @Autowired
+    private GamerRepository gamerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    private final Cache<String, GamerKey> gamers;
+    private final Cache<String, GameKey> games;
+
+    public NameIdCache(
+            @Value("${gaming.cache.name-ids.maximum-size:100000}") long maximumSize,
+            @Value("${gaming.cache.name-ids.expire-after-write:10m}") Duration expireAfterWrite) {
+        // Entries expire as a safety net for changes made outside the application (e.g. the H2 console)
+        this.gamers = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        this.games = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+    }
+
+    // Find gamer key by username in any case, loading it from the database on a miss
+    public Optional<GamerKey> findGamer(String username) {
+        return Optional.ofNullable(gamers.get(NameKey.of(username), key -> gamerRepository.findKeyByUsernameKey(key).orElse(null)));
+    }
+
+    // Find game key by name in any case, loading it from the database on a miss
+    public Optional<GameKey> findGame(String gameName) {
+        return Optional.ofNullable(games.get(NameKey.of(gameName), key -> gameRepository.findKeyByNameKey(key).orElse(null)));
+    }
+
+    // Find gamer keys for many usernames, loading all misses in one query. The map is keyed by the usernames as given;
+    // unknown usernames are left out of it.
+    public Map<String, GamerKey> findGamers(Collection<String> usernames) {
+        return findAll(gamers, usernames, keys -> gamerRepository.findKeysByUsernameKeyIn(keys), GamerKey::username);
+    }
+
+    // Find game keys for many names, loading all misses in one query. The map is keyed by the names as given;
+    // unknown names are left out of it.
+    public Map<String, GameKey> findGames(Collection<String> gameNames) {
+        return findAll(games, gameNames, keys -> gameRepository.findKeysByNameKeyIn(keys), GameKey::name);
+    }
+
+    // Remove a gamer, e.g. when it is renamed or deleted
+    public void evictGamer(String username) {
+        gamers.invalidate(NameKey.of(username));
+    }
+
+    // Remove a game, e.g. when it is renamed or deleted
+    public void evictGame(String gameName) {
+        games.invalidate(NameKey.of(gameName));
+    }
+
+    // Warm the cache with newly created gamers and games once they are committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamerCreated(GamerCreatedEvent event) {
+        gamers.put(NameKey.of(event.getUsername()), new GamerKey(event.getGamerId(), event.getUsername(), event.getCountry()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameCreated(GameCreatedEvent event) {
+        games.put(NameKey.of(event.getName()), new GameKey(event.getGameId(), event.getName()));
+    }
+
+    // Look up many names by their keys, loading all misses with one call to the loader
+    private static <V> Map<String, V> findAll(Cache<String, V> cache, Collection<String> names,
+                                              Function<List<String>, List<V>> loader, Function<V, String> name) {
+        Map<String, String> keys = new HashMap<>();
+        names.forEach(given -> keys.put(given, NameKey.of(given)));
+
+        Map<String, V> found = cache.getAll(keys.values(), missing -> loader.apply(new ArrayList<>(missing)).stream()
+            .collect(Collectors.toMap(value -> NameKey.of(name.apply(value)), Function.identity())));
+
+        Map<String, V> byName = new HashMap<>();
+        keys.forEach((given, key) -> {
+            V value = found.get(key);
+            if (value != null) {
+                byName.put(given, value);
+            }
+        });
+        return byName;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.gaming_directory.config;
+
+import com.example.gaming_directory.enums.ImportFormat;
+import com.example.gaming_directory.service.ImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Command line import: start the application with --gaming.import.file=skills.csv (or .ndjson)
+// to stream the file into the directory at startup. The report is logged by ImportService.
+@Component
+@ConditionalOnProperty(name = "gaming.import.file")
+public class ImportRunner implements CommandLineRunner {
+
+    @Autowired
+    private ImportService importService;
+
+    @Value("${gaming.import.file}")
+    private Path file;
+
+    @Override
+    public void run(String... args) throws Exception {
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+            importService.importRows(input, formatOf(file));
+        }
+    }
+
+    // Format from the file extension
+    static ImportFormat formatOf(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".csv")) {
+            return ImportFormat.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return ImportFormat.NDJSON;
+        }
+        throw new IllegalArgumentException("Unsupported import file: " + file + ". Use a .csv, .ndjson or .jsonl file");
+    }
+}
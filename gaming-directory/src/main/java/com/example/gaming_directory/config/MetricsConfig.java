@@ -0,0 +1,18 @@
+package com.example.gaming_directory.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // Name of the timer recorded for every method of a @Timed service (tagged with class and method)
+    public static final String SERVICE_TIMER = "gaming.service";
+
+    @Bean // Records @Timed methods; Spring Boot itself only times HTTP requests (http.server.requests)
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.gaming_directory.config;
+
+import com.example.gaming_directory.datasource.ReplicaRoutingDataSource;
+import com.example.gaming_directory.web.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+// Primary/replica data sources, active when gaming.datasource.replica.url is set. Read-only transactions
+// (@Transactional(readOnly = true)) use the replica pool, everything else the primary pool configured by
+// spring.datasource.*. The application (JPA, Flyway, JdbcTemplate) sees a single routing DataSource.
+@Configuration
+@ConditionalOnProperty("gaming.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // Same credentials as the primary unless set; pool settings under gaming.datasource.replica.hikari.*
+    @Bean
+    @ConfigurationProperties("gaming.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${gaming.datasource.replica.url}") String url,
+                                              @Value("${gaming.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${gaming.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${gaming.datasource.replica.max-lag:5s}") Duration maxLag) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+            new FilterRegistrationBean<>(new ReadYourWritesFilter(maxLag, Clock.systemUTC()));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.gaming_directory.config;
+
+import com.example.gaming_directory.synthetic.SyntheticDataGenerator;
+import com.example.gaming_directory.synthetic.SyntheticDataProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// Production-sized dataset for capacity and performance testing, generated at startup with the "synthetic" profile:
+// mvn spring-boot:run -Dspring-boot.run.profiles=synthetic. Sizes are set in application-synthetic.properties.
+@Component
+@Profile(SyntheticData.PROFILE)
+@EnableConfigurationProperties(SyntheticDataProperties.class)
+public class SyntheticData implements CommandLineRunner {
+
+    public static final String PROFILE = "synthetic";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private SyntheticDataProperties properties;
+
+    @Override
+    public void run(String... args) {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(dataSource, properties);
+        generator.generate();
+        generator.restartSequences();
+    }
+}
@@ -7,12 +7,23 @@ import com.example.gaming_directory.enums.Level;
 import com.example.gaming_directory.repository.GameRepository;
 import com.example.gaming_directory.repository.GamerRepository;
 import com.example.gaming_directory.repository.GamerSkillRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
+// Small sample directory for local development and the API docs. Saved with saveAll, so the inserts are batched.
+// Not loaded with the "synthetic" profile, which generates a production-sized dataset instead (see SyntheticData).
 @Component
+@Profile("!" + SyntheticData.PROFILE)
 public class TestData implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TestData.class);
     
     @Autowired
     private GamerRepository gamerRepository;
@@ -27,100 +38,104 @@ public class TestData implements CommandLineRunner {
     public void run(String... args) throws Exception {
         
         // Sample gamers with countries
-        Gamer joey = gamerRepository.save(new Gamer("Joey", "USA"));
-        Gamer chandler = gamerRepository.save(new Gamer("Chandler", "USA"));
-        Gamer ross = gamerRepository.save(new Gamer("Ross", "Canada"));
-        Gamer monica = gamerRepository.save(new Gamer("Monica", "UK"));
-        Gamer rachel = gamerRepository.save(new Gamer("Rachel", "France"));
-        Gamer phoebe = gamerRepository.save(new Gamer("Phoebe", "France"));
-        Gamer alice = gamerRepository.save(new Gamer("Alice", "Germany"));
-        Gamer bob = gamerRepository.save(new Gamer("Bob", "Germany"));
-        Gamer charlie = gamerRepository.save(new Gamer("Charlie", "Japan"));
-        Gamer diana = gamerRepository.save(new Gamer("Diana", "Japan"));
-        Gamer eve = gamerRepository.save(new Gamer("Eve", "Brazil"));
-        Gamer frank = gamerRepository.save(new Gamer("Frank", "Brazil"));
-        Gamer grace = gamerRepository.save(new Gamer("Grace", "Australia"));
-        Gamer henry = gamerRepository.save(new Gamer("Henry", "Australia"));
-        Gamer ivy = gamerRepository.save(new Gamer("Ivy", "Sweden"));
-        Gamer jack = gamerRepository.save(new Gamer("Jack", "Sweden"));
-        Gamer kate = gamerRepository.save(new Gamer("Kate", "USA"));
-        Gamer luke = gamerRepository.save(new Gamer("Luke", "UK"));
-        Gamer mary = gamerRepository.save(new Gamer("Mary", "Canada"));
-        Gamer nick = gamerRepository.save(new Gamer("Nick", "France"));
-
-        System.out.println("Sample gamers loaded!");
+        Gamer joey = new Gamer("Joey", "USA");
+        Gamer chandler = new Gamer("Chandler", "USA");
+        Gamer ross = new Gamer("Ross", "Canada");
+        Gamer monica = new Gamer("Monica", "UK");
+        Gamer rachel = new Gamer("Rachel", "France");
+        Gamer phoebe = new Gamer("Phoebe", "France");
+        Gamer alice = new Gamer("Alice", "Germany");
+        Gamer bob = new Gamer("Bob", "Germany");
+        Gamer charlie = new Gamer("Charlie", "Japan");
+        Gamer diana = new Gamer("Diana", "Japan");
+        Gamer eve = new Gamer("Eve", "Brazil");
+        Gamer frank = new Gamer("Frank", "Brazil");
+        Gamer grace = new Gamer("Grace", "Australia");
+        Gamer henry = new Gamer("Henry", "Australia");
+        Gamer ivy = new Gamer("Ivy", "Sweden");
+        Gamer jack = new Gamer("Jack", "Sweden");
+        Gamer kate = new Gamer("Kate", "USA");
+        Gamer luke = new Gamer("Luke", "UK");
+        Gamer mary = new Gamer("Mary", "Canada");
+        Gamer nick = new Gamer("Nick", "France");
+
+        List<Gamer> gamers = List.of(joey, chandler, ross, monica, rachel, phoebe, alice, bob, charlie, diana,
+            eve, frank, grace, henry, ivy, jack, kate, luke, mary, nick);
+        gamerRepository.saveAll(gamers);
 
         // Sample games
-        Game counterStrike = gameRepository.save(new Game("Counter-Strike"));
-        Game diablo = gameRepository.save(new Game("Diablo"));
-        Game fortnite = gameRepository.save(new Game("Fortnite"));
-        Game lol = gameRepository.save(new Game("League of Legends"));
+        Game counterStrike = new Game("Counter-Strike");
+        Game diablo = new Game("Diablo");
+        Game fortnite = new Game("Fortnite");
+        Game lol = new Game("League of Legends");
 
-        System.out.println("Sample games loaded!");
+        List<Game> games = List.of(counterStrike, diablo, fortnite, lol);
+        gameRepository.saveAll(games);
 
         // Sample gamer skills
-        gamerSkillRepository.save(new GamerSkill(joey, counterStrike, Level.NOOB));
-        gamerSkillRepository.save(new GamerSkill(joey, diablo, Level.PRO));
+        List<GamerSkill> skills = new ArrayList<>();
+        skills.add(new GamerSkill(joey, counterStrike, Level.NOOB));
+        skills.add(new GamerSkill(joey, diablo, Level.PRO));
 
-        gamerSkillRepository.save(new GamerSkill(chandler, counterStrike, Level.PRO));
-        gamerSkillRepository.save(new GamerSkill(chandler, fortnite, Level.INVINCIBLE));
+        skills.add(new GamerSkill(chandler, counterStrike, Level.PRO));
+        skills.add(new GamerSkill(chandler, fortnite, Level.INVINCIBLE));
 
-        gamerSkillRepository.save(new GamerSkill(ross, diablo, Level.NOOB));
-        gamerSkillRepository.save(new GamerSkill(ross, lol, Level.PRO));
+        skills.add(new GamerSkill(ross, diablo, Level.NOOB));
+        skills.add(new GamerSkill(ross, lol, Level.PRO));
         
-        gamerSkillRepository.save(new GamerSkill(monica, counterStrike, Level.INVINCIBLE));
-        gamerSkillRepository.save(new GamerSkill(monica, diablo, Level.PRO));
+        skills.add(new GamerSkill(monica, counterStrike, Level.INVINCIBLE));
+        skills.add(new GamerSkill(monica, diablo, Level.PRO));
 
-        gamerSkillRepository.save(new GamerSkill(rachel, fortnite, Level.NOOB));
-        gamerSkillRepository.save(new GamerSkill(rachel, lol, Level.INVINCIBLE));
+        skills.add(new GamerSkill(rachel, fortnite, Level.NOOB));
+        skills.add(new GamerSkill(rachel, lol, Level.INVINCIBLE));
 
-        gamerSkillRepository.save(new GamerSkill(phoebe, diablo, Level.INVINCIBLE));
-        gamerSkillRepository.save(new GamerSkill(phoebe, lol, Level.NOOB));
+        skills.add(new GamerSkill(phoebe, diablo, Level.INVINCIBLE));
+        skills.add(new GamerSkill(phoebe, lol, Level.NOOB));
         
-        gamerSkillRepository.save(new GamerSkill(alice, counterStrike, Level.PRO));
-        gamerSkillRepository.save(new GamerSkill(alice, diablo, Level.INVINCIBLE));
+        skills.add(new GamerSkill(alice, counterStrike, Level.PRO));
+        skills.add(new GamerSkill(alice, diablo, Level.INVINCIBLE));
 
-        gamerSkillRepository.save(new GamerSkill(bob, counterStrike, Level.PRO));
-        gamerSkillRepository.save(new GamerSkill(bob, diablo, Level.NOOB));
+        skills.add(new GamerSkill(bob, counterStrike, Level.PRO));
+        skills.add(new GamerSkill(bob, diablo, Level.NOOB));
 
-        gamerSkillRepository.save(new GamerSkill(charlie, lol, Level.INVINCIBLE));
-        gamerSkillRepository.save(new GamerSkill(charlie, diablo, Level.PRO));
+        skills.add(new GamerSkill(charlie, lol, Level.INVINCIBLE));
+        skills.add(new GamerSkill(charlie, diablo, Level.PRO));
 
-        gamerSkillRepository.save(new GamerSkill(diana, lol, Level.INVINCIBLE));
-        gamerSkillRepository.save(new GamerSkill(diana, fortnite, Level.NOOB));
+        skills.add(new GamerSkill(diana, lol, Level.INVINCIBLE));
+        skills.add(new GamerSkill(diana, fortnite, Level.NOOB));
 
-        gamerSkillRepository.save(new GamerSkill(eve, diablo, Level.INVINCIBLE));
-        gamerSkillRepository.save(new GamerSkill(eve, fortnite, Level.PRO));
+        skills.add(new GamerSkill(eve, diablo, Level.INVINCIBLE));
+        skills.add(new GamerSkill(eve, fortnite, Level.PRO));
 
-        gamerSkillRepository.save(new GamerSkill(frank, diablo, Level.INVINCIBLE));
-        gamerSkillRepository.save(new GamerSkill(frank, counterStrike, Level.NOOB));
+        skills.add(new GamerSkill(frank, diablo, Level.INVINCIBLE));
+        skills.add(new GamerSkill(frank, counterStrike, Level.NOOB));
 
-        gamerSkillRepository.save(new GamerSkill(grace, diablo, Level.PRO));
-        gamerSkillRepository.save(new GamerSkill(grace, lol, Level.NOOB));
+        skills.add(new GamerSkill(grace, diablo, Level.PRO));
+        skills.add(new GamerSkill(grace, lol, Level.NOOB));
 
-        gamerSkillRepository.save(new GamerSkill(henry, lol, Level.PRO));
-        gamerSkillRepository.save(new GamerSkill(henry, diablo, Level.INVINCIBLE));
+        skills.add(new GamerSkill(henry, lol, Level.PRO));
+        skills.add(new GamerSkill(henry, diablo, Level.INVINCIBLE));
 
-        gamerSkillRepository.save(new GamerSkill(ivy, counterStrike, Level.INVINCIBLE));
-        gamerSkillRepository.save(new GamerSkill(ivy, diablo, Level.NOOB));
+        skills.add(new GamerSkill(ivy, counterStrike, Level.INVINCIBLE));
+        skills.add(new GamerSkill(ivy, diablo, Level.NOOB));
 
-        gamerSkillRepository.save(new GamerSkill(jack, counterStrike, Level.INVINCIBLE));
-        gamerSkillRepository.save(new GamerSkill(jack, lol, Level.PRO));
+        skills.add(new GamerSkill(jack, counterStrike, Level.INVINCIBLE));
+        skills.add(new GamerSkill(jack, lol, Level.PRO));
 
-        gamerSkillRepository.save(new GamerSkill(kate, fortnite, Level.PRO));
-        gamerSkillRepository.save(new GamerSkill(kate, lol, Level.NOOB));
+        skills.add(new GamerSkill(kate, fortnite, Level.PRO));
+        skills.add(new GamerSkill(kate, lol, Level.NOOB));
 
-        gamerSkillRepository.save(new GamerSkill(luke, diablo, Level.PRO));
-        gamerSkillRepository.save(new GamerSkill(luke, counterStrike, Level.NOOB));
+        skills.add(new GamerSkill(luke, diablo, Level.PRO));
+        skills.add(new GamerSkill(luke, counterStrike, Level.NOOB));
 
-        gamerSkillRepository.save(new GamerSkill(mary, lol, Level.PRO));
-        gamerSkillRepository.save(new GamerSkill(mary, diablo, Level.INVINCIBLE));
+        skills.add(new GamerSkill(mary, lol, Level.PRO));
+        skills.add(new GamerSkill(mary, diablo, Level.INVINCIBLE));
 
-        gamerSkillRepository.save(new GamerSkill(nick, diablo, Level.NOOB));
-        gamerSkillRepository.save(new GamerSkill(nick, fortnite, Level.INVINCIBLE));
+        skills.add(new GamerSkill(nick, diablo, Level.NOOB));
+        skills.add(new GamerSkill(nick, fortnite, Level.INVINCIBLE));
 
-        System.out.println("Sample gamer skills loaded!");
-        System.out.println("All test data loaded successfully!");
-    
+        gamerSkillRepository.saveAll(skills);
+
+        log.info("Sample data loaded: {} gamers, {} games, {} gamer skills", gamers.size(), games.size(), skills.size());
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.example.gaming_directory.config;
+
+import com.example.gaming_directory.web.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// Virtual-thread execution mode, switched on with spring.threads.virtual.enabled=true. Spring Boot then runs Tomcat
+// requests, the MVC async executor (streaming exports) and @Async/scheduled work on virtual threads. This config adds
+// the limit that the platform thread pool used to provide implicitly: API requests are capped at the size of the
+// connection pool, so blocked virtual threads wait in front of the pool instead of inside it.
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${gaming.web.concurrency-limit.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${gaming.web.concurrency-limit.acquire-timeout:5s}") Duration acquireTimeout,
+            MeterRegistry registry) {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(maxConcurrent, acquireTimeout);
+        Gauge.builder("gaming.web.concurrency.active", filter, ConcurrencyLimitFilter::getActiveRequests)
+            .description("API requests being processed")
+            .register(registry);
+        Gauge.builder("gaming.web.concurrency.limit", filter, ConcurrencyLimitFilter::getMaxConcurrent)
+            .description("Maximum API requests processed at once")
+            .register(registry);
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
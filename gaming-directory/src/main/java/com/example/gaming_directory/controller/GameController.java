@@ -1,15 +1,21 @@
 package com.example.gaming_directory.controller;
 
+import com.example.gaming_directory.cache.CollectionVersions;
+import com.example.gaming_directory.dto.CursorPage;
 import com.example.gaming_directory.dto.GameDTO;
+import com.example.gaming_directory.dto.GameMatch;
 import com.example.gaming_directory.entity.Game;
 import com.example.gaming_directory.service.GameService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,12 +28,28 @@ public class GameController {
     @Autowired
     private GameService gameService;
 
-    // Endpoint to get all games
-    @Operation(summary = "Get all games")
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    // Endpoint to get all games, one page at a time
+    @Operation(summary = "Get all games", description = "Cursor paginated: pass nextCursor from the previous page as 'after'")
     @GetMapping
-    public ResponseEntity<List<Game>> getAllGames() {
-        List<Game> games = gameService.getAllGames();
-        return ResponseEntity.ok(games);
+    public ResponseEntity<CursorPage<Game>> getAllGames(
+            @Parameter(description = "Cursor from the previous page (optional)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (optional, max " + CursorPage.MAX_LIMIT + ")") @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        // Malformed paging is a 400 even when the collection is unchanged, so it is checked before the ETag
+        CursorPage.resolveAfter(after);
+        CursorPage.resolveLimit(limit);
+
+        // Unchanged since the client's copy: 304 without a query or serialization
+        String eTag = collectionVersions.gamesETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        CursorPage<Game> games = gameService.getGames(after, limit);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(games);
     }
     
     // Endpoint to create a new game
@@ -39,6 +61,17 @@ public class GameController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedGame);
     }
     
+    // Endpoint to find games by approximate name
+    @Operation(summary = "Search games by name", description = "Typo tolerant: ranked by trigram similarity of the names, or by how much of the query a longer name contains")
+    @GetMapping("/search")
+    public ResponseEntity<List<GameMatch>> searchGames(
+            @Parameter(description = "Game name or part of it, e.g. 'counter strike' or 'league'") @RequestParam String q,
+            @Parameter(description = "Maximum number of games (optional, default " + GameService.DEFAULT_SEARCH_LIMIT
+                + ", max " + GameService.MAX_SEARCH_LIMIT + ")") @RequestParam(required = false) Integer limit) {
+
+        return ResponseEntity.ok(gameService.searchGames(q, limit));
+    }
+
     // Endpoint to check if a game exists by name
     @Operation(summary = "Get game by ID")
     @GetMapping("/{id}")
@@ -1,15 +1,22 @@
 package com.example.gaming_directory.controller;
 
+import com.example.gaming_directory.cache.CollectionVersions;
+import com.example.gaming_directory.dto.CursorPage;
 import com.example.gaming_directory.dto.GamerDTO;
+import com.example.gaming_directory.dto.GamerMatch;
 import com.example.gaming_directory.entity.Gamer;
 import com.example.gaming_directory.service.GamerService;
+import com.example.gaming_directory.service.GamerSkillService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,13 +28,32 @@ public class GamerController {
     
     @Autowired
     private GamerService gamerService;
+
+    @Autowired
+    private GamerSkillService gamerSkillService;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
     
-    // Endpoint to get all gamers
-    @Operation(summary = "Get all gamers")
+    // Endpoint to get all gamers, one page at a time
+    @Operation(summary = "Get all gamers", description = "Cursor paginated: pass nextCursor from the previous page as 'after'")
     @GetMapping
-    public ResponseEntity<List<Gamer>> getAllGamers() {
-        List<Gamer> gamers = gamerService.getAllGamers();
-        return ResponseEntity.ok(gamers);
+    public ResponseEntity<CursorPage<Gamer>> getAllGamers(
+            @Parameter(description = "Cursor from the previous page (optional)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (optional, max " + CursorPage.MAX_LIMIT + ")") @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        // Malformed paging is a 400 even when the collection is unchanged, so it is checked before the ETag
+        CursorPage.resolveAfter(after);
+        CursorPage.resolveLimit(limit);
+
+        // Unchanged since the client's copy: 304 without a query or serialization
+        String eTag = collectionVersions.gamersETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        CursorPage<Gamer> gamers = gamerService.getGamers(after, limit);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(gamers);
     }
 
     // Endpoint to create a new gamer
@@ -43,6 +69,17 @@ public class GamerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedGamer);
     }
     
+    // Endpoint for username type-ahead
+    @Operation(summary = "Autocomplete usernames", description = "Usernames starting with the prefix, ignoring case, in alphabetical order")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<String>> autocomplete(
+            @Parameter(description = "Start of the username") @RequestParam String prefix,
+            @Parameter(description = "Maximum number of usernames (optional, default " + GamerService.DEFAULT_COMPLETION_LIMIT
+                + ", max " + GamerService.MAX_COMPLETION_LIMIT + ")") @RequestParam(required = false) Integer limit) {
+
+        return ResponseEntity.ok(gamerService.autocomplete(prefix, limit));
+    }
+
     // Endpoint to check if a gamer exists by username
     @Operation(summary = "Get gamer by ID")
     @GetMapping("/{id}") 
@@ -54,4 +91,21 @@ public class GamerController {
         return gamer.map(ResponseEntity::ok)
                    .orElse(ResponseEntity.notFound().build());
     }
-}
\ No newline at end of file
+
+    // Endpoint to rank teammates for a gamer in one of their games
+    @Operation(summary = "Find teammates for a gamer",
+        description = "Gamers of the same game ranked by closest level, then same country, same region, anywhere")
+    @GetMapping("/{id}/matches")
+    public ResponseEntity<List<GamerMatch>> getMatches(
+            @PathVariable Long id,
+            @Parameter(description = "Game to find teammates for") @RequestParam String game,
+            @Parameter(description = "Number of teammates (optional, default " + GamerSkillService.DEFAULT_MATCH_LIMIT
+                + ", max " + GamerSkillService.MAX_MATCH_LIMIT + ")") @RequestParam(required = false) Integer limit) {
+
+        Optional<List<GamerMatch>> matches = gamerSkillService.findTeammates(id, game, limit);
+
+        // For 404 cases
+        return matches.map(ResponseEntity::ok)
+                   .orElse(ResponseEntity.notFound().build());
+    }
+}
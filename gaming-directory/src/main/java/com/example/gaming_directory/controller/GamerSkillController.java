@@ -1,9 +1,19 @@
 package com.example.gaming_directory.controller;
 
+import com.example.gaming_directory.datasource.ReadYourWrites;
+import com.example.gaming_directory.dto.CursorPage;
+import com.example.gaming_directory.dto.GamerSkillBatchResult;
 import com.example.gaming_directory.dto.GamerSkillDTO;
+import com.example.gaming_directory.dto.GamerSkillOperation;
+import com.example.gaming_directory.dto.GamerSkillView;
 import com.example.gaming_directory.entity.GamerSkill;
 import com.example.gaming_directory.enums.Level;
 import com.example.gaming_directory.service.GamerSkillService;
+import com.example.gaming_directory.service.GamerSkillWriteBehind;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,11 +21,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/gamer-skills")
@@ -25,15 +42,41 @@ public class GamerSkillController {
     @Autowired
     private GamerSkillService gamerSkillService;
 
+    @Autowired
+    private GamerSkillWriteBehind gamerSkillWriteBehind;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // Endpoint to link a gamer to a game with a skill level
-    @Operation(summary = "Link gamer to game", description = "Create or update a gamer's skill level for a specific game")
+    @Operation(summary = "Link gamer to game", description = "Create or update a gamer's skill level for a specific game. In write-behind mode the link is queued and an operation to poll is returned")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Gamer linked to game successfully"),
+        @ApiResponse(responseCode = "202", description = "Link queued (write-behind mode), see the operation"),
         @ApiResponse(responseCode = "400", description = "Invalid input data"),
-        @ApiResponse(responseCode = "404", description = "Gamer or game not found")
+        @ApiResponse(responseCode = "404", description = "Gamer or game not found"),
+        @ApiResponse(responseCode = "503", description = "Write queue full (write-behind mode), retry after the Retry-After delay")
     })
     @PostMapping
-    public ResponseEntity<GamerSkill> linkGamerToGame(@Valid @RequestBody GamerSkillDTO gamerSkillDTO) {
+    public ResponseEntity<?> linkGamerToGame(@Valid @RequestBody GamerSkillDTO gamerSkillDTO) {
+
+        if (gamerSkillWriteBehind.isEnabled()) {
+            Optional<GamerSkillOperation> operation = gamerSkillWriteBehind.submit(
+                gamerSkillDTO.getUsername(),
+                gamerSkillDTO.getGameName(),
+                gamerSkillDTO.getLevel()
+            );
+
+            // Back-pressure: the queue stayed full, so the client has to slow down
+            if (operation.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Too many pending links, try again later");
+            }
+            return ResponseEntity.accepted()
+                .location(URI.create("/api/gamer-skills/operations/" + operation.get().getOperationId()))
+                .body(operation.get());
+        }
 
         GamerSkill savedGamerSkill = gamerSkillService.linkGamerToGame(
             gamerSkillDTO.getUsername(),
@@ -44,22 +87,48 @@ public class GamerSkillController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedGamerSkill);
     }
     
+    // Endpoint to link many gamers to games in one request (e.g. a whole tournament)
+    @Operation(summary = "Link gamers to games in bulk", description = "Create or update up to " + GamerSkillService.MAX_BATCH_SIZE + " gamer skills in one transaction. Every entry gets a result in request order; invalid entries are reported as FAILED without affecting the others")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed, see the status of each entry"),
+        @ApiResponse(responseCode = "400", description = "Empty or too large batch")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<GamerSkillBatchResult>> linkGamersToGames(@RequestBody List<GamerSkillDTO> entries) {
+        return ResponseEntity.ok(gamerSkillService.linkGamersToGames(entries));
+    }
+    
+    // Endpoint to poll a link accepted in write-behind mode
+    @Operation(summary = "Get link operation", description = "State of a link accepted in write-behind mode: PENDING until written, then CREATED, UPDATED or FAILED. Kept for a limited time after it was accepted or written")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Operation found"),
+        @ApiResponse(responseCode = "404", description = "Unknown or expired operation")
+    })
+    @GetMapping("/operations/{operationId}")
+    public ResponseEntity<GamerSkillOperation> getOperation(@PathVariable String operationId) {
+        return gamerSkillWriteBehind.findOperation(operationId)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
     // Endpoint to get gamers by level and game name
-    @Operation(summary = "Get gamers by level and game", description = "Retrieve gamers at a specific level for a specific game")
+    @Operation(summary = "Get gamers by level and game", description = "Retrieve gamers at a specific level for a specific game, cursor paginated")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved gamers"),
         @ApiResponse(responseCode = "400", description = "Invalid input parameters"),
         @ApiResponse(responseCode = "404", description = "No gamers found matching the criteria")
     })
     @GetMapping("/by-level")
-    public ResponseEntity<List<GamerSkill>> getGamersByLevelAndGame(
+    public ResponseEntity<CursorPage<GamerSkillView>> getGamersByLevelAndGame(
             @Parameter(description = "Game name") @RequestParam String gameName,
-            @Parameter(description = "Skill level") @RequestParam Level level) {
+            @Parameter(description = "Skill level") @RequestParam Level level,
+            @Parameter(description = "Cursor from the previous page (optional)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (optional, max " + CursorPage.MAX_LIMIT + ")") @RequestParam(required = false) Integer limit) {
         
-        List<GamerSkill> gamerSkills = gamerSkillService.getGamersByLevelAndGame(gameName, level);
+        CursorPage<GamerSkillView> gamerSkills = gamerSkillService.getGamersByLevelAndGame(gameName, level, after, limit);
 
         // For empty results return 404
-        if (gamerSkills.isEmpty()) {
+        if (gamerSkills.getItems().isEmpty()) {
             return ResponseEntity.notFound().build();
         }
         
@@ -67,24 +136,79 @@ public class GamerSkillController {
     }
     
     // Endpoint to search gamers based on level, game name, and geography
-    @Operation(summary = "Search gamers for matching", description = "Search gamers based on level, game name, and geography")
+    @Operation(summary = "Search gamers for matching", description = "Search gamers based on level, game name, and geography, cursor paginated. With facets=true the page also counts all matches per level, game and country for the filters left open")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved matching gamers"),
         @ApiResponse(responseCode = "404", description = "No gamers found matching the criteria")
     })
-    @GetMapping("/search")
-    public ResponseEntity<List<GamerSkill>> searchGamers(
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CursorPage<GamerSkillView>> searchGamers(
             @Parameter(description = "Skill level (optional)") @RequestParam(required = false) Level level,
             @Parameter(description = "Game name (optional)") @RequestParam(required = false) String gameName,
-            @Parameter(description = "Country (optional)") @RequestParam(required = false) String country) {
+            @Parameter(description = "Country (optional)") @RequestParam(required = false) String country,
+            @Parameter(description = "Cursor from the previous page (optional)") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size (optional, max " + CursorPage.MAX_LIMIT + ")") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Also count matches per level, game and country (optional)") @RequestParam(defaultValue = "false") boolean facets) {
         
-        List<GamerSkill> matchingGamers = gamerSkillService.searchGamers(level, gameName, country);
+        CursorPage<GamerSkillView> matchingGamers = gamerSkillService.searchGamers(level, gameName, country, after, limit, facets);
         
         // For empty results return 404
-        if (matchingGamers.isEmpty()) {
+        if (matchingGamers.getItems().isEmpty()) {
             return ResponseEntity.notFound().build();
         }
         
         return ResponseEntity.ok(matchingGamers);
     }
-}
\ No newline at end of file
+
+    // Endpoint to stream every matching gamer as newline-delimited JSON (one gamer skill per line, no pagination)
+    @Operation(summary = "Stream search results as NDJSON", description = "Same filters as the search, every match streamed as one JSON object per line. Request with Accept: application/x-ndjson")
+    @ApiResponse(responseCode = "200", description = "Matching gamers streamed")
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSearchGamers(
+            @Parameter(description = "Skill level (optional)") @RequestParam(required = false) Level level,
+            @Parameter(description = "Game name (optional)") @RequestParam(required = false) String gameName,
+            @Parameter(description = "Country (optional)") @RequestParam(required = false) String country) {
+
+        return ndjson(level, gameName, country);
+    }
+
+    // Endpoint to export the whole directory as newline-delimited JSON
+    @Operation(summary = "Export all gamer skills as NDJSON", description = "Every gamer skill in the directory, streamed as one JSON object per line")
+    @ApiResponse(responseCode = "200", description = "Directory streamed")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportGamerSkills() {
+        return ndjson(null, null, null);
+    }
+
+    // Write each row as soon as it is read, so neither the server nor the response buffers the full result
+    private ResponseEntity<StreamingResponseBody> ndjson(Level level, String gameName, String country) {
+        // Let the response buffer decide when to flush instead of flushing after every row
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        // The body is written on an async thread, which does not see the request thread's read-your-writes switch
+        boolean readYourWrites = ReadYourWrites.isActive();
+
+        StreamingResponseBody body = outputStream -> {
+            if (readYourWrites) {
+                ReadYourWrites.activate();
+            }
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+                generator.setRootValueSeparator(null); // lines are separated by '\n' below, not the default space
+                gamerSkillService.streamGamers(level, gameName, country, gamerSkill -> {
+                    try {
+                        writer.writeValue(generator, gamerSkill);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } finally {
+                ReadYourWrites.clear();
+            }
+        };
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+}
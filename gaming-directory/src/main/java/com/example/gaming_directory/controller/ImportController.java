@@ -0,0 +1,42 @@
+package com.example.gaming_directory.controller;
+
+import com.example.gaming_directory.dto.ImportReport;
+import com.example.gaming_directory.enums.ImportFormat;
+import com.example.gaming_directory.service.ImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/import")
+@Tag(name = "Bulk Import", description = "Stream gamers, games and skills into the directory")
+public class ImportController {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    @Autowired
+    private ImportService importService;
+
+    // Endpoint to import a CSV file with a header row: username,country,gameName,level (gameName and level optional)
+    @Operation(summary = "Import CSV", description = "Header row required: username,country,gameName,level. The body is read as a stream and written in chunks")
+    @ApiResponse(responseCode = "200", description = "Import report with counts, throughput and the first rejected rows")
+    @PostMapping(consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<ImportReport> importCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(importService.importRows(body, ImportFormat.CSV));
+    }
+
+    // Endpoint to import newline-delimited JSON, one {"username", "country", "gameName", "level"} object per line
+    @Operation(summary = "Import NDJSON", description = "One JSON object per line with username, country and optionally gameName and level. The body is read as a stream and written in chunks")
+    @ApiResponse(responseCode = "200", description = "Import report with counts, throughput and the first rejected rows")
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportReport> importNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(importService.importRows(body, ImportFormat.NDJSON));
+    }
+}
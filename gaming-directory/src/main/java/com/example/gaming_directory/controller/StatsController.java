@@ -0,0 +1,35 @@
+package com.example.gaming_directory.controller;
+
+import com.example.gaming_directory.dto.GamerSkillCount;
+import com.example.gaming_directory.enums.Level;
+import com.example.gaming_directory.service.GamerSkillService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/stats")
+@Tag(name = "Directory Statistics", description = "Players per game, level and country")
+public class StatsController {
+
+    @Autowired
+    private GamerSkillService gamerSkillService;
+
+    // Endpoint to count players per game, level and country, e.g. for dashboards
+    @Operation(summary = "Get directory statistics", description = "Number of players per game, level and country, ordered by game, level and country. Filters as in the search, all optional")
+    @ApiResponse(responseCode = "200", description = "One row per game, level and country with at least one player")
+    @GetMapping
+    public ResponseEntity<List<GamerSkillCount>> getStats(
+            @Parameter(description = "Skill level (optional)") @RequestParam(required = false) Level level,
+            @Parameter(description = "Game name (optional)") @RequestParam(required = false) String gameName,
+            @Parameter(description = "Country (optional)") @RequestParam(required = false) String country) {
+
+        return ResponseEntity.ok(gamerSkillService.getStats(level, gameName, country));
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.gaming_directory.datasource;
+
+// Per-thread switch that routes read-only transactions to the primary, for a client that has to see a write it just
+// made before the replica has caught up (set by ReadYourWritesFilter).
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private ReadYourWrites() {}
+
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+
+    public static void activate() {
+        ACTIVE.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        ACTIVE.remove();
+    }
+}
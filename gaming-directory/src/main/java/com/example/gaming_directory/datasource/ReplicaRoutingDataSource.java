@@ -0,0 +1,35 @@
+package com.example.gaming_directory.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// Sends read-only transactions to the replica pool and everything else (writes, non-transactional work, and reads of
+// a client that asked to read its own writes) to the primary. Must be wrapped in a LazyConnectionDataSourceProxy:
+// the transaction manager opens the connection before the transaction is marked read-only, the proxy only picks the
+// real pool at the first statement.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    // The pool the current thread's next connection comes from
+    public static Route currentRoute() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReadYourWrites.isActive()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
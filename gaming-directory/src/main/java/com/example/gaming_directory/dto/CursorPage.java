@@ -0,0 +1,97 @@
+package com.example.gaming_directory.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.function.Function;
+
+// One page of a keyset (cursor) paginated list. Pass nextCursor as "after" to get the next page.
+public class CursorPage<T> {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private List<T> items;
+
+    // Id of the last item on this page, null when there are no more pages
+    private Long nextCursor;
+
+    private int limit;
+
+    // Counts over all matches (not just this page) when a search asked for them
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private SearchFacets facets;
+
+    // Constructors
+    public CursorPage() {}
+
+    public CursorPage(List<T> items, Long nextCursor, int limit) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    // Resolve the requested page size: default when missing, capped at MAX_LIMIT
+    public static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Invalid limit. Limit must be a positive number");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    // Resolve the cursor: start from the beginning when missing
+    public static long resolveAfter(Long after) {
+        if (after == null) {
+            return 0L;
+        }
+        if (after < 0) {
+            throw new IllegalArgumentException("Invalid cursor. Cursor must not be negative");
+        }
+        return after;
+    }
+
+    // Build a page from rows fetched with limit + 1; the extra row only tells us that a next page exists
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, Long> idOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null, limit);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(items, idOf.apply(items.get(limit - 1)), limit);
+    }
+
+    // Get and Set
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public SearchFacets getFacets() {
+        return facets;
+    }
+
+    public void setFacets(SearchFacets facets) {
+        this.facets = facets;
+    }
+}
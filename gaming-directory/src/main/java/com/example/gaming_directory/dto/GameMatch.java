@@ -0,0 +1,13 @@
+package com.example.gaming_directory.dto;
+
+import com.example.gaming_directory.search.GameNameIndex;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+// A game found by name search. Score 0-1: 1 for the same name, lower the less alike the names are.
+@JsonPropertyOrder({"id", "name", "score"})
+public record GameMatch(Long id, String name, double score) {
+
+    public static GameMatch of(GameNameIndex.Match match) {
+        return new GameMatch(match.id(), match.name(), Math.round(match.score() * 1000) / 1000.0);
+    }
+}
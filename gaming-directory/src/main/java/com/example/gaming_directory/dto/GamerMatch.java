@@ -0,0 +1,14 @@
+package com.example.gaming_directory.dto;
+
+import com.example.gaming_directory.enums.Level;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+// A ranked teammate candidate for a gamer in one game. Score 0-8: three points per level of closeness,
+// plus 2 for the same country or 1 for a country in the same region.
+@JsonPropertyOrder({"skillId", "gamerName", "gamerCountry", "level", "score"})
+public record GamerMatch(Long skillId, String gamerName, String gamerCountry, Level level, int score) {
+
+    public static GamerMatch of(GamerSkillView skill, int score) {
+        return new GamerMatch(skill.id(), skill.gamerName(), skill.gamerCountry(), skill.level(), score);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.gaming_directory.dto;
+
+import com.example.gaming_directory.enums.Level;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Outcome of one entry of a batch link request, reported in the same order as the request
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GamerSkillBatchResult {
+
+    public enum Status {
+        CREATED, UPDATED, FAILED
+    }
+
+    private int index;
+    private String username;
+    private String gameName;
+    private Level level;
+    private Status status;
+    private Long skillId;
+    private String error;
+
+    // Constructors
+    public GamerSkillBatchResult() {}
+
+    public GamerSkillBatchResult(int index, GamerSkillDTO entry) {
+        this.index = index;
+        if (entry != null) {
+            this.username = entry.getUsername();
+            this.gameName = entry.getGameName();
+            this.level = entry.getLevel();
+        }
+    }
+
+    public static GamerSkillBatchResult failed(int index, GamerSkillDTO entry, String error) {
+        GamerSkillBatchResult result = new GamerSkillBatchResult(index, entry);
+        result.setStatus(Status.FAILED);
+        result.setError(error);
+        return result;
+    }
+
+    // Get and Set
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getGameName() {
+        return gameName;
+    }
+
+    public void setGameName(String gameName) {
+        this.gameName = gameName;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public void setLevel(Level level) {
+        this.level = level;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getSkillId() {
+        return skillId;
+    }
+
+    public void setSkillId(Long skillId) {
+        this.skillId = skillId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.gaming_directory.dto;
+
+import com.example.gaming_directory.enums.Level;
+
+// Number of players of a game at a level in a country, one row of the directory statistics
+public record GamerSkillCount(String gameName, Level level, String country, long players) {}
@@ -0,0 +1,98 @@
+package com.example.gaming_directory.dto;
+
+import com.example.gaming_directory.enums.Level;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// A link accepted in write-behind mode: PENDING until the background writer has written it, then the outcome
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GamerSkillOperation {
+
+    public enum Status {
+        PENDING, CREATED, UPDATED, FAILED
+    }
+
+    private String operationId;
+    private String username;
+    private String gameName;
+    private Level level;
+    private Status status;
+    private Long skillId;
+    private String error;
+
+    // Constructors
+    public GamerSkillOperation() {}
+
+    public GamerSkillOperation(String operationId, String username, String gameName, Level level) {
+        this.operationId = operationId;
+        this.username = username;
+        this.gameName = gameName;
+        this.level = level;
+        this.status = Status.PENDING;
+    }
+
+    // Copy with the outcome of the write; operations are replaced rather than changed, so readers never see half of it
+    public GamerSkillOperation completed(Status status, Long skillId, String error) {
+        GamerSkillOperation completed = new GamerSkillOperation(operationId, username, gameName, level);
+        completed.setStatus(status);
+        completed.setSkillId(skillId);
+        completed.setError(error);
+        return completed;
+    }
+
+    // Get and Set
+    public String getOperationId() {
+        return operationId;
+    }
+
+    public void setOperationId(String operationId) {
+        this.operationId = operationId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getGameName() {
+        return gameName;
+    }
+
+    public void setGameName(String gameName) {
+        this.gameName = gameName;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public void setLevel(Level level) {
+        this.level = level;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Long getSkillId() {
+        return skillId;
+    }
+
+    public void setSkillId(Long skillId) {
+        this.skillId = skillId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.gaming_directory.dto;
+
+import com.example.gaming_directory.entity.GamerSkill;
+import com.example.gaming_directory.enums.Level;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+// Flat, read-only row of a gamer skill for the search and by-level pages, selected with a constructor expression
+// in one join. Serializes exactly like a GamerSkill entity, without loading entities into the persistence context.
+@JsonPropertyOrder({"id", "level", "gameName", "gamerName", "gamerCountry", "skillLevel"})
+public record GamerSkillView(Long id, Level level, String gamerName, String gamerCountry, String gameName) {
+
+    public static GamerSkillView of(GamerSkill gamerSkill) {
+        return new GamerSkillView(gamerSkill.getId(), gamerSkill.getLevel(), gamerSkill.getGamerName(),
+            gamerSkill.getGamerCountry(), gamerSkill.getGameName());
+    }
+
+    @JsonProperty("skillLevel")
+    public String skillLevel() {
+        return level.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.gaming_directory.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Progress and outcome of a bulk import
+public class ImportReport {
+
+    // Only the first rejected rows are listed, so the report stays small for any input size
+    public static final int MAX_ERRORS = 100;
+
+    private boolean completed;
+    private long rowsRead;
+    private long rowsRejected;
+    private long gamersCreated;
+    private long gamesCreated;
+    private long skillsCreated;
+    private long skillsUpdated;
+    private long chunks;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+    private List<String> errors = new ArrayList<>();
+
+    // Record a row that was not imported
+    public void reject(long row, String error) {
+        rowsRejected++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add("Row " + row + ": " + error);
+        }
+    }
+
+    // Stop the report clock; completed is false when the import was aborted
+    public void finish(long elapsedNanos, boolean completed) {
+        this.completed = completed;
+        this.elapsedMillis = elapsedNanos / 1_000_000;
+        this.rowsPerSecond = elapsedNanos > 0 ? rowsRead * 1_000_000_000L / elapsedNanos : rowsRead;
+    }
+
+    // Get and Set
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public void setRowsRead(long rowsRead) {
+        this.rowsRead = rowsRead;
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    public void setRowsRejected(long rowsRejected) {
+        this.rowsRejected = rowsRejected;
+    }
+
+    public long getGamersCreated() {
+        return gamersCreated;
+    }
+
+    public void setGamersCreated(long gamersCreated) {
+        this.gamersCreated = gamersCreated;
+    }
+
+    public long getGamesCreated() {
+        return gamesCreated;
+    }
+
+    public void setGamesCreated(long gamesCreated) {
+        this.gamesCreated = gamesCreated;
+    }
+
+    public long getSkillsCreated() {
+        return skillsCreated;
+    }
+
+    public void setSkillsCreated(long skillsCreated) {
+        this.skillsCreated = skillsCreated;
+    }
+
+    public long getSkillsUpdated() {
+        return skillsUpdated;
+    }
+
+    public void setSkillsUpdated(long skillsUpdated) {
+        this.skillsUpdated = skillsUpdated;
+    }
+
+    public long getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(long chunks) {
+        this.chunks = chunks;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(long rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
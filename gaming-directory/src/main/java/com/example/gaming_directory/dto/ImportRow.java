@@ -0,0 +1,69 @@
+package com.example.gaming_directory.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+// One row of a bulk import: a gamer, optionally with a skill level in a game.
+// Level is kept as text so a bad value rejects the row instead of failing the parser.
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonPropertyOrder({"username", "country", "gameName", "level"})
+public class ImportRow {
+
+    @NotBlank(message = "Username is required")
+    @Size(min = 3, max = 20, message = "Username must be between 3 and 20 characters")
+    private String username;
+
+    @NotBlank(message = "Country is required")
+    @Size(min = 2, max = 60, message = "Country must be between 2 and 60 characters")
+    private String country;
+
+    @Size(min = 2, max = 100, message = "Game name must be between 2 and 100 characters")
+    private String gameName;
+
+    private String level;
+
+    // Constructors
+    public ImportRow() {}
+
+    public ImportRow(String username, String country, String gameName, String level) {
+        setUsername(username);
+        setCountry(country);
+        setGameName(gameName);
+        setLevel(level);
+    }
+
+    // Get and Set (blank optional columns are read as null)
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username != null ? username.trim() : null;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country != null ? country.trim() : null;
+    }
+
+    public String getGameName() {
+        return gameName;
+    }
+
+    public void setGameName(String gameName) {
+        this.gameName = gameName == null || gameName.isBlank() ? null : gameName.trim();
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public void setLevel(String level) {
+        this.level = level == null || level.isBlank() ? null : level.trim();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.gaming_directory.dto;
+
+import com.example.gaming_directory.enums.Level;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Number of matching gamer skills per value of each search filter that was left open, to render filter chips without
+// a search per value. A filter that was set has no facet (null, left out of the JSON), since every match has its value.
+// Levels are listed in level order, games and countries by number of matches, most first; values without matches are left out.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SearchFacets(Map<Level, Long> level, Map<String, Long> gameName, Map<String, Long> country) {
+
+    // Roll grouped counts of the matches up into the facets asked for
+    public static SearchFacets of(List<GamerSkillCount> counts, boolean levels, boolean games, boolean countries) {
+        Map<Level, Long> levelCounts = new EnumMap<>(Level.class);
+        Map<String, Long> gameCounts = new HashMap<>();
+        Map<String, Long> countryCounts = new HashMap<>();
+        for (GamerSkillCount count : counts) {
+            levelCounts.merge(count.level(), count.players(), Long::sum);
+            gameCounts.merge(count.gameName(), count.players(), Long::sum);
+            countryCounts.merge(count.country(), count.players(), Long::sum);
+        }
+        return new SearchFacets(
+            levels ? levelCounts : null,
+            games ? mostFirst(gameCounts) : null,
+            countries ? mostFirst(countryCounts) : null);
+    }
+
+    // The counts ordered by count, most first, then by value
+    public static Map<String, Long> mostFirst(Map<String, Long> counts) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(counts.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        entries.forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+}
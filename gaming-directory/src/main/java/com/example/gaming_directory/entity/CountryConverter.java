@@ -0,0 +1,25 @@
+package com.example.gaming_directory.entity;
+
+import com.example.gaming_directory.cache.CountryDictionary;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Autowired;
+
+// Stores a country name as the 2-byte id of its row in the countries table, and reads it back as the dictionary's shared
+// name instance. Services normalize countries to their canonical name before saving (see CountryDictionary.canonicalName).
+@Converter
+public class CountryConverter implements AttributeConverter<String, Short> {
+
+    @Autowired
+    private CountryDictionary countryDictionary;
+
+    @Override
+    public Short convertToDatabaseColumn(String country) {
+        return country == null ? null : countryDictionary.idOf(country);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short id) {
+        return id == null ? null : countryDictionary.nameOf(id);
+    }
+}
@@ -5,18 +5,27 @@ import jakarta.validation.constraints.NotBlank;
 import java.util.HashSet;
 import java.util.Set;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "games")
+@Cacheable // read-mostly catalog, kept in the "game" second-level cache region
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "game")
 public class Game {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "games_seq")
+    @SequenceGenerator(name = "games_seq", sequenceName = "games_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Game name is required")
-    @Column(unique = true)
     private String name;
+
+    // Case-folded NFKC form of the name (see NameKey), unique, so lookups ignoring case are a single index probe
+    @JsonIgnore
+    @Column(name = "name_key", nullable = false, unique = true)
+    private String nameKey;
     
     @JsonIgnore // Hide the full nested gamerSkills object from JSON
     @OneToMany(mappedBy = "game", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
@@ -27,6 +36,7 @@ public class Game {
 
     public Game(String name) {
         this.name = name;
+        this.nameKey = NameKey.of(name);
     }
 
     // Get and Set
@@ -44,6 +54,11 @@ public class Game {
 
     public void setName(String name) {
         this.name = name;
+        this.nameKey = NameKey.of(name);
+    }
+
+    public String getNameKey() {
+        return nameKey;
     }
 
     public Set<GamerSkill> getGamerSkills() {
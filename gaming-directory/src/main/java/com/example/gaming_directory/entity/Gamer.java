@@ -14,15 +14,22 @@ import java.util.stream.Collectors;
 public class Gamer {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "gamers_seq")
+    @SequenceGenerator(name = "gamers_seq", sequenceName = "gamers_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Username is required")
-    @Column(unique = true)
     private String username;
 
+    // Case-folded NFKC form of the username (see NameKey), unique, so lookups ignoring case are a single index probe
+    @JsonIgnore
+    @Column(name = "username_key", nullable = false, unique = true)
+    private String usernameKey;
+
 
     @NotBlank(message = "Country is required")
+    @Convert(converter = CountryConverter.class) // stored as a reference to the countries table
+    @Column(name = "country_id")
     private String country;
 
     @JsonIgnore // Hide the full nested gamerSkills object from JSON
@@ -35,6 +42,7 @@ public class Gamer {
 
     public Gamer(String username, String country) {
         this.username = username;
+        this.usernameKey = NameKey.of(username);
         this.country = country;
     }
 
@@ -53,6 +61,11 @@ public class Gamer {
     
     public void setUsername(String username) {
         this.username = username;
+        this.usernameKey = NameKey.of(username);
+    }
+
+    public String getUsernameKey() {
+        return usernameKey;
     }
 
     public String getCountry() {
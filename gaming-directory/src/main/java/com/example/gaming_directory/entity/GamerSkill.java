@@ -2,16 +2,20 @@ package com.example.gaming_directory.entity;
 
 import com.example.gaming_directory.enums.Level;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 
 @Entity
+@JsonPropertyOrder({"id", "level", "gameName", "gamerName", "gamerCountry", "skillLevel"}) // same order as GamerSkillView
 @Table(name = "gamer_skills", 
        uniqueConstraints = @UniqueConstraint(columnNames = {"gamer_id", "game_id"}))
 public class GamerSkill {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence: ids are assigned before the insert, so Hibernate can batch inserts (IDENTITY disables batching)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "gamer_skills_seq")
+    @SequenceGenerator(name = "gamer_skills_seq", sequenceName = "gamer_skills_seq", allocationSize = 50)
     private Long id;
     
     @JsonIgnore  // Hide the full nested gamer object from JSON
@@ -26,7 +30,7 @@ public class GamerSkill {
     @NotNull
     private Game game;
     
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = LevelConverter.class) // stored as the level's 2-byte code
     @NotNull
     private Level level;
 
@@ -0,0 +1,20 @@
+package com.example.gaming_directory.entity;
+
+import com.example.gaming_directory.enums.Level;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Stores a Level as its fixed 2-byte code instead of its name
+@Converter
+public class LevelConverter implements AttributeConverter<Level, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(Level level) {
+        return level == null ? null : level.getCode();
+    }
+
+    @Override
+    public Level convertToEntityAttribute(Short code) {
+        return code == null ? null : Level.fromCode(code);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.gaming_directory.entity;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+// Lookup key of a username or game name: Unicode NFKC with case folded, so names that only differ in case or in how the
+// same characters are encoded ("Joey", "JOEY", full-width "Ｊｏｅｙ") have the same key. Gamers and games store it in a
+// unique column (see V6), which makes every case-insensitive lookup a single index probe.
+public final class NameKey {
+
+    private NameKey() {}
+
+    // Upper then lower case also folds characters without a single lower case form ("Straße" and "STRASSE" -> "strasse")
+    public static String of(String name) {
+        if (name == null) {
+            return null;
+        }
+        String folded = Normalizer.normalize(name, Normalizer.Form.NFKC).toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+        return Normalizer.normalize(folded, Normalizer.Form.NFKC);
+    }
+}
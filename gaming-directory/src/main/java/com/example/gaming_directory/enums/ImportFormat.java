@@ -0,0 +1,6 @@
+package com.example.gaming_directory.enums;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON
+}
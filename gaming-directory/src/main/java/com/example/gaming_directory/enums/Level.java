@@ -1,7 +1,28 @@
 package com.example.gaming_directory.enums;
 
 public enum Level {
-    NOOB,
-    PRO,
-    INVINCIBLE
+    NOOB(0),
+    PRO(1),
+    INVINCIBLE(2);
+
+    // Stored in gamer_skills.level (see LevelConverter). Codes are persisted, so they never change and are never reused;
+    // they follow the declaration order, which matchmaking uses as the distance between levels.
+    private final short code;
+
+    Level(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static Level fromCode(short code) {
+        for (Level level : values()) {
+            if (level.code == code) {
+                return level;
+            }
+        }
+        throw new IllegalArgumentException("Unknown level code: " + code);
+    }
 }
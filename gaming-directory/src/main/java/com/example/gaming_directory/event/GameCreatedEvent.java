@@ -0,0 +1,24 @@
+package com.example.gaming_directory.event;
+
+import com.example.gaming_directory.entity.Game;
+
+// Published after a new game is saved
+public class GameCreatedEvent {
+
+    private final Long gameId;
+    private final String name;
+
+    public GameCreatedEvent(Game game) {
+        this.gameId = game.getId();
+        this.name = game.getName();
+    }
+
+    // Get
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.gaming_directory.event;
+
+import com.example.gaming_directory.entity.Gamer;
+
+// Published after a new gamer is saved
+public class GamerCreatedEvent {
+
+    private final Long gamerId;
+    private final String username;
+    private final String country;
+
+    public GamerCreatedEvent(Gamer gamer) {
+        this.gamerId = gamer.getId();
+        this.username = gamer.getUsername();
+        this.country = gamer.getCountry();
+    }
+
+    // Get
+    public Long getGamerId() {
+        return gamerId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.gaming_directory.event;
+
+import com.example.gaming_directory.entity.GamerSkill;
+import com.example.gaming_directory.enums.Level;
+
+// Published after a gamer skill is created or its level is updated
+public class GamerSkillChangedEvent {
+
+    private final Long skillId;
+    private final Long gamerId;
+    private final Long gameId;
+    private final String gameName;
+    private final String country;
+    private final Level level;
+
+    // Level before the change, null when the skill was just created
+    private final Level previousLevel;
+
+    public GamerSkillChangedEvent(GamerSkill gamerSkill, Level previousLevel) {
+        this.skillId = gamerSkill.getId();
+        this.gamerId = gamerSkill.getGamer().getId();
+        this.gameId = gamerSkill.getGame().getId();
+        this.gameName = gamerSkill.getGame().getName();
+        this.country = gamerSkill.getGamer().getCountry();
+        this.level = gamerSkill.getLevel();
+        this.previousLevel = previousLevel;
+    }
+
+    // Get
+    public Long getSkillId() {
+        return skillId;
+    }
+
+    public Long getGamerId() {
+        return gamerId;
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public String getGameName() {
+        return gameName;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public Level getPreviousLevel() {
+        return previousLevel;
+    }
+
+    public boolean isNewSkill() {
+        return previousLevel == null;
+    }
+}
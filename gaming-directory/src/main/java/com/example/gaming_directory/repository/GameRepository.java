@@ -1,12 +1,43 @@
 package com.example.gaming_directory.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import com.example.gaming_directory.cache.GameKey;
 import com.example.gaming_directory.entity.Game;
 
 @Repository
 public interface GameRepository extends JpaRepository<Game, Long> {
     
-    Optional<Game> findByName(String name);
+    // Lookups take the name's key (NameKey.of), so they ignore case and still probe the unique index on name_key.
+    // Result cached in the "game-by-name" query region; Hibernate invalidates it whenever the games table changes
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "game-by-name")
+    })
+    Optional<Game> findByNameKey(String nameKey);
+
+    // Only the key fields of a game, for the name cache
+    @Query("SELECT new com.example.gaming_directory.cache.GameKey(g.id, g.name) FROM Game g WHERE g.nameKey = :nameKey")
+    Optional<GameKey> findKeyByNameKey(@Param("nameKey") String nameKey);
+
+    // Key fields of all games with the given name keys in one query (batch link)
+    @Query("SELECT new com.example.gaming_directory.cache.GameKey(g.id, g.name) FROM Game g WHERE g.nameKey IN :nameKeys")
+    List<GameKey> findKeysByNameKeyIn(@Param("nameKeys") Collection<String> nameKeys);
+
+    // Key fields of every game, to build the in-memory game name index
+    @Query("SELECT new com.example.gaming_directory.cache.GameKey(g.id, g.name) FROM Game g")
+    List<GameKey> findAllKeys();
+
+    // Keyset page: games after the given id, seeks on the primary key so deep pages cost the same as the first
+    @Query("SELECT g FROM Game g WHERE g.id > :after ORDER BY g.id")
+    List<Game> findPageAfter(@Param("after") long after, Limit limit);
 }
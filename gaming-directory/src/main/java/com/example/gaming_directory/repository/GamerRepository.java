@@ -1,14 +1,53 @@
 package com.example.gaming_directory.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.hibernate.jpa.HibernateHints;
+import jakarta.persistence.QueryHint;
+import com.example.gaming_directory.cache.GamerKey;
 import com.example.gaming_directory.entity.Gamer;
 
 @Repository
 public interface GamerRepository extends JpaRepository<Gamer, Long> {  
 
-    // findByUsername returns Optional<Gamer> - either contains a Gamer or is empty. 
-    Optional<Gamer> findByUsername(String username);
+    // Lookups take the username's key (NameKey.of), so they ignore case and still probe the unique index on username_key.
+    // findByUsernameKey returns Optional<Gamer> - either contains a Gamer or is empty.
+    Optional<Gamer> findByUsernameKey(String usernameKey);
+
+    // Only the key fields of a gamer, for the name cache
+    @Query("SELECT new com.example.gaming_directory.cache.GamerKey(g.id, g.username, g.country) FROM Gamer g WHERE g.usernameKey = :usernameKey")
+    Optional<GamerKey> findKeyByUsernameKey(@Param("usernameKey") String usernameKey);
+
+    // Key fields of all gamers with the given username keys in one query (batch link)
+    @Query("SELECT new com.example.gaming_directory.cache.GamerKey(g.id, g.username, g.country) FROM Gamer g WHERE g.usernameKey IN :usernameKeys")
+    List<GamerKey> findKeysByUsernameKeyIn(@Param("usernameKeys") Collection<String> usernameKeys);
+
+    // Keyset page of gamer ids after the given id (ids first, so the collection fetch below is not paginated in memory)
+    @Query("SELECT g.id FROM Gamer g WHERE g.id > :after ORDER BY g.id")
+    List<Long> findIdsAfter(@Param("after") long after, Limit limit);
+
+    // Load the given gamers together with their skills and games in one query (avoids N+1 when serializing games)
+    @EntityGraph(attributePaths = {"gamerSkills", "gamerSkills.game"})
+    @Query("SELECT g FROM Gamer g WHERE g.id IN :ids ORDER BY g.id")
+    List<Gamer> findAllWithSkillsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Stream every username to build the in-memory autocomplete index
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT g.username FROM Gamer g")
+    Stream<String> streamUsernames();
+
+    // Load a single gamer together with its skills and games in one query
+    @EntityGraph(attributePaths = {"gamerSkills", "gamerSkills.game"})
+    @Query("SELECT g FROM Gamer g WHERE g.id = :id")
+    Optional<Gamer> findWithSkillsById(@Param("id") Long id);
 }
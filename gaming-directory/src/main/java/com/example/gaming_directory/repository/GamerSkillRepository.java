@@ -1,30 +1,104 @@
 package com.example.gaming_directory.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import com.example.gaming_directory.dto.GamerSkillCount;
+import com.example.gaming_directory.dto.GamerSkillView;
 import com.example.gaming_directory.entity.GamerSkill;
 import com.example.gaming_directory.enums.Level;
 
 @Repository
 public interface GamerSkillRepository extends JpaRepository<GamerSkill, Long> {
     
-    // Find existing skill for a gamer and game combination
-    Optional<GamerSkill> findByGamerIdAndGameId(Long gamerId, Long gameId);
+    // Find existing skill for a gamer and game combination (gamer and game fetched in the same query)
+    @Query("SELECT gs FROM GamerSkill gs JOIN FETCH gs.gamer JOIN FETCH gs.game " +
+           "WHERE gs.gamer.id = :gamerId AND gs.game.id = :gameId")
+    Optional<GamerSkill> findByGamerIdAndGameId(@Param("gamerId") Long gamerId, @Param("gameId") Long gameId);
+
+    // Existing skills for any of the given gamers in any of the given games (batch link; callers pick the pairs they need)
+    @Query("SELECT gs FROM GamerSkill gs JOIN FETCH gs.gamer JOIN FETCH gs.game " +
+           "WHERE gs.gamer.id IN :gamerIds AND gs.game.id IN :gameIds")
+    List<GamerSkill> findByGamerIdInAndGameIdIn(
+        @Param("gamerIds") Collection<Long> gamerIds,
+        @Param("gameIds") Collection<Long> gameIds);
     
-    // Find gamers by level and game name
-    List<GamerSkill> findByGame_NameAndLevel(String gameName, Level level);
+    // Find gamers by level and game (keyset page after the given skill id), as flat rows from one join.
+    // Filtering on the skill's game_id lets idx_gamer_skills_game_level_id serve the filter, the order and the seek.
+    @Query("SELECT new com.example.gaming_directory.dto.GamerSkillView(gs.id, gs.level, g.username, g.country, gm.name) " +
+           "FROM GamerSkill gs JOIN gs.gamer g JOIN gs.game gm WHERE " +
+           "gs.game.id = :gameId AND gs.level = :level AND gs.id > :after " +
+           "ORDER BY gs.id")
+    List<GamerSkillView> findByGame_IdAndLevel(
+        @Param("gameId") Long gameId, 
+        @Param("level") Level level, 
+        @Param("after") long after, 
+        Limit limit);
     
-    // Search for auto-matching gamers based on criteria
-    @Query("SELECT gs FROM GamerSkill gs WHERE " +
+    // Search for auto-matching gamers based on criteria (keyset page after the given skill id), as flat rows from one join.
+    // The game is filtered by id, callers resolve names through the name cache.
+    @Query("SELECT new com.example.gaming_directory.dto.GamerSkillView(gs.id, gs.level, g.username, g.country, gm.name) " +
+           "FROM GamerSkill gs JOIN gs.gamer g JOIN gs.game gm WHERE " +
+           "(:level IS NULL OR gs.level = :level) AND " +
+           "(:gameId IS NULL OR gs.game.id = :gameId) AND " +
+           "(:country IS NULL OR g.country = :country) AND " +
+           "gs.id > :after " +
+           "ORDER BY gs.id")
+    List<GamerSkillView> findByLevelAndGameIdAndCountry(
+        @Param("level") Level level, 
+        @Param("gameId") Long gameId, 
+        @Param("country") String country,
+        @Param("after") long after, 
+        Limit limit);
+
+    // Stream every matching skill from a forward-only cursor, with gamer and game fetched in the same row
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT gs FROM GamerSkill gs JOIN FETCH gs.gamer g JOIN FETCH gs.game gm WHERE " +
+           "(:level IS NULL OR gs.level = :level) AND " +
+           "(:gameId IS NULL OR gs.game.id = :gameId) AND " +
+           "(:country IS NULL OR g.country = :country) " +
+           "ORDER BY gs.id")
+    Stream<GamerSkill> streamByLevelAndGameIdAndCountry(
+        @Param("level") Level level, 
+        @Param("gameId") Long gameId, 
+        @Param("country") String country);
+
+    // The given skills as flat rows from one join, in id order
+    @Query("SELECT new com.example.gaming_directory.dto.GamerSkillView(gs.id, gs.level, g.username, g.country, gm.name) " +
+           "FROM GamerSkill gs JOIN gs.gamer g JOIN gs.game gm WHERE gs.id IN :ids ORDER BY gs.id")
+    List<GamerSkillView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Stream (id, level, game name, country) for every skill to build the in-memory search index
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT gs.id, gs.level, gm.name, g.country FROM GamerSkill gs JOIN gs.gamer g JOIN gs.game gm")
+    Stream<Object[]> streamIndexRows();
+
+    // Number of skills per game, level and country, to build the in-memory directory statistics
+    @Query("SELECT new com.example.gaming_directory.dto.GamerSkillCount(gm.name, gs.level, g.country, COUNT(gs)) " +
+           "FROM GamerSkill gs JOIN gs.gamer g JOIN gs.game gm GROUP BY gm.name, gs.level, g.country")
+    List<GamerSkillCount> countByGameLevelAndCountry();
+
+    // Number of matching skills per game, level and country, for search facets when the in-memory index is not built yet
+    @Query("SELECT new com.example.gaming_directory.dto.GamerSkillCount(gm.name, gs.level, g.country, COUNT(gs)) " +
+           "FROM GamerSkill gs JOIN gs.gamer g JOIN gs.game gm WHERE " +
            "(:level IS NULL OR gs.level = :level) AND " +
-           "(:gameName IS NULL OR gs.game.name = :gameName) AND " +
-           "(:country IS NULL OR gs.gamer.country = :country)")
-    List<GamerSkill> findByLevelAndGameNameAndCountry(
+           "(:gameId IS NULL OR gs.game.id = :gameId) AND " +
+           "(:country IS NULL OR g.country = :country) " +
+           "GROUP BY gm.name, gs.level, g.country")
+    List<GamerSkillCount> countByLevelAndGameIdAndCountry(
         @Param("level") Level level, 
-        @Param("gameName") String gameName, 
+        @Param("gameId") Long gameId, 
         @Param("country") String country);
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package com.example.gaming_directory.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Coarse world regions, so matchmaking can prefer teammates from nearby countries (similar time zones and latency).
+// Countries that are not listed have no region: their gamers only match on the same country or anywhere.
+public final class CountryRegions {
+
+    private static final Map<String, String> REGIONS = new HashMap<>();
+    static {
+        region("North America", "USA", "Canada", "Mexico");
+        region("South America", "Brazil", "Argentina", "Chile", "Colombia", "Peru", "Uruguay", "Venezuela");
+        region("Western Europe", "UK", "Ireland", "France", "Germany", "Netherlands", "Belgium", "Luxembourg",
+            "Switzerland", "Austria", "Spain", "Portugal", "Italy");
+        region("Northern Europe", "Sweden", "Norway", "Denmark", "Finland", "Iceland", "Estonia", "Latvia", "Lithuania");
+        region("Eastern Europe", "Poland", "Czech Republic", "Slovakia", "Hungary", "Romania", "Bulgaria", "Ukraine",
+            "Russia", "Greece", "Serbia", "Croatia");
+        region("Middle East", "Turkey", "Israel", "Saudi Arabia", "United Arab Emirates", "Egypt", "Iran");
+        region("Africa", "South Africa", "Nigeria", "Kenya", "Morocco");
+        region("South Asia", "India", "Pakistan", "Bangladesh", "Sri Lanka");
+        region("East Asia", "China", "Japan", "South Korea", "Taiwan", "Hong Kong", "Mongolia");
+        region("Southeast Asia", "Indonesia", "Philippines", "Vietnam", "Thailand", "Malaysia", "Singapore");
+        region("Oceania", "Australia", "New Zealand");
+    }
+
+    private CountryRegions() {}
+
+    // Region of the country, or null when it has none
+    public static String regionOf(String country) {
+        return country == null ? null : REGIONS.get(country);
+    }
+
+    private static void region(String region, String... countries) {
+        for (String country : List.of(countries)) {
+            REGIONS.put(country, region);
+        }
+    }
+}
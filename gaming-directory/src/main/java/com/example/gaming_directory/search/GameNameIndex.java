@@ -0,0 +1,163 @@
+package com.example.gaming_directory.search;
+
+import com.example.gaming_directory.cache.GameKey;
+import com.example.gaming_directory.event.GameCreatedEvent;
+import com.example.gaming_directory.repository.GameRepository;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// In-memory trigram index over game names for typo-tolerant search: one bitmap of game ids per trigram, so a query
+// only counts shared trigrams for the games it has any in common with and never scans the catalog.
+// Trigrams are taken per word like PostgreSQL's pg_trgm ("dota" -> "  d", " do", "dot", "ota", "ta "), after lower
+// casing and replacing accents and punctuation, so "counter strike" and "Counter-Strike" have the same trigrams.
+@Component
+public class GameNameIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(GameNameIndex.class);
+
+    // Minimum similarity of the whole name, as in pg_trgm
+    static final double SIMILARITY_THRESHOLD = 0.3;
+    // Minimum share of the query's trigrams found in the name, for queries that are part of a longer name
+    static final double CONTAINMENT_THRESHOLD = 0.6;
+    // Containment counts a little less than similarity, so the closest whole name ranks first
+    private static final double CONTAINMENT_WEIGHT = 0.9;
+
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, RoaringBitmap> byTrigram = new HashMap<>();
+    private final Map<Integer, IndexedGame> games = new HashMap<>();
+
+    // Searches are unavailable until the index has been built
+    private volatile boolean ready;
+
+    // Build the index from the database once the application (including any data loading) has started
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            byTrigram.clear();
+            games.clear();
+            // Read under the lock: a game committed after the read waits for the rebuild instead of being cleared by it
+            List<GameKey> keys = gameRepository.findAllKeys();
+            keys.forEach(key -> add(key.id(), key.name()));
+            ready = true;
+
+            log.info("Game name index built with {} games and {} trigrams", keys.size(), byTrigram.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Add a newly created game once it is committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGameCreated(GameCreatedEvent event) {
+        lock.writeLock().lock();
+        try {
+            add(event.getGameId(), event.getName());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Up to limit games whose name is similar to the query or contains it, best first. The score is the trigram
+    // similarity of the names (shared trigrams / all distinct trigrams of both, 1 for the same name), or, when the query
+    // is part of a longer name ("league" in "League of Legends"), the share of the query's trigrams found in the name.
+    public List<Match> search(String query, int limit) {
+        Set<String> queryTrigrams = trigrams(normalize(query));
+        if (queryTrigrams.isEmpty()) {
+            return List.of();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Integer, Integer> shared = new HashMap<>();
+            for (String trigram : queryTrigrams) {
+                RoaringBitmap ids = byTrigram.get(trigram);
+                if (ids != null) {
+                    ids.forEach((int id) -> shared.merge(id, 1, Integer::sum));
+                }
+            }
+
+            shared.forEach((id, count) -> {
+                IndexedGame game = games.get(id);
+                double similarity = (double) count / (queryTrigrams.size() + game.trigrams() - count);
+                double containment = (double) count / queryTrigrams.size();
+                if (similarity >= SIMILARITY_THRESHOLD || containment >= CONTAINMENT_THRESHOLD) {
+                    matches.add(new Match(game.id(), game.name(), Math.max(similarity, containment * CONTAINMENT_WEIGHT)));
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingDouble(Match::score).reversed().thenComparing(Match::name));
+        return matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
+
+    // A game matching a search, score 0-1
+    public record Match(long id, String name, double score) {}
+
+    // Lower case words of letters and digits, accents removed: "Pokémon: Red" -> "pokemon red"
+    static String normalize(String name) {
+        String decomposed = ACCENTS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(decomposed.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    // Distinct trigrams of each word, padded with two spaces in front and one at the end
+    static Set<String> trigrams(String normalized) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return trigrams;
+        }
+        for (String word : normalized.split(" ")) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    private void add(Long gameId, String name) {
+        int id = Math.toIntExact(gameId);
+        Set<String> trigrams = trigrams(normalize(name));
+        games.put(id, new IndexedGame(gameId, name, trigrams.size()));
+        for (String trigram : trigrams) {
+            byTrigram.computeIfAbsent(trigram, key -> new RoaringBitmap()).add(id);
+        }
+    }
+
+    private record IndexedGame(long id, String name, int trigrams) {}
+}
@@ -0,0 +1,290 @@
+package com.example.gaming_directory.search;
+
+import com.example.gaming_directory.dto.SearchFacets;
+import com.example.gaming_directory.enums.Level;
+import com.example.gaming_directory.event.GamerSkillChangedEvent;
+import com.example.gaming_directory.repository.GamerSkillRepository;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// In-memory inverted index over gamer skills: one compressed bitmap of skill ids per level, per game, per game and
+// level, per country and per region. Any combination of search filters is answered with bitmap intersections, and teammates are ranked with
+// a few more of them; the database stays the source of truth.
+@Component
+public class GamerSkillIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(GamerSkillIndex.class);
+
+    @Autowired
+    private GamerSkillRepository gamerSkillRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<Level, RoaringBitmap> byLevel = new EnumMap<>(Level.class);
+    private final Map<String, RoaringBitmap> byGame = new HashMap<>();
+    private final Map<String, RoaringBitmap> byCountry = new HashMap<>();
+    private final Map<String, RoaringBitmap> byRegion = new HashMap<>();
+    // Precomputed game and level intersections for matchmaking
+    private final Map<String, Map<Level, RoaringBitmap>> byGameAndLevel = new HashMap<>();
+
+    // Searches fall back to the database until the index has been built
+    private volatile boolean ready;
+
+    // Build the index from the database once the application (including any data loading) has started
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            all.clear();
+            byLevel.clear();
+            byGame.clear();
+            byCountry.clear();
+            byRegion.clear();
+            byGameAndLevel.clear();
+
+            try (Stream<Object[]> rows = gamerSkillRepository.streamIndexRows()) {
+                rows.forEach(row -> add((Long) row[0], (Level) row[1], (String) row[2], (String) row[3]));
+            }
+            all.runOptimize();
+            byLevel.values().forEach(RoaringBitmap::runOptimize);
+            byGame.values().forEach(RoaringBitmap::runOptimize);
+            byCountry.values().forEach(RoaringBitmap::runOptimize);
+            byRegion.values().forEach(RoaringBitmap::runOptimize);
+            byGameAndLevel.values().forEach(levels -> levels.values().forEach(RoaringBitmap::runOptimize));
+            ready = true;
+
+            log.info("Gamer skill index built with {} skills", all.getCardinality());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Write-through: keep the index current once the skill change is committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamerSkillChanged(GamerSkillChangedEvent event) {
+        put(event.getSkillId(), event.getLevel(), event.getGameName(), event.getCountry());
+    }
+
+    // Add a skill, or move it to its new level if it is already indexed
+    public void put(Long skillId, Level level, String gameName, String country) {
+        lock.writeLock().lock();
+        try {
+            add(skillId, level, gameName, country);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Ids of all skills matching the filters; null filters match everything
+    public RoaringBitmap search(Level level, String gameName, String country) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> filters = new ArrayList<>(3);
+            if (level != null) {
+                filters.add(byLevel.getOrDefault(level, new RoaringBitmap()));
+            }
+            if (gameName != null) {
+                filters.add(byGame.getOrDefault(gameName, new RoaringBitmap()));
+            }
+            if (country != null) {
+                filters.add(byCountry.getOrDefault(country, new RoaringBitmap()));
+            }
+
+            if (filters.isEmpty()) {
+                return all.clone();
+            }
+            if (filters.size() == 1) {
+                return filters.get(0).clone();
+            }
+            return FastAggregation.and(filters.iterator());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // How many of the matches have each level, game and country, for the dimensions asked for (the others are null).
+    // One cardinality of an intersection per value: nothing is copied and no row is read.
+    public SearchFacets facets(RoaringBitmap matches, boolean levels, boolean games, boolean countries) {
+        lock.readLock().lock();
+        try {
+            Map<Level, Long> levelCounts = null;
+            if (levels) {
+                levelCounts = new EnumMap<>(Level.class);
+                for (Map.Entry<Level, RoaringBitmap> entry : byLevel.entrySet()) {
+                    long count = RoaringBitmap.andCardinality(matches, entry.getValue());
+                    if (count > 0) {
+                        levelCounts.put(entry.getKey(), count);
+                    }
+                }
+            }
+            return new SearchFacets(
+                levelCounts,
+                games ? counts(byGame, matches) : null,
+                countries ? counts(byCountry, matches) : null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Up to limit teammates for a gamer with the given level and country in a game, best first. Candidates are ranked
+    // in tiers: level distance (same level, one apart, ...), then same country, same region, anywhere; within a tier by
+    // skill id. A tier is only looked at while matches are missing. Within it, the same-country and same-region
+    // candidates are intersections of the tier with the country's and region's skills, so their cost grows with those
+    // bitmaps. The rest, which is most of the tier, is read in id order and stops at the limit instead of being copied.
+    public List<Match> rankTeammates(long ownSkillId, Level level, String gameName, String country, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Match> matches = new ArrayList<>(limit);
+            Map<Level, RoaringBitmap> gameLevels = byGameAndLevel.get(gameName);
+            if (gameLevels == null) {
+                return matches;
+            }
+            RoaringBitmap sameCountry = byCountry.getOrDefault(country, new RoaringBitmap());
+            RoaringBitmap sameRegion = byRegion.getOrDefault(CountryRegions.regionOf(country), sameCountry);
+            int own = Math.toIntExact(ownSkillId);
+            int maxDistance = Level.values().length - 1;
+
+            for (int distance = 0; distance <= maxDistance && matches.size() < limit; distance++) {
+                List<RoaringBitmap> tier = new ArrayList<>(2);
+                for (Map.Entry<Level, RoaringBitmap> entry : gameLevels.entrySet()) {
+                    if (Math.abs(entry.getKey().ordinal() - level.ordinal()) == distance) {
+                        tier.add(entry.getValue());
+                    }
+                }
+
+                int levelScore = (maxDistance - distance) * 3;
+                addMatches(matches, and(tier, sameCountry), own, levelScore + 2, limit);
+                if (matches.size() < limit && sameRegion != sameCountry) {
+                    RoaringBitmap nearby = and(tier, sameRegion);
+                    nearby.andNot(sameCountry);
+                    addMatches(matches, nearby, own, levelScore + 1, limit);
+                }
+                if (matches.size() < limit) {
+                    addMatchesNotIn(matches, tier, sameRegion, own, levelScore, limit);
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // A ranked teammate: score 0-8, three points per level of closeness plus 2 for the same country or 1 for the same region
+    public record Match(long skillId, int score) {}
+
+    // Up to count ids from the bitmap that come after the given id, in ascending order (keyset pagination)
+    public static List<Long> idsAfter(RoaringBitmap ids, long after, int count) {
+        List<Long> page = new ArrayList<>(Math.min(count, ids.getCardinality()));
+        if (after >= Integer.MAX_VALUE) {
+            return page;
+        }
+        PeekableIntIterator iterator = ids.getIntIterator();
+        iterator.advanceIfNeeded((int) after + 1);
+        while (iterator.hasNext() && page.size() < count) {
+            page.add((long) iterator.next());
+        }
+        return page;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Matches per value, most first; values without matches are left out
+    private static Map<String, Long> counts(Map<String, RoaringBitmap> byValue, RoaringBitmap matches) {
+        Map<String, Long> counts = new HashMap<>();
+        byValue.forEach((value, ids) -> {
+            long count = RoaringBitmap.andCardinality(matches, ids);
+            if (count > 0) {
+                counts.put(value, count);
+            }
+        });
+        return SearchFacets.mostFirst(counts);
+    }
+
+    // Union of each bitmap intersected with the filter, without copying the (large) bitmaps themselves
+    private static RoaringBitmap and(List<RoaringBitmap> bitmaps, RoaringBitmap filter) {
+        RoaringBitmap result = new RoaringBitmap();
+        bitmaps.forEach(bitmap -> result.or(RoaringBitmap.and(bitmap, filter)));
+        return result;
+    }
+
+    // Like addMatches over the union of the bitmaps without the filter's ids, but merging the (disjoint) bitmaps in id
+    // order and testing each id against the filter, so only the ids up to the last match are read
+    private static void addMatchesNotIn(List<Match> matches, List<RoaringBitmap> bitmaps, RoaringBitmap filter, int own, int score, int limit) {
+        List<PeekableIntIterator> iterators = new ArrayList<>(bitmaps.size());
+        bitmaps.forEach(bitmap -> iterators.add(bitmap.getIntIterator()));
+        while (matches.size() < limit) {
+            PeekableIntIterator lowest = null;
+            for (PeekableIntIterator iterator : iterators) {
+                if (iterator.hasNext() && (lowest == null || iterator.peekNext() < lowest.peekNext())) {
+                    lowest = iterator;
+                }
+            }
+            if (lowest == null) {
+                return;
+            }
+            int id = lowest.next();
+            if (id != own && !filter.contains(id)) {
+                matches.add(new Match(id, score));
+            }
+        }
+    }
+
+    private static void addMatches(List<Match> matches, RoaringBitmap ids, int own, int score, int limit) {
+        PeekableIntIterator iterator = ids.getIntIterator();
+        while (iterator.hasNext() && matches.size() < limit) {
+            int id = iterator.next();
+            if (id != own) {
+                matches.add(new Match(id, score));
+            }
+        }
+    }
+
+    // Callers must hold the write lock
+    private void add(Long skillId, Level level, String gameName, String country) {
+        int ordinal = Math.toIntExact(skillId);
+
+        // Game and country never change for a skill, only the level does
+        for (Map.Entry<Level, RoaringBitmap> entry : byLevel.entrySet()) {
+            if (entry.getKey() != level) {
+                entry.getValue().remove(ordinal);
+            }
+        }
+        Map<Level, RoaringBitmap> gameLevels = byGameAndLevel.computeIfAbsent(gameName, key -> new EnumMap<>(Level.class));
+        for (Map.Entry<Level, RoaringBitmap> entry : gameLevels.entrySet()) {
+            if (entry.getKey() != level) {
+                entry.getValue().remove(ordinal);
+            }
+        }
+        byLevel.computeIfAbsent(level, key -> new RoaringBitmap()).add(ordinal);
+        gameLevels.computeIfAbsent(level, key -> new RoaringBitmap()).add(ordinal);
+        byGame.computeIfAbsent(gameName, key -> new RoaringBitmap()).add(ordinal);
+        byCountry.computeIfAbsent(country, key -> new RoaringBitmap()).add(ordinal);
+        String region = CountryRegions.regionOf(country);
+        if (region != null) {
+            byRegion.computeIfAbsent(region, key -> new RoaringBitmap()).add(ordinal);
+        }
+        all.add(ordinal);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.gaming_directory.search;
+
+import com.example.gaming_directory.dto.GamerSkillCount;
+import com.example.gaming_directory.enums.Level;
+import com.example.gaming_directory.event.GamerSkillChangedEvent;
+import com.example.gaming_directory.repository.GamerSkillRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// In-memory directory statistics: the number of players per game, level and country. Built from one scan of gamer_skills
+// at startup and then moved by every committed skill change, so reading them costs one pass over the groups instead of a
+// scan of gamer_skills. A level change moves the skill between two groups under one lock, so readers never count it
+// twice or not at all.
+// The current level of every skill is kept next to the counters (one byte per skill id), and a change is applied as
+// "the skill now has this level" rather than as +1/-1. Applying a change twice, or one the rebuild has already read,
+// therefore changes nothing, and the counters cannot drift when changes commit while they are being rebuilt.
+@Component
+public class GamerSkillStats {
+
+    private static final Logger log = LoggerFactory.getLogger(GamerSkillStats.class);
+
+    // Groups are kept in the order the statistics are listed in: by game, then level, then country
+    private static final Comparator<Group> ORDER = Comparator.comparing(Group::gameName)
+        .thenComparing(Group::level)
+        .thenComparing(Group::country);
+
+    @Autowired
+    private GamerSkillRepository gamerSkillRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private static final Level[] LEVELS = Level.values();
+
+    // Level ordinal + 1 of each skill by id, 0 for ids without a skill
+    private static final byte NO_SKILL = 0;
+
+    // Only groups with at least one player
+    private final Map<Group, Long> players = new TreeMap<>(ORDER);
+
+    private byte[] levels = new byte[0];
+
+    // Statistics are computed by the database until the counters have been built
+    private volatile boolean ready;
+
+    // Build the counters from the database once the application (including any data loading) has started. The write
+    // lock is held while reading, so changes committed meanwhile are applied after the scan, on top of what it read.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            players.clear();
+            levels = new byte[0];
+            try (Stream<Object[]> rows = gamerSkillRepository.streamIndexRows()) {
+                rows.forEach(row -> set((Long) row[0], (Level) row[1], (String) row[2], (String) row[3]));
+            }
+            ready = true;
+            log.info("Gamer skill statistics built with {} groups", players.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Count a new skill in its group, or move an updated one from the group of the level it had, once the change is committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamerSkillChanged(GamerSkillChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            set(event.getSkillId(), event.getLevel(), event.getGameName(), event.getCountry());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Snapshot of every group with its number of players, ordered by game, then level, then country
+    public List<GamerSkillCount> counts() {
+        lock.readLock().lock();
+        try {
+            List<GamerSkillCount> counts = new ArrayList<>(players.size());
+            players.forEach((group, count) -> counts.add(new GamerSkillCount(group.gameName(), group.level(), group.country(), count)));
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Callers must hold the write lock. Game and country never change for a skill, only the level does.
+    private void set(Long skillId, Level level, String gameName, String country) {
+        int id = Math.toIntExact(skillId);
+        if (id >= levels.length) {
+            levels = Arrays.copyOf(levels, Math.max(id + 1, levels.length * 2));
+        }
+        byte current = levels[id];
+        byte updated = (byte) (level.ordinal() + 1);
+        if (current == updated) {
+            return;
+        }
+        if (current != NO_SKILL) {
+            add(new Group(gameName, LEVELS[current - 1], country), -1);
+        }
+        add(new Group(gameName, level, country), 1);
+        levels[id] = updated;
+    }
+
+    private void add(Group group, long delta) {
+        players.compute(group, (key, count) -> {
+            long updated = (count == null ? 0 : count) + delta;
+            return updated == 0 ? null : updated;
+        });
+    }
+
+    private record Group(String gameName, Level level, String country) {}
+}
@@ -0,0 +1,87 @@
+package com.example.gaming_directory.search;
+
+import com.example.gaming_directory.event.GamerCreatedEvent;
+import com.example.gaming_directory.repository.GamerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+// Sorted in-memory set of all usernames for type-ahead. Usernames are ordered case-insensitively, so the completions
+// of a prefix are one contiguous range of the skip list: finding them costs a lookup plus one step per completion,
+// and lock-free reads run alongside new gamers being added.
+@Component
+public class UsernameIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UsernameIndex.class);
+
+    // Separates the lower case form from the username in a key; sorts before every other character,
+    // so "joe" comes before "joey" and every username stays a separate entry
+    private static final char SEPARATOR = '\0';
+
+    @Autowired
+    private GamerRepository gamerRepository;
+
+    // Lower case username + SEPARATOR + username -> username
+    private final ConcurrentSkipListMap<String, String> usernames = new ConcurrentSkipListMap<>();
+
+    // Completions are unavailable until the index has been built
+    private volatile boolean ready;
+
+    // Build the index from the database once the application (including any data loading) has started
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        usernames.clear();
+        try (Stream<String> rows = gamerRepository.streamUsernames()) {
+            rows.forEach(this::add);
+        }
+        ready = true;
+
+        log.info("Username index built with {} usernames", usernames.size());
+    }
+
+    // Add a newly created gamer once it is committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGamerCreated(GamerCreatedEvent event) {
+        add(event.getUsername());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Up to limit usernames starting with the prefix, ignoring case, in alphabetical order
+    public List<String> complete(String prefix, int limit) {
+        String from = prefix.toLowerCase(Locale.ROOT);
+        ConcurrentNavigableMap<String, String> range = usernames.subMap(from, true, from + Character.MAX_VALUE, false);
+
+        List<String> completions = new ArrayList<>(Math.min(limit, 16));
+        for (String username : range.values()) {
+            if (completions.size() == limit) {
+                break;
+            }
+            completions.add(username);
+        }
+        return completions;
+    }
+
+    public int size() {
+        return usernames.size();
+    }
+
+    private void add(String username) {
+        usernames.put(username.toLowerCase(Locale.ROOT) + SEPARATOR + username, username);
+    }
+}
@@ -1,25 +1,51 @@
 package com.example.gaming_directory.service;
 
+import com.example.gaming_directory.config.MetricsConfig;
+import com.example.gaming_directory.dto.CursorPage;
+import com.example.gaming_directory.dto.GameMatch;
 import com.example.gaming_directory.entity.Game;
+import com.example.gaming_directory.entity.NameKey;
+import com.example.gaming_directory.event.GameCreatedEvent;
 import com.example.gaming_directory.repository.GameRepository;
+import com.example.gaming_directory.search.GameNameIndex;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class GameService {
+
+    public static final int DEFAULT_SEARCH_LIMIT = 10;
+    public static final int MAX_SEARCH_LIMIT = 100;
     
     @Autowired
     private GameRepository gameRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private GameNameIndex gameNameIndex;
     
-    // Get all games
-    public List<Game> getAllGames() {
-        return gameRepository.findAll();
+    // Get one page of games, ordered by id
+    @Transactional(readOnly = true)
+    public CursorPage<Game> getGames(Long after, Integer limit) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        List<Game> games = gameRepository.findPageAfter(CursorPage.resolveAfter(after), Limit.of(pageSize + 1));
+        return CursorPage.of(games, pageSize, Game::getId);
     }
 
     // Get game by ID
+    @Transactional(readOnly = true)
     public Optional<Game> getGameById(Long id) {
         if (id == null || id <= 0) {
             throw new IllegalArgumentException("Invalid ID. ID must be a positive number");
@@ -28,6 +54,7 @@ public class GameService {
     }
     
     // Create a new game
+    @Transactional
     public Game createGame(String gameName) {
         // Validate input
         if (gameName == null || gameName.trim().isEmpty()) {
@@ -37,23 +64,48 @@ public class GameService {
         // Trim whitespace
         gameName = gameName.trim();
         
-        // Check if game name already exists
-        if (gameRepository.findByName(gameName).isPresent()) {
+        // Check if game name already exists, ignoring case ("diablo" is taken when "Diablo" exists)
+        if (gameRepository.findByNameKey(NameKey.of(gameName)).isPresent()) {
             throw new IllegalArgumentException("Game name already exists");
         }
         
         // Create and save game
         Game game = new Game(gameName);
-        return gameRepository.save(game);
+        Game savedGame = gameRepository.save(game);
+
+        // Keep in-memory read models (e.g. the name cache) current
+        eventPublisher.publishEvent(new GameCreatedEvent(savedGame));
+        return savedGame;
+    }
+    
+    // Games whose name is like the query (typos, other spacing or punctuation, part of the name), best first,
+    // from the in-memory game name index
+    public List<GameMatch> searchGames(String query, Integer limit) {
+        // Validate input
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("Invalid limit. Limit must be a positive number");
+        }
+
+        if (!gameNameIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Game search is not available until the game name index is built");
+        }
+        int count = limit == null ? DEFAULT_SEARCH_LIMIT : Math.min(limit, MAX_SEARCH_LIMIT);
+        return gameNameIndex.search(query, count).stream().map(GameMatch::of).toList();
     }
     
-    // Check if game exists by name
+    // Check if game exists by name, ignoring case
+    @Transactional(readOnly = true)
     public boolean existsByName(String gameName) {
-        return gameRepository.findByName(gameName).isPresent();
+        return gameRepository.findByNameKey(NameKey.of(gameName)).isPresent();
     }
 
-    // Find game by name
+    // Find game by name, ignoring case
+    @Transactional(readOnly = true)
     public Optional<Game> findByName(String gameName) {
-        return gameRepository.findByName(gameName);
+        return gameRepository.findByNameKey(NameKey.of(gameName));
     }
 }
\ No newline at end of file
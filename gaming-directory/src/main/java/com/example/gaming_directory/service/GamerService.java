@@ -1,33 +1,68 @@
 package com.example.gaming_directory.service;
 
+import com.example.gaming_directory.cache.CountryDictionary;
+import com.example.gaming_directory.config.MetricsConfig;
+import com.example.gaming_directory.dto.CursorPage;
 import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.entity.NameKey;
+import com.example.gaming_directory.event.GamerCreatedEvent;
 import com.example.gaming_directory.repository.GamerRepository;
+import com.example.gaming_directory.search.UsernameIndex;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class GamerService {
+
+    public static final int DEFAULT_COMPLETION_LIMIT = 10;
+    public static final int MAX_COMPLETION_LIMIT = 100;
     
     @Autowired
     private GamerRepository gamerRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CountryDictionary countryDictionary;
+
+    @Autowired
+    private UsernameIndex usernameIndex;
     
-    // Get all gamers
-    public List<Gamer> getAllGamers() {
-        return gamerRepository.findAll();
+    // Get one page of gamers, ordered by id (page ids first, then skills and games in a single fetch)
+    @Transactional(readOnly = true)
+    public CursorPage<Gamer> getGamers(Long after, Integer limit) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        List<Long> ids = gamerRepository.findIdsAfter(CursorPage.resolveAfter(after), Limit.of(pageSize + 1));
+        CursorPage<Long> idPage = CursorPage.of(ids, pageSize, id -> id);
+
+        List<Gamer> gamers = idPage.getItems().isEmpty()
+            ? List.of()
+            : gamerRepository.findAllWithSkillsByIdIn(idPage.getItems());
+        return new CursorPage<>(gamers, idPage.getNextCursor(), pageSize);
     }
     
     // Get gamer by ID
+    @Transactional(readOnly = true)
     public Optional<Gamer> getGamerById(Long id) {
         if (id == null || id <= 0) {
             throw new IllegalArgumentException("Invalid ID. ID must be a positive number");
         }
-        return gamerRepository.findById(id);
+        return gamerRepository.findWithSkillsById(id);
     }
     
     // Create a new gamer
+    @Transactional
     public Gamer createGamer(String username, String country) {
         // Validate input
         if (username == null || username.trim().isEmpty()) {
@@ -38,27 +73,50 @@ public class GamerService {
             throw new IllegalArgumentException("Country is required");
         }
         
-        // Trim whitespace
+        // Trim whitespace; the country is stored by its canonical name ("us" and "United States" become "USA")
         username = username.trim();
-        country = country.trim();
+        country = countryDictionary.canonicalName(country);
         
-        // Check if username already exists
-        if (gamerRepository.findByUsername(username).isPresent()) {
+        // Check if username already exists, ignoring case ("joey" is taken when "Joey" exists)
+        if (gamerRepository.findByUsernameKey(NameKey.of(username)).isPresent()) {
             throw new IllegalArgumentException("Username already exists");
         }
         
         // Create and save gamer
         Gamer gamer = new Gamer(username, country);
-        return gamerRepository.save(gamer);
+        Gamer savedGamer = gamerRepository.save(gamer);
+
+        // Keep in-memory read models (e.g. the name cache) current
+        eventPublisher.publishEvent(new GamerCreatedEvent(savedGamer));
+        return savedGamer;
     }
     
-    // Check if gamer exists by username
+    // Usernames starting with the prefix (ignoring case), from the in-memory username index
+    public List<String> autocomplete(String prefix, Integer limit) {
+        // Validate input
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Prefix is required");
+        }
+
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("Invalid limit. Limit must be a positive number");
+        }
+
+        if (!usernameIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Autocomplete is not available until the username index is built");
+        }
+        return usernameIndex.complete(prefix.trim(), limit == null ? DEFAULT_COMPLETION_LIMIT : Math.min(limit, MAX_COMPLETION_LIMIT));
+    }
+
+    // Check if gamer exists by username, ignoring case
+    @Transactional(readOnly = true)
     public boolean existsByUsername(String username) {
-        return gamerRepository.findByUsername(username).isPresent();
+        return gamerRepository.findByUsernameKey(NameKey.of(username)).isPresent();
     }
     
-    // Find gamer by username
+    // Find gamer by username, ignoring case
+    @Transactional(readOnly = true)
     public Optional<Gamer> findByUsername(String username) {
-        return gamerRepository.findByUsername(username);
+        return gamerRepository.findByUsernameKey(NameKey.of(username));
     }
 }
\ No newline at end of file
@@ -1,20 +1,76 @@
 package com.example.gaming_directory.service;
 
+import com.example.gaming_directory.cache.CountryDictionary;
+import com.example.gaming_directory.cache.GameKey;
+import com.example.gaming_directory.cache.GamerKey;
+import com.example.gaming_directory.cache.NameIdCache;
+import com.example.gaming_directory.config.MetricsConfig;
+import com.example.gaming_directory.dto.CursorPage;
+import com.example.gaming_directory.dto.GamerMatch;
+import com.example.gaming_directory.dto.GamerSkillBatchResult;
+import com.example.gaming_directory.dto.GamerSkillCount;
+import com.example.gaming_directory.dto.GamerSkillDTO;
+import com.example.gaming_directory.dto.GamerSkillView;
+import com.example.gaming_directory.dto.SearchFacets;
 import com.example.gaming_directory.entity.Game;
 import com.example.gaming_directory.entity.Gamer;
 import com.example.gaming_directory.entity.GamerSkill;
 import com.example.gaming_directory.enums.Level;
+import com.example.gaming_directory.event.GamerSkillChangedEvent;
 import com.example.gaming_directory.repository.GameRepository;
 import com.example.gaming_directory.repository.GamerRepository;
 import com.example.gaming_directory.repository.GamerSkillRepository;
+import com.example.gaming_directory.search.GameNameIndex;
+import com.example.gaming_directory.search.GamerSkillIndex;
+import com.example.gaming_directory.search.GamerSkillStats;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class GamerSkillService {
+
+    // Clear the persistence context after this many streamed rows so heap use stays flat
+    private static final int STREAM_CLEAR_INTERVAL = 1000;
+
+    // Upper bound for one batch link request, so a single transaction stays a reasonable size
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    // Number of teammates returned by matchmaking when no limit is given, and the most it returns
+    public static final int DEFAULT_MATCH_LIMIT = 10;
+    public static final int MAX_MATCH_LIMIT = 100;
+
+    // Statistics rows are listed by game, then level, then country (the order GamerSkillStats keeps them in)
+    private static final Comparator<GamerSkillCount> STATS_ORDER = Comparator.comparing(GamerSkillCount::gameName)
+        .thenComparing(GamerSkillCount::level)
+        .thenComparing(GamerSkillCount::country);
+    
+    @PersistenceContext
+    private EntityManager entityManager;
     
     @Autowired
     private GamerSkillRepository gamerSkillRepository;
@@ -24,9 +80,57 @@ public class GamerSkillService {
     
     @Autowired
     private GameRepository gameRepository;
+
+    @Autowired
+    private GamerSkillIndex gamerSkillIndex;
+
+    @Autowired
+    private NameIdCache nameIdCache;
+
+    @Autowired
+    private GameNameIndex gameNameIndex;
+
+    @Autowired
+    private GamerSkillStats gamerSkillStats;
+
+    @Autowired
+    private CountryDictionary countryDictionary;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     // Create a new gamer-game link with skill level
+    @Transactional
     public GamerSkill linkGamerToGame(String username, String gameName, Level level) {
+        ResolvedLink link = resolveLink(username, gameName, level);
+        Gamer gamer = link.gamer().toGamer();
+        Game game = link.game().toGame();
+        
+        // Check if gamer-game combination already exists
+        Optional<GamerSkill> existingSkill = gamerSkillRepository
+            .findByGamerIdAndGameId(gamer.getId(), game.getId());
+        
+        GamerSkill gamerSkill;
+        Level previousLevel = null;
+        if (existingSkill.isPresent()) {
+            // Update existing skill level
+            gamerSkill = existingSkill.get();
+            previousLevel = gamerSkill.getLevel();
+            gamerSkill.setLevel(level);
+        } else {
+            // Create new gamer-game link
+            gamerSkill = new GamerSkill(gamer, game, level);
+        }
+        
+        GamerSkill savedGamerSkill = gamerSkillRepository.save(gamerSkill);
+
+        // Keep in-memory read models (e.g. the search index) current
+        eventPublisher.publishEvent(new GamerSkillChangedEvent(savedGamerSkill, previousLevel));
+        return savedGamerSkill;
+    }
+    
+    // Validate a link and resolve its gamer and game from the name cache (no database read on a hit)
+    public ResolvedLink resolveLink(String username, String gameName, Level level) {
         // Validate input
         if (username == null || username.trim().isEmpty()) {
             throw new IllegalArgumentException("Username is required");
@@ -44,40 +148,147 @@ public class GamerSkillService {
         username = username.trim();
         gameName = gameName.trim();
         
-        // Find gamer and game
-        Optional<Gamer> gamerOpt = gamerRepository.findByUsername(username);
-        Optional<Game> gameOpt = gameRepository.findByName(gameName);
+        Optional<GamerKey> gamerKey = nameIdCache.findGamer(username);
+        Optional<GameKey> gameKey = nameIdCache.findGame(gameName);
         
-        if (gamerOpt.isEmpty()) {
+        if (gamerKey.isEmpty()) {
             throw new IllegalArgumentException("Gamer not found with username: " + username);
         }
         
-        if (gameOpt.isEmpty()) {
-            throw new IllegalArgumentException("Game not found with name: " + gameName);
+        if (gameKey.isEmpty()) {
+            throw new IllegalArgumentException(gameNotFound(gameName));
         }
-        
-        Gamer gamer = gamerOpt.get();
-        Game game = gameOpt.get();
-        
-        // Check if gamer-game combination already exists
-        Optional<GamerSkill> existingSkill = gamerSkillRepository
-            .findByGamerIdAndGameId(gamer.getId(), game.getId());
-        
-        GamerSkill gamerSkill;
-        if (existingSkill.isPresent()) {
-            // Update existing skill level
-            gamerSkill = existingSkill.get();
-            gamerSkill.setLevel(level);
-        } else {
-            // Create new gamer-game link
-            gamerSkill = new GamerSkill(gamer, game, level);
+        return new ResolvedLink(gamerKey.get(), gameKey.get(), level);
+    }
+
+    // A validated link request: the gamer and game it refers to and the level to set
+    public record ResolvedLink(GamerKey gamer, GameKey game, Level level) {}
+
+    // Create or update many gamer-game links in one transaction. Names and existing skills are loaded with one query each,
+    // new skills get their ids from the pooled sequence, and all inserts/updates go out as JDBC batches at commit.
+    // Invalid entries (missing fields, unknown gamer or game) are reported in the results instead of failing the batch.
+    @Transactional
+    public List<GamerSkillBatchResult> linkGamersToGames(List<GamerSkillDTO> entries) {
+        if (entries == null || entries.isEmpty()) {
+            throw new IllegalArgumentException("At least one entry is required");
         }
-        
-        return gamerSkillRepository.save(gamerSkill);
+
+        if (entries.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Too many entries. A batch can contain at most " + MAX_BATCH_SIZE + " entries");
+        }
+
+        // Validate every entry and collect the names to resolve
+        List<GamerSkillBatchResult> results = new ArrayList<>(entries.size());
+        Set<String> usernames = new HashSet<>();
+        Set<String> gameNames = new HashSet<>();
+        for (int i = 0; i < entries.size(); i++) {
+            GamerSkillDTO entry = entries.get(i);
+            String error = validateEntry(entry);
+            if (error != null) {
+                results.add(GamerSkillBatchResult.failed(i, entry, error));
+                continue;
+            }
+            GamerSkillBatchResult result = new GamerSkillBatchResult(i, entry);
+            result.setUsername(entry.getUsername().trim());
+            result.setGameName(entry.getGameName().trim());
+            usernames.add(result.getUsername());
+            gameNames.add(result.getGameName());
+            results.add(result);
+        }
+
+        Map<String, GamerKey> gamers = usernames.isEmpty() ? Map.of() : nameIdCache.findGamers(usernames);
+        Map<String, GameKey> games = gameNames.isEmpty() ? Map.of() : nameIdCache.findGames(gameNames);
+
+        // Existing skills of the resolved gamers in the resolved games, by gamer and game id
+        Map<SkillKey, GamerSkill> skills = new HashMap<>();
+        if (!gamers.isEmpty() && !games.isEmpty()) {
+            List<Long> gamerIds = gamers.values().stream().map(GamerKey::id).toList();
+            List<Long> gameIds = games.values().stream().map(GameKey::id).toList();
+            for (GamerSkill skill : gamerSkillRepository.findByGamerIdInAndGameIdIn(gamerIds, gameIds)) {
+                skills.put(new SkillKey(skill.getGamer().getId(), skill.getGame().getId()), skill);
+            }
+        }
+
+        // Apply the entries in order; a pair listed twice ends up with the level of its last entry
+        GamerSkill[] skillByEntry = new GamerSkill[entries.size()];
+        List<GamerSkill> newSkills = new ArrayList<>();
+        Map<GamerSkill, Level> previousLevels = new LinkedHashMap<>();
+        for (GamerSkillBatchResult result : results) {
+            if (result.getStatus() == GamerSkillBatchResult.Status.FAILED) {
+                continue;
+            }
+            GamerKey gamerKey = gamers.get(result.getUsername());
+            GameKey gameKey = games.get(result.getGameName());
+            if (gamerKey == null) {
+                result.setStatus(GamerSkillBatchResult.Status.FAILED);
+                result.setError("Gamer not found with username: " + result.getUsername());
+                continue;
+            }
+            if (gameKey == null) {
+                result.setStatus(GamerSkillBatchResult.Status.FAILED);
+                result.setError(gameNotFound(result.getGameName()));
+                continue;
+            }
+
+            SkillKey key = new SkillKey(gamerKey.id(), gameKey.id());
+            GamerSkill skill = skills.get(key);
+            if (skill == null) {
+                skill = new GamerSkill(gamerKey.toGamer(), gameKey.toGame(), result.getLevel());
+                skills.put(key, skill);
+                newSkills.add(skill);
+                previousLevels.put(skill, null);
+                result.setStatus(GamerSkillBatchResult.Status.CREATED);
+            } else {
+                if (!previousLevels.containsKey(skill)) {
+                    previousLevels.put(skill, skill.getLevel());
+                }
+                skill.setLevel(result.getLevel()); // managed entity, flushed as a batched update
+                result.setStatus(GamerSkillBatchResult.Status.UPDATED);
+            }
+            skillByEntry[result.getIndex()] = skill;
+        }
+
+        // Persisting assigns sequence ids without an insert per row; the inserts are flushed in batches
+        gamerSkillRepository.saveAll(newSkills);
+
+        for (GamerSkillBatchResult result : results) {
+            GamerSkill skill = skillByEntry[result.getIndex()];
+            if (skill != null) {
+                result.setSkillId(skill.getId());
+            }
+        }
+
+        // One event per changed skill, with its level from before the batch
+        previousLevels.forEach((skill, previousLevel) ->
+            eventPublisher.publishEvent(new GamerSkillChangedEvent(skill, previousLevel)));
+        return results;
+    }
+
+    // Error message for an incomplete batch entry, or null when it is valid
+    private static String validateEntry(GamerSkillDTO entry) {
+        if (entry == null) {
+            return "Entry is required";
+        }
+
+        if (entry.getUsername() == null || entry.getUsername().trim().isEmpty()) {
+            return "Username is required";
+        }
+
+        if (entry.getGameName() == null || entry.getGameName().trim().isEmpty()) {
+            return "Game name is required";
+        }
+
+        if (entry.getLevel() == null) {
+            return "Level is required";
+        }
+        return null;
     }
+
+    private record SkillKey(Long gamerId, Long gameId) {}
     
-    // Get gamers by level and game name
-    public List<GamerSkill> getGamersByLevelAndGame(String gameName, Level level) {
+    // Get one page of gamers by level and game name (in any case)
+    @Transactional(readOnly = true)
+    public CursorPage<GamerSkillView> getGamersByLevelAndGame(String gameName, Level level, Long after, Integer limit) {
         // Validate input
         if (gameName == null || gameName.trim().isEmpty()) {
             throw new IllegalArgumentException("Game name is required");
@@ -87,30 +298,235 @@ public class GamerSkillService {
             throw new IllegalArgumentException("Level parameter is required");
         }
         
-        return gamerSkillRepository.findByGame_NameAndLevel(gameName, level);
+        int pageSize = CursorPage.resolveLimit(limit);
+        long afterId = CursorPage.resolveAfter(after);
+        Optional<GameKey> game = findGame(gameName);
+        if (game.isEmpty()) {
+            return new CursorPage<>(List.of(), null, pageSize);
+        }
+
+        if (gamerSkillIndex.isReady()) {
+            return searchIndex(level, game.get().name(), null, afterId, pageSize);
+        }
+
+        List<GamerSkillView> gamerSkills = gamerSkillRepository.findByGame_IdAndLevel(
+            game.get().id(), level, afterId, Limit.of(pageSize + 1));
+        return CursorPage.of(gamerSkills, pageSize, GamerSkillView::id);
     }
     
-    // Search gamers based on level, game name, and geography
-    public List<GamerSkill> searchGamers(Level level, String gameName, String country) {
-        return gamerSkillRepository.findByLevelAndGameNameAndCountry(level, gameName, country);
+    // Search one page of gamers based on level, game name, and geography. The game may be given in any case and the
+    // country by any alias ("us", "United States"); both are resolved to the stored name (and the game to its id for the
+    // database), so the filters are equalities. With facets, the page also counts all matches per level, game and country for the filters that were left open.
+    @Transactional(readOnly = true)
+    public CursorPage<GamerSkillView> searchGamers(Level level, String gameName, String country, Long after, Integer limit, boolean facets) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        long afterId = CursorPage.resolveAfter(after);
+        Long gameId = null;
+        if (gameName != null) {
+            Optional<GameKey> game = findGame(gameName);
+            if (game.isEmpty()) {
+                return new CursorPage<>(List.of(), null, pageSize);
+            }
+            gameName = game.get().name();
+            gameId = game.get().id();
+        }
+        if (country != null) {
+            Optional<String> storedCountry = countryDictionary.findName(country);
+            if (storedCountry.isEmpty()) {
+                return new CursorPage<>(List.of(), null, pageSize);
+            }
+            country = storedCountry.get();
+        }
+
+        if (gamerSkillIndex.isReady()) {
+            RoaringBitmap matches = gamerSkillIndex.search(level, gameName, country);
+            CursorPage<GamerSkillView> page = pageOf(matches, afterId, pageSize);
+            if (facets) {
+                // Counted from the same match bitmap the page was cut from
+                page.setFacets(gamerSkillIndex.facets(matches, level == null, gameName == null, country == null));
+            }
+            return page;
+        }
+
+        List<GamerSkillView> gamerSkills = gamerSkillRepository.findByLevelAndGameIdAndCountry(
+            level, gameId, country, afterId, Limit.of(pageSize + 1));
+        CursorPage<GamerSkillView> page = CursorPage.of(gamerSkills, pageSize, GamerSkillView::id);
+        if (facets) {
+            // One grouped aggregate over the same filters gives every facet
+            List<GamerSkillCount> counts = gamerSkillRepository.countByLevelAndGameIdAndCountry(level, gameId, country);
+            page.setFacets(SearchFacets.of(counts, level == null, gameName == null, country == null));
+        }
+        return page;
+    }
+
+    // Match the filters against the in-memory index, then load only the rows of the page by primary key
+    private CursorPage<GamerSkillView> searchIndex(Level level, String gameName, String country, long afterId, int pageSize) {
+        return pageOf(gamerSkillIndex.search(level, gameName, country), afterId, pageSize);
+    }
+
+    // The page of matches after the cursor, loaded by primary key
+    private CursorPage<GamerSkillView> pageOf(RoaringBitmap matches, long afterId, int pageSize) {
+        List<Long> ids = GamerSkillIndex.idsAfter(matches, afterId, pageSize + 1);
+
+        List<GamerSkillView> gamerSkills = ids.isEmpty()
+            ? List.of()
+            : gamerSkillRepository.findViewsByIdIn(ids);
+        return CursorPage.of(gamerSkills, pageSize, GamerSkillView::id);
+    }
+    
+    // Rank teammates for a gamer in one of their games from the in-memory index, then load only the returned rows.
+    // Empty when the gamer does not exist.
+    @Transactional(readOnly = true)
+    public Optional<List<GamerMatch>> findTeammates(Long gamerId, String gameName, Integer limit) {
+        // Validate input
+        if (gamerId == null || gamerId <= 0) {
+            throw new IllegalArgumentException("Invalid ID. ID must be a positive number");
+        }
+
+        if (gameName == null || gameName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Game name is required");
+        }
+
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("Invalid limit. Limit must be a positive number");
+        }
+        int count = limit == null ? DEFAULT_MATCH_LIMIT : Math.min(limit, MAX_MATCH_LIMIT);
+        gameName = gameName.trim();
+
+        Optional<GameKey> gameKey = nameIdCache.findGame(gameName);
+        if (gameKey.isEmpty()) {
+            throw new IllegalArgumentException(gameNotFound(gameName));
+        }
+
+        // The gamer's own skill gives the level and country to match against
+        Optional<GamerSkill> ownSkill = gamerSkillRepository.findByGamerIdAndGameId(gamerId, gameKey.get().id());
+        if (ownSkill.isEmpty()) {
+            if (!gamerRepository.existsById(gamerId)) {
+                return Optional.empty();
+            }
+            throw new IllegalArgumentException("Gamer " + gamerId + " does not play " + gameName);
+        }
+
+        if (!gamerSkillIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Matchmaking is not available until the search index is built");
+        }
+
+        GamerSkill skill = ownSkill.get();
+        List<GamerSkillIndex.Match> ranked = gamerSkillIndex.rankTeammates(
+            skill.getId(), skill.getLevel(), skill.getGameName(), skill.getGamerCountry(), count);
+        if (ranked.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        Map<Long, GamerSkillView> views = gamerSkillRepository
+            .findViewsByIdIn(ranked.stream().map(GamerSkillIndex.Match::skillId).toList())
+            .stream()
+            .collect(Collectors.toMap(GamerSkillView::id, Function.identity()));
+        return Optional.of(ranked.stream()
+            .filter(match -> views.containsKey(match.skillId()))
+            .map(match -> GamerMatch.of(views.get(match.skillId()), match.score()))
+            .toList());
+    }
+
+    // Number of players per game, level and country, optionally filtered like the search. Read from the in-memory
+    // counters, so the cost depends on the number of groups, not on the number of gamer skills.
+    @Transactional(readOnly = true)
+    public List<GamerSkillCount> getStats(Level level, String gameName, String country) {
+        if (gameName != null) {
+            Optional<GameKey> game = findGame(gameName);
+            if (game.isEmpty()) {
+                return List.of();
+            }
+            gameName = game.get().name();
+        }
+        if (country != null) {
+            Optional<String> storedCountry = countryDictionary.findName(country);
+            if (storedCountry.isEmpty()) {
+                return List.of();
+            }
+            country = storedCountry.get();
+        }
+
+        Stream<GamerSkillCount> counts = gamerSkillStats.isReady()
+            ? gamerSkillStats.counts().stream()
+            : gamerSkillRepository.countByGameLevelAndCountry().stream().sorted(STATS_ORDER);
+        String gameFilter = gameName;
+        String countryFilter = country;
+        return counts
+            .filter(count -> level == null || count.level() == level)
+            .filter(count -> gameFilter == null || count.gameName().equals(gameFilter))
+            .filter(count -> countryFilter == null || count.country().equals(countryFilter))
+            .toList();
+    }
+
+    // Stream every gamer skill matching the search to the consumer, row by row from a forward-only cursor.
+    // Nothing is collected, and the persistence context is cleared periodically, so memory does not grow with the match count.
+    @Transactional(readOnly = true)
+    public long streamGamers(Level level, String gameName, String country, Consumer<GamerSkill> consumer) {
+        long count = 0;
+        Long gameId = null;
+        if (gameName != null) {
+            Optional<GameKey> game = findGame(gameName);
+            if (game.isEmpty()) {
+                return count;
+            }
+            gameId = game.get().id();
+        }
+        if (country != null) {
+            Optional<String> storedCountry = countryDictionary.findName(country);
+            if (storedCountry.isEmpty()) {
+                return count;
+            }
+            country = storedCountry.get();
+        }
+
+        try (Stream<GamerSkill> gamerSkills = gamerSkillRepository.streamByLevelAndGameIdAndCountry(level, gameId, country)) {
+            Iterator<GamerSkill> iterator = gamerSkills.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                if (++count % STREAM_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
     }
     
+    // Id and stored name of a game given in any case, from the name cache
+    private Optional<GameKey> findGame(String gameName) {
+        return nameIdCache.findGame(gameName.trim());
+    }
+
+    // Error for an unknown game name, suggesting the closest known game ("counter strike" -> "Counter-Strike")
+    private String gameNotFound(String gameName) {
+        String message = "Game not found with name: " + gameName;
+        if (gameNameIndex.isReady()) {
+            List<GameNameIndex.Match> closest = gameNameIndex.search(gameName, 1);
+            if (!closest.isEmpty()) {
+                message += ". Did you mean '" + closest.get(0).name() + "'?";
+            }
+        }
+        return message;
+    }
+
     // Get all gamer skills
+    @Transactional(readOnly = true)
     public List<GamerSkill> getAllGamerSkills() {
         return gamerSkillRepository.findAll();
     }
     
     // Check if gamer exists by username
     public boolean gamerExists(String username) {
-        return gamerRepository.findByUsername(username).isPresent();
+        return nameIdCache.findGamer(username).isPresent();
     }
     
     // Check if game exists by name
     public boolean gameExists(String gameName) {
-        return gameRepository.findByName(gameName).isPresent();
+        return nameIdCache.findGame(gameName).isPresent();
     }
 
     // Get gamer skill by ID
+    @Transactional(readOnly = true)
     public Optional<GamerSkill> getGamerSkillById(Long id) {
         if (id == null || id <= 0) {
             throw new IllegalArgumentException("Invalid ID. ID must be a positive number");
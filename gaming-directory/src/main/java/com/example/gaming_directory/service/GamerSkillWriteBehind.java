@@ -0,0 +1,223 @@
+package com.example.gaming_directory.service;
+
+import com.example.gaming_directory.dto.GamerSkillBatchResult;
+import com.example.gaming_directory.dto.GamerSkillDTO;
+import com.example.gaming_directory.dto.GamerSkillOperation;
+import com.example.gaming_directory.enums.Level;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Write-behind mode for single links (gaming.write-behind.enabled=true). A link is validated against the name cache and
+// queued, and the request returns right away with an operation id. One background writer drains the queue: repeated
+// links of the same gamer and game in a drained batch are collapsed into one write with the last level, and the batch
+// is written with linkGamersToGames, i.e. one transaction and JDBC batches. The queue is bounded; when it stays full
+// for offerTimeout the link is rejected, so a spike slows clients down instead of exhausting memory.
+@Service
+public class GamerSkillWriteBehind implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GamerSkillWriteBehind.class);
+
+    // How often an idle writer checks whether it has been stopped
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    @Autowired
+    private GamerSkillService gamerSkillService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final BlockingQueue<PendingLink> queue;
+
+    // Pending operations and the outcome of written ones, until they expire
+    private final Cache<String, GamerSkillOperation> operations;
+
+    private volatile boolean running;
+    // Links are accepted from creation (the writer picks them up once started) until shutdown
+    private volatile boolean stopped;
+    private Thread writer;
+
+    public GamerSkillWriteBehind(
+            @Value("${gaming.write-behind.enabled:false}") boolean enabled,
+            @Value("${gaming.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${gaming.write-behind.batch-size:1000}") int batchSize,
+            @Value("${gaming.write-behind.offer-timeout:100ms}") Duration offerTimeout,
+            @Value("${gaming.write-behind.operations.maximum-size:100000}") long maximumOperations,
+            @Value("${gaming.write-behind.operations.expire-after-write:10m}") Duration operationRetention) {
+        if (queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Write-behind queue capacity and batch size must be positive");
+        }
+        this.enabled = enabled;
+        // A batch is one linkGamersToGames call, which takes at most MAX_BATCH_SIZE entries
+        this.batchSize = Math.min(batchSize, GamerSkillService.MAX_BATCH_SIZE);
+        this.offerTimeout = offerTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.operations = Caffeine.newBuilder()
+            .maximumSize(maximumOperations)
+            .expireAfterWrite(operationRetention)
+            .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Validate the link and queue it for the writer. Invalid links (missing fields, unknown gamer or game) fail right
+    // away with IllegalArgumentException; empty when the queue is full (or shut down) and the client should retry.
+    public Optional<GamerSkillOperation> submit(String username, String gameName, Level level) {
+        GamerSkillService.ResolvedLink link = gamerSkillService.resolveLink(username, gameName, level);
+
+        String operationId = UUID.randomUUID().toString();
+        GamerSkillOperation operation = new GamerSkillOperation(
+            operationId, link.gamer().username(), link.game().name(), link.level());
+        // Recorded before queueing, so the writer's outcome can never be overwritten by the pending state
+        operations.put(operationId, operation);
+
+        if (!enabled || stopped || !offer(new PendingLink(operationId, link))) {
+            operations.invalidate(operationId);
+            return Optional.empty();
+        }
+        return Optional.of(operation);
+    }
+
+    // Current state of an operation; empty when it is unknown or has expired
+    public Optional<GamerSkillOperation> findOperation(String operationId) {
+        return Optional.ofNullable(operations.getIfPresent(operationId));
+    }
+
+    // Links waiting for the writer
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        Gauge.builder("gaming.write-behind.queue.size", this, GamerSkillWriteBehind::getQueueSize)
+            .description("Links waiting to be written")
+            .register(meterRegistry);
+        running = true;
+        writer = Thread.ofPlatform().name("gamer-skill-writer").daemon().start(this::run);
+    }
+
+    // Stop accepting links, then wait for the writer to write everything still queued
+    @Override
+    public void stop() {
+        stopped = true;
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stopped after the web server, so every link accepted before shutdown is still written
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void run() {
+        List<PendingLink> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            PendingLink first;
+            try {
+                first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+            // Take whatever else is waiting, so the batch grows with the load
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    // Write one batch and record the outcome of each operation in it. Operations collapsed into the same write share
+    // its outcome; when the whole batch fails, each of its operations fails.
+    private void write(List<PendingLink> batch) {
+        Map<SkillKey, GamerSkillDTO> entries = new LinkedHashMap<>();
+        for (PendingLink pending : batch) {
+            GamerSkillService.ResolvedLink link = pending.link();
+            entries.put(SkillKey.of(link), new GamerSkillDTO(link.gamer().username(), link.game().name(), link.level()));
+        }
+
+        Map<SkillKey, GamerSkillBatchResult> results = new LinkedHashMap<>();
+        try {
+            List<SkillKey> keys = new ArrayList<>(entries.keySet());
+            List<GamerSkillBatchResult> written = gamerSkillService.linkGamersToGames(new ArrayList<>(entries.values()));
+            for (int i = 0; i < keys.size(); i++) {
+                results.put(keys.get(i), written.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Writing {} queued gamer skill links failed", entries.size(), e);
+        }
+
+        for (PendingLink pending : batch) {
+            GamerSkillOperation operation = operations.getIfPresent(pending.operationId());
+            if (operation == null) {
+                continue;
+            }
+            GamerSkillBatchResult result = results.get(SkillKey.of(pending.link()));
+            operations.put(pending.operationId(), result == null
+                ? operation.completed(GamerSkillOperation.Status.FAILED, null, "The link could not be written, please retry")
+                : operation.completed(GamerSkillOperation.Status.valueOf(result.getStatus().name()), result.getSkillId(), result.getError()));
+        }
+        log.debug("Wrote {} queued gamer skill links as {} writes", batch.size(), entries.size());
+    }
+
+    private boolean offer(PendingLink pending) {
+        try {
+            return queue.offer(pending, offerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record PendingLink(String operationId, GamerSkillService.ResolvedLink link) {}
+
+    private record SkillKey(Long gamerId, Long gameId) {
+
+        static SkillKey of(GamerSkillService.ResolvedLink link) {
+            return new SkillKey(link.gamer().id(), link.game().id());
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.gaming_directory.service;
+
+import com.example.gaming_directory.cache.CountryDictionary;
+import com.example.gaming_directory.cache.GameKey;
+import com.example.gaming_directory.cache.GamerKey;
+import com.example.gaming_directory.config.MetricsConfig;
+import com.example.gaming_directory.dto.ImportReport;
+import com.example.gaming_directory.dto.ImportRow;
+import com.example.gaming_directory.entity.Game;
+import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.entity.GamerSkill;
+import com.example.gaming_directory.entity.NameKey;
+import com.example.gaming_directory.enums.ImportFormat;
+import com.example.gaming_directory.enums.Level;
+import com.example.gaming_directory.event.GameCreatedEvent;
+import com.example.gaming_directory.event.GamerCreatedEvent;
+import com.example.gaming_directory.event.GamerSkillChangedEvent;
+import com.example.gaming_directory.repository.GameRepository;
+import com.example.gaming_directory.repository.GamerRepository;
+import com.example.gaming_directory.repository.GamerSkillRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Bulk import of gamers, games and skills from a CSV or NDJSON stream.
+// Rows are parsed one at a time and written in chunks, each chunk in its own transaction with set-based
+// existence checks (one IN query per table) and batched inserts, so memory stays flat for any input size.
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class ImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportService.class);
+
+    // Log progress every this many rows
+    private static final long PROGRESS_INTERVAL = 100_000;
+
+    private static final ObjectReader CSV_READER = new CsvMapper()
+        .readerFor(ImportRow.class)
+        .with(CsvSchema.emptySchema().withHeader());
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private GamerRepository gamerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GamerSkillRepository gamerSkillRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private CountryDictionary countryDictionary;
+
+    @Value("${gaming.import.chunk-size:5000}")
+    private int chunkSize;
+
+    // Import every row of the stream. Invalid rows are rejected and reported; malformed input stops the import,
+    // keeping every row read before it.
+    public ImportReport importRows(InputStream input, ImportFormat format) throws IOException {
+        if (format == null) {
+            throw new IllegalArgumentException("Import format is required");
+        }
+
+        ImportReport report = new ImportReport();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        long start = System.nanoTime();
+        boolean completed = false;
+
+        try {
+            try (MappingIterator<ImportRow> rows = reader(format).readValues(input)) {
+                while (rows.hasNextValue()) {
+                    ImportRow row = rows.nextValue();
+                    report.setRowsRead(report.getRowsRead() + 1);
+
+                    String error = validateRow(row);
+                    if (error != null) {
+                        report.reject(report.getRowsRead(), error);
+                    } else {
+                        chunk.add(row);
+                    }
+
+                    if (chunk.size() == chunkSize) {
+                        transaction.executeWithoutResult(status -> writeChunk(chunk, report));
+                        chunk.clear();
+                    }
+                    if (report.getRowsRead() % PROGRESS_INTERVAL == 0) {
+                        logProgress(report, start);
+                    }
+                }
+                completed = true;
+            } catch (JsonProcessingException e) {
+                report.reject(report.getRowsRead() + 1, "Malformed input, import stopped: " + e.getOriginalMessage());
+            }
+
+            // Rows read before the end (or before malformed input) are still imported
+            if (!chunk.isEmpty()) {
+                transaction.executeWithoutResult(status -> writeChunk(chunk, report));
+            }
+        } finally {
+            report.finish(System.nanoTime() - start, completed);
+        }
+
+        log.info("Import {} in {} ms: {} rows read, {} rejected, {} gamers, {} games and {} skills created, {} skills updated ({} rows/s)",
+            completed ? "completed" : "stopped", report.getElapsedMillis(), report.getRowsRead(), report.getRowsRejected(),
+            report.getGamersCreated(), report.getGamesCreated(), report.getSkillsCreated(), report.getSkillsUpdated(),
+            report.getRowsPerSecond());
+        return report;
+    }
+
+    private ObjectReader reader(ImportFormat format) {
+        return format == ImportFormat.CSV ? CSV_READER : objectMapper.readerFor(ImportRow.class);
+    }
+
+    // Error message for an invalid row, or null when it can be imported
+    private String validateRow(ImportRow row) {
+        Set<ConstraintViolation<ImportRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+
+        if (countryDictionary.findCanonicalName(row.getCountry()).isEmpty()) {
+            return "Unknown country '" + row.getCountry() + "'";
+        }
+
+        if ((row.getGameName() == null) != (row.getLevel() == null)) {
+            return "Game name and level must be given together";
+        }
+
+        if (row.getLevel() != null && toLevel(row.getLevel()) == null) {
+            return "Invalid level '" + row.getLevel() + "'. Valid values are: " + Arrays.toString(Level.values());
+        }
+        return null;
+    }
+
+    // Write one chunk of valid rows: existing gamers, games and skills are looked up with one query each,
+    // everything new is inserted in JDBC batches, and the persistence context is cleared afterwards
+    private void writeChunk(List<ImportRow> rows, ImportReport report) {
+        // Dedupe within the chunk by name key, so "Joey" and "joey" are one gamer: the first row of a gamer decides its
+        // username and country, the first row of a game its name, and the last row of a skill its level
+        Map<String, String> usernames = new LinkedHashMap<>();
+        Map<String, String> countries = new HashMap<>();
+        Map<String, String> gameNames = new LinkedHashMap<>();
+        Map<SkillKey, Level> levels = new LinkedHashMap<>();
+        for (ImportRow row : rows) {
+            String usernameKey = NameKey.of(row.getUsername());
+            if (usernames.putIfAbsent(usernameKey, row.getUsername()) == null) {
+                countries.put(usernameKey, countryDictionary.canonicalName(row.getCountry()));
+            }
+            if (row.getGameName() != null) {
+                String gameNameKey = NameKey.of(row.getGameName());
+                gameNames.putIfAbsent(gameNameKey, row.getGameName());
+                levels.put(new SkillKey(usernameKey, gameNameKey), toLevel(row.getLevel()));
+            }
+        }
+
+        // Gamers: existing ones as key stubs, the rest created
+        Map<String, Gamer> gamers = new HashMap<>();
+        Set<Long> existingGamerIds = new LinkedHashSet<>();
+        for (GamerKey key : gamerRepository.findKeysByUsernameKeyIn(usernames.keySet())) {
+            gamers.put(NameKey.of(key.username()), key.toGamer());
+            existingGamerIds.add(key.id());
+        }
+        List<Gamer> newGamers = new ArrayList<>();
+        usernames.forEach((usernameKey, username) -> {
+            if (!gamers.containsKey(usernameKey)) {
+                Gamer gamer = new Gamer(username, countries.get(usernameKey));
+                gamers.put(usernameKey, gamer);
+                newGamers.add(gamer);
+            }
+        });
+        gamerRepository.saveAll(newGamers);
+
+        // Games: same as gamers
+        Map<String, Game> games = new HashMap<>();
+        if (!gameNames.isEmpty()) {
+            for (GameKey key : gameRepository.findKeysByNameKeyIn(gameNames.keySet())) {
+                games.put(NameKey.of(key.name()), key.toGame());
+            }
+        }
+        List<Game> newGames = new ArrayList<>();
+        gameNames.forEach((gameNameKey, gameName) -> {
+            if (!games.containsKey(gameNameKey)) {
+                Game game = new Game(gameName);
+                games.put(gameNameKey, game);
+                newGames.add(game);
+            }
+        });
+        gameRepository.saveAll(newGames);
+
+        // Skills: only gamers that existed before this chunk can already have some
+        Map<Long, Map<Long, GamerSkill>> existingSkills = new HashMap<>();
+        if (!existingGamerIds.isEmpty() && !levels.isEmpty()) {
+            Set<Long> gameIds = new LinkedHashSet<>();
+            games.values().forEach(game -> gameIds.add(game.getId()));
+            for (GamerSkill skill : gamerSkillRepository.findByGamerIdInAndGameIdIn(existingGamerIds, gameIds)) {
+                existingSkills.computeIfAbsent(skill.getGamer().getId(), id -> new HashMap<>()).put(skill.getGame().getId(), skill);
+            }
+        }
+
+        List<GamerSkill> newSkills = new ArrayList<>();
+        List<GamerSkillChangedEvent> skillEvents = new ArrayList<>();
+        levels.forEach((key, level) -> {
+            Gamer gamer = gamers.get(key.usernameKey());
+            Game game = games.get(key.gameNameKey());
+            GamerSkill skill = existingSkills.getOrDefault(gamer.getId(), Map.of()).get(game.getId());
+            if (skill == null) {
+                newSkills.add(new GamerSkill(gamer, game, level));
+            } else if (skill.getLevel() != level) {
+                Level previousLevel = skill.getLevel();
+                skill.setLevel(level); // managed entity, flushed as a batched update
+                skillEvents.add(new GamerSkillChangedEvent(skill, previousLevel));
+                report.setSkillsUpdated(report.getSkillsUpdated() + 1);
+            }
+        });
+        gamerSkillRepository.saveAll(newSkills);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // Keep in-memory read models current (delivered once the chunk is committed)
+        newGamers.forEach(gamer -> eventPublisher.publishEvent(new GamerCreatedEvent(gamer)));
+        newGames.forEach(game -> eventPublisher.publishEvent(new GameCreatedEvent(game)));
+        newSkills.forEach(skill -> eventPublisher.publishEvent(new GamerSkillChangedEvent(skill, null)));
+        skillEvents.forEach(eventPublisher::publishEvent);
+
+        report.setGamersCreated(report.getGamersCreated() + newGamers.size());
+        report.setGamesCreated(report.getGamesCreated() + newGames.size());
+        report.setSkillsCreated(report.getSkillsCreated() + newSkills.size());
+        report.setChunks(report.getChunks() + 1);
+    }
+
+    private void logProgress(ImportReport report, long start) {
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        log.info("Import progress: {} rows read, {} rejected ({} rows/s)",
+            report.getRowsRead(), report.getRowsRejected(), report.getRowsRead() * 1_000_000_000L / elapsedNanos);
+    }
+
+    private static Level toLevel(String level) {
+        try {
+            return Level.valueOf(level.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record SkillKey(String usernameKey, String gameNameKey) {}
+}
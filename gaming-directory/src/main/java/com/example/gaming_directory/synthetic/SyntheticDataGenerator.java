@@ -0,0 +1,256 @@
+package com.example.gaming_directory.synthetic;
+
+import com.example.gaming_directory.entity.NameKey;
+import com.example.gaming_directory.enums.Level;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Generates a production-shaped directory straight into the database: games named "Game 1".."Game N" with
+// Zipf-distributed popularity (Game 1 is the most played), gamers spread over countries by real-world gamer
+// population, and a skewed mix of levels. Gamers are written in slices by parallel workers with JDBC batch inserts.
+// Each slice has its own random seed, so the same properties always produce the same gamers and skills (only skill ids
+// depend on the order the slices finish in).
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    // Approximate share of the world's gamers per country (relative weights). Iceland is deliberately rare.
+    private static final String[] COUNTRIES = {
+        "USA", "China", "India", "Japan", "Brazil", "Germany", "UK", "France", "South Korea", "Mexico",
+        "Russia", "Indonesia", "Italy", "Spain", "Canada", "Turkey", "Philippines", "Australia", "Poland", "Vietnam",
+        "Thailand", "Argentina", "Netherlands", "Sweden", "Belgium", "Denmark", "Norway", "Finland", "New Zealand", "Iceland"
+    };
+    private static final double[] COUNTRY_WEIGHTS = {
+        18, 16, 8, 6, 6, 4, 4, 3.5, 3, 3,
+        3, 3, 2.5, 2.5, 2, 2, 2, 1.5, 1.5, 1.5,
+        1.5, 1.2, 1, 0.7, 0.6, 0.4, 0.4, 0.4, 0.3, 0.03
+    };
+
+    private static final Level[] LEVELS = {Level.NOOB, Level.PRO, Level.INVINCIBLE};
+    private static final double[] LEVEL_WEIGHTS = {50, 35, 15};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyntheticDataProperties properties;
+
+    public SyntheticDataGenerator(DataSource dataSource, SyntheticDataProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.properties = properties;
+    }
+
+    public record Result(long gamers, long games, long skills, long elapsedMillis) {}
+
+    // Insert the dataset after any rows already in the tables (ids continue from the current maximum)
+    public Result generate() {
+        if (properties.getGamers() < 0 || properties.getGames() < 1 || properties.getSkillsPerGamer() < 0) {
+            throw new IllegalArgumentException("Invalid synthetic dataset size. Gamers and skills per gamer must not be negative, games must be positive");
+        }
+        if (properties.getThreads() < 1 || properties.getBatchSize() < 1) {
+            throw new IllegalArgumentException("Invalid synthetic dataset settings. Threads and batch size must be positive");
+        }
+
+        long start = System.nanoTime();
+        long firstGameId = maxId("games") + 1;
+        long firstGamerId = maxId("gamers") + 1;
+        AtomicLong nextSkillId = new AtomicLong(maxId("gamer_skills") + 1);
+
+        insertGames(firstGameId);
+        short[] countryIds = countryIds();
+
+        double[] gameCdf = cumulative(zipfWeights(properties.getGames(), properties.getZipfExponent()));
+        double[] countryCdf = cumulative(COUNTRY_WEIGHTS);
+        double[] levelCdf = cumulative(LEVEL_WEIGHTS);
+
+        int slices = (properties.getGamers() + properties.getBatchSize() - 1) / properties.getBatchSize();
+        AtomicLong skills = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads());
+        try {
+            List<Future<?>> futures = new ArrayList<>(slices);
+            for (int slice = 0; slice < slices; slice++) {
+                int sliceIndex = slice;
+                futures.add(executor.submit(() -> skills.addAndGet(insertSlice(
+                    sliceIndex, firstGamerId, firstGameId, nextSkillId, countryIds, gameCdf, countryCdf, levelCdf))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Synthetic data generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Synthetic data generation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        long rows = properties.getGamers() + properties.getGames() + skills.get();
+        log.info("Generated {} gamers, {} games and {} gamer skills in {} ms ({} rows/s, {} threads)",
+            properties.getGamers(), properties.getGames(), skills.get(), elapsedMillis,
+            rows * 1000 / Math.max(1, elapsedMillis), properties.getThreads());
+        return new Result(properties.getGamers(), properties.getGames(), skills.get(), elapsedMillis);
+    }
+
+    // Move the id sequences above the generated rows, so entities saved through JPA afterwards get fresh ids
+    public void restartSequences() {
+        for (String table : List.of("gamers", "games", "gamer_skills")) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM " + table + ")");
+        }
+    }
+
+    private void insertGames(long firstGameId) {
+        jdbcTemplate.batchUpdate("INSERT INTO games (id, name, name_key) VALUES (?, ?, ?)", new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                String name = "Game " + (i + 1);
+                statement.setLong(1, firstGameId + i);
+                statement.setString(2, name);
+                statement.setString(3, NameKey.of(name));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return properties.getGames();
+            }
+        });
+    }
+
+    // Ids of the countries in the country dictionary, by index in COUNTRIES (all canonical names)
+    private short[] countryIds() {
+        Map<String, Short> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM countries", row -> {
+            ids.put(row.getString(2), row.getShort(1));
+        });
+        short[] countryIds = new short[COUNTRIES.length];
+        for (int i = 0; i < COUNTRIES.length; i++) {
+            Short id = ids.get(COUNTRIES[i]);
+            if (id == null) {
+                throw new IllegalStateException("Country not in the dictionary: " + COUNTRIES[i]);
+            }
+            countryIds[i] = id;
+        }
+        return countryIds;
+    }
+
+    // Insert one slice of gamers and their skills; returns the number of skills
+    private long insertSlice(int slice, long firstGamerId, long firstGameId, AtomicLong nextSkillId, short[] countryIds,
+                             double[] gameCdf, double[] countryCdf, double[] levelCdf) {
+        SplittableRandom random = new SplittableRandom(properties.getSeed() * 1_000_003 + slice);
+        int from = slice * properties.getBatchSize();
+        int count = Math.min(properties.getBatchSize(), properties.getGamers() - from);
+        int maxSkills = Math.min(properties.getGames(), Math.max(1, 2 * properties.getSkillsPerGamer() - 1));
+
+        short[] countries = new short[count];
+        List<long[]> skillRows = new ArrayList<>(count * Math.max(1, properties.getSkillsPerGamer()));
+        int[] gameRanks = new int[maxSkills];
+        for (int i = 0; i < count; i++) {
+            long gamerId = firstGamerId + from + i;
+            countries[i] = countryIds[pick(countryCdf, random)];
+
+            int skillCount = properties.getSkillsPerGamer() == 0 ? 0 : 1 + random.nextInt(maxSkills);
+            int picked = pickDistinct(gameCdf, random, gameRanks, skillCount);
+            for (int s = 0; s < picked; s++) {
+                skillRows.add(new long[] {gamerId, firstGameId + gameRanks[s], pick(levelCdf, random)});
+            }
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO gamers (id, username, username_key, country_id) VALUES (?, ?, ?, ?)", new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                long gamerId = firstGamerId + from + i;
+                String username = "gamer" + gamerId;
+                statement.setLong(1, gamerId);
+                statement.setString(2, username);
+                statement.setString(3, NameKey.of(username));
+                statement.setShort(4, countries[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return count;
+            }
+        });
+
+        long firstSkillId = nextSkillId.getAndAdd(skillRows.size());
+        jdbcTemplate.batchUpdate("INSERT INTO gamer_skills (id, gamer_id, game_id, level) VALUES (?, ?, ?, ?)", new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                long[] row = skillRows.get(i);
+                statement.setLong(1, firstSkillId + i);
+                statement.setLong(2, row[0]);
+                statement.setLong(3, row[1]);
+                statement.setShort(4, LEVELS[(int) row[2]].getCode());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return skillRows.size();
+            }
+        });
+        return skillRows.size();
+    }
+
+    // Fill ranks with up to count distinct game ranks drawn from the popularity distribution
+    private static int pickDistinct(double[] gameCdf, SplittableRandom random, int[] ranks, int count) {
+        int picked = 0;
+        // Heavily skewed distributions keep drawing the same top games, so give up after a bounded number of tries
+        for (int attempt = 0; picked < count && attempt < count * 20; attempt++) {
+            int rank = pick(gameCdf, random);
+            boolean duplicate = false;
+            for (int i = 0; i < picked && !duplicate; i++) {
+                duplicate = ranks[i] == rank;
+            }
+            if (!duplicate) {
+                ranks[picked++] = rank;
+            }
+        }
+        return picked;
+    }
+
+    // Index drawn with probability proportional to its weight
+    private static int pick(double[] cdf, SplittableRandom random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1);
+    }
+
+    private static double[] zipfWeights(int size, double exponent) {
+        double[] weights = new double[size];
+        for (int rank = 1; rank <= size; rank++) {
+            weights[rank - 1] = 1.0 / Math.pow(rank, exponent);
+        }
+        return weights;
+    }
+
+    // Normalized running total of the weights, ending at 1.0
+    private static double[] cumulative(double[] weights) {
+        double total = Arrays.stream(weights).sum();
+        double[] cdf = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cdf[i] = sum / total;
+        }
+        return cdf;
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+}
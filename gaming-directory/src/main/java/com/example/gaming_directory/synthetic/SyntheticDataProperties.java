@@ -0,0 +1,87 @@
+package com.example.gaming_directory.synthetic;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Size and shape of the generated dataset (gaming.synthetic.* properties)
+@ConfigurationProperties(prefix = "gaming.synthetic")
+public class SyntheticDataProperties {
+
+    private int gamers = 200_000;
+    private int games = 500;
+
+    // Average number of games per gamer; each gamer gets between 1 and twice this minus one
+    private int skillsPerGamer = 5;
+
+    // Skew of game popularity: game of rank k is picked with weight 1 / k^exponent (0 = uniform)
+    private double zipfExponent = 1.0;
+
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int batchSize = 1_000;
+    private long seed = 42;
+
+    // Constructors
+    public SyntheticDataProperties() {}
+
+    public SyntheticDataProperties(int gamers, int games, int skillsPerGamer) {
+        this.gamers = gamers;
+        this.games = games;
+        this.skillsPerGamer = skillsPerGamer;
+    }
+
+    // Get and Set
+    public int getGamers() {
+        return gamers;
+    }
+
+    public void setGamers(int gamers) {
+        this.gamers = gamers;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public void setGames(int games) {
+        this.games = games;
+    }
+
+    public int getSkillsPerGamer() {
+        return skillsPerGamer;
+    }
+
+    public void setSkillsPerGamer(int skillsPerGamer) {
+        this.skillsPerGamer = skillsPerGamer;
+    }
+
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+
+    public void setZipfExponent(double zipfExponent) {
+        this.zipfExponent = zipfExponent;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+}
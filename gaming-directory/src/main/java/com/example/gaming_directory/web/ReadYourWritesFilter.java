@@ -0,0 +1,67 @@
+package com.example.gaming_directory.web;
+
+import com.example.gaming_directory.datasource.ReadYourWrites;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+// Read-your-writes for clients of a replicated database. Every write response carries the X-Read-Your-Writes header
+// with the time of the write; a client that sends it back on its reads gets them from the primary until the
+// replica is assumed to have caught up (maxLag). Reads without a (recent) token go to the replica as usual.
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Read-Your-Writes";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final Duration maxLag;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration maxLag, Clock clock) {
+        this.maxLag = maxLag;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            // Set before the body is written, the response may be committed by then
+            response.setHeader(HEADER, String.valueOf(clock.millis()));
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (!isRecentWrite(request.getHeader(HEADER))) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ReadYourWrites.activate();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    // Whether the token is the time of a write the replica may not have seen yet; malformed tokens are ignored
+    private boolean isRecentWrite(String token) {
+        if (token == null) {
+            return false;
+        }
+        try {
+            long age = clock.millis() - Long.parseLong(token.trim());
+            return age >= 0 && age <= maxLag.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
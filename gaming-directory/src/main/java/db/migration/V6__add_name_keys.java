@@ -0,0 +1,86 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Adds the case-folded NFKC lookup keys gamers.username_key and games.name_key (see NameKey) with unique constraints,
+// which replace the unique constraints on the names themselves. A Java migration because SQL has no NFKC normalization,
+// and the keys of existing rows must be exactly what the application computes. Flyway keeps no checksum of Java
+// migrations, so the key function is a frozen copy of NameKey.of as of this version rather than a call to it: a later
+// change to NameKey must come with its own migration, and NameKeyMigrationTest fails until it does.
+// Names that only differ in case (e.g. "Joey" and "joey") share a key, so they have to be renamed or merged first;
+// the migration lists them and fails instead of picking one.
+public class V6__add_name_keys extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        addKey(connection, "gamers", "username", "username_key", "uk_gamers_username");
+        addKey(connection, "games", "name", "name_key", "uk_games_name");
+    }
+
+    private void addKey(Connection connection, String table, String column, String keyColumn, String nameConstraint) throws SQLException {
+        // NFKC can expand a character into several, so the key may be longer than the name
+        execute(connection, "ALTER TABLE " + table + " ADD COLUMN " + keyColumn + " VARCHAR(1000)");
+
+        try (Statement select = connection.createStatement();
+             ResultSet rows = select.executeQuery("SELECT id, " + column + " FROM " + table);
+             PreparedStatement update = connection.prepareStatement("UPDATE " + table + " SET " + keyColumn + " = ? WHERE id = ?")) {
+            int batched = 0;
+            while (rows.next()) {
+                update.setString(1, nameKey(rows.getString(2)));
+                update.setLong(2, rows.getLong(1));
+                update.addBatch();
+                if (++batched % BATCH_SIZE == 0) {
+                    update.executeBatch();
+                }
+            }
+            update.executeBatch();
+        }
+
+        List<String> conflicts = new ArrayList<>();
+        try (Statement select = connection.createStatement();
+             ResultSet rows = select.executeQuery("SELECT LISTAGG(" + column + ", ', ') WITHIN GROUP (ORDER BY " + column + ") FROM "
+                 + table + " GROUP BY " + keyColumn + " HAVING COUNT(*) > 1")) {
+            while (rows.next()) {
+                conflicts.add("[" + rows.getString(1) + "]");
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            throw new IllegalStateException("Cannot add " + table + "." + keyColumn + ": these " + column
+                + "s only differ in case or encoding and must be renamed or merged first: " + String.join(" ", conflicts));
+        }
+
+        execute(connection, "ALTER TABLE " + table + " ALTER COLUMN " + keyColumn + " SET NOT NULL");
+        execute(connection, "ALTER TABLE " + table + " ADD CONSTRAINT uk_" + table + "_" + keyColumn + " UNIQUE (" + keyColumn + ")");
+        // Equal names have equal keys, so the key's constraint also keeps the names unique
+        execute(connection, "ALTER TABLE " + table + " DROP CONSTRAINT " + nameConstraint);
+    }
+
+    // NameKey.of as it was when this migration was written; never change it
+    static String nameKey(String name) {
+        if (name == null) {
+            return null;
+        }
+        String folded = Normalizer.normalize(name, Normalizer.Form.NFKC).toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+        return Normalizer.normalize(folded, Normalizer.Form.NFKC);
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+-- Baseline: the schema previously generated by Hibernate (ddl-auto=create-drop)
+
+CREATE TABLE gamers (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    username VARCHAR(255) NOT NULL,
+    country  VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_gamers PRIMARY KEY (id),
+    CONSTRAINT uk_gamers_username UNIQUE (username)
+);
+
+CREATE TABLE games (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_games PRIMARY KEY (id),
+    CONSTRAINT uk_games_name UNIQUE (name)
+);
+
+CREATE TABLE gamer_skills (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    gamer_id BIGINT NOT NULL,
+    game_id  BIGINT NOT NULL,
+    level    ENUM('NOOB', 'PRO', 'INVINCIBLE') NOT NULL,
+    CONSTRAINT pk_gamer_skills PRIMARY KEY (id),
+    CONSTRAINT uk_gamer_skills_gamer_game UNIQUE (gamer_id, game_id),
+    CONSTRAINT fk_gamer_skills_gamer FOREIGN KEY (gamer_id) REFERENCES gamers (id),
+    CONSTRAINT fk_gamer_skills_game FOREIGN KEY (game_id) REFERENCES games (id)
+);
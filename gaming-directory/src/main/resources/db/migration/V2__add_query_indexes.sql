@@ -0,0 +1,10 @@
+-- Indexes tuned to the repository queries. All list/search queries seek on id (keyset pagination),
+-- so id is the trailing column: the index both filters and returns rows in page order.
+
+-- GamerSkillRepository.findByGame_NameAndLevel: game_id = ? AND level = ? AND id > ? ORDER BY id
+-- (also serves the game-only search filter and the game_id foreign key)
+CREATE INDEX idx_gamer_skills_game_level_id ON gamer_skills (game_id, level, id);
+
+-- Country filter: gamers.country = ? joined to gamer_skills through gamer_id
+-- (gamer_skills.gamer_id is already covered by uk_gamer_skills_gamer_game)
+CREATE INDEX idx_gamers_country_id ON gamers (country, id);
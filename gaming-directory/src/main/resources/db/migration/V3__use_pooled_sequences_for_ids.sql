@@ -0,0 +1,15 @@
+-- Ids come from sequences instead of identity columns, so Hibernate can assign them before the insert and batch inserts.
+-- The sequences step by the entities' allocationSize (50): Hibernate hands out the 50 ids below each value it fetches.
+
+ALTER TABLE gamer_skills ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE gamers ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE games ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE gamers_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE games_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE gamer_skills_seq START WITH 1 INCREMENT BY 50;
+
+-- Continue above any existing rows
+ALTER SEQUENCE gamers_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM gamers);
+ALTER SEQUENCE games_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM games);
+ALTER SEQUENCE gamer_skills_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM gamer_skills);
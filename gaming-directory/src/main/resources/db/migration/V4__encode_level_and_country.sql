@@ -0,0 +1,31 @@
+-- Compact encoding: gamer_skills.level becomes the 2-byte Level code (NOOB 0, PRO 1, INVINCIBLE 2, see Level.getCode)
+-- and gamers.country a 2-byte reference to a dictionary table holding every country name once (see CountryDictionary).
+-- The query indexes on these columns are rebuilt on the new columns.
+
+CREATE TABLE countries (
+    id   SMALLINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_countries PRIMARY KEY (id),
+    CONSTRAINT uk_countries_name UNIQUE (name)
+);
+
+INSERT INTO countries (name) SELECT DISTINCT country FROM gamers ORDER BY country;
+
+ALTER TABLE gamers ADD COLUMN country_id SMALLINT;
+UPDATE gamers g SET country_id = (SELECT c.id FROM countries c WHERE c.name = g.country);
+ALTER TABLE gamers ALTER COLUMN country_id SET NOT NULL;
+ALTER TABLE gamers ADD CONSTRAINT fk_gamers_country FOREIGN KEY (country_id) REFERENCES countries (id);
+
+DROP INDEX idx_gamers_country_id;
+ALTER TABLE gamers DROP COLUMN country;
+CREATE INDEX idx_gamers_country_id ON gamers (country_id, id);
+
+ALTER TABLE gamer_skills ADD COLUMN level_code SMALLINT;
+UPDATE gamer_skills SET level_code = CASE level WHEN 'NOOB' THEN 0 WHEN 'PRO' THEN 1 WHEN 'INVINCIBLE' THEN 2 END;
+ALTER TABLE gamer_skills ALTER COLUMN level_code SET NOT NULL;
+
+DROP INDEX idx_gamer_skills_game_level_id;
+ALTER TABLE gamer_skills DROP COLUMN level;
+ALTER TABLE gamer_skills ALTER COLUMN level_code RENAME TO level;
+ALTER TABLE gamer_skills ADD CONSTRAINT ck_gamer_skills_level CHECK (level BETWEEN 0 AND 2);
+CREATE INDEX idx_gamer_skills_game_level_id ON gamer_skills (game_id, level, id);
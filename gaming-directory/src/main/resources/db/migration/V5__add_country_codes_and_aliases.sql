@@ -0,0 +1,1080 @@
+-- Canonical country dictionary: every ISO 3166-1 country with its alpha-2 code and one canonical name, plus the aliases
+-- a country may be given by (alpha-2 and alpha-3 codes, English names and common variants). Aliases are stored as
+-- lookup keys: trimmed, single spaces, upper case and without accents (see CountryDictionary.key).
+-- Existing countries that are an alias of an ISO country are merged into it; any others are kept, without a code.
+
+ALTER TABLE countries ADD COLUMN code CHAR(2);
+ALTER TABLE countries ADD CONSTRAINT uk_countries_code UNIQUE (code);
+
+MERGE INTO countries (code, name) KEY (name) VALUES
+    ('AD', 'Andorra'),
+    ('AE', 'United Arab Emirates'),
+    ('AF', 'Afghanistan'),
+    ('AG', 'Antigua and Barbuda'),
+    ('AI', 'Anguilla'),
+    ('AL', 'Albania'),
+    ('AM', 'Armenia'),
+    ('AO', 'Angola'),
+    ('AQ', 'Antarctica'),
+    ('AR', 'Argentina'),
+    ('AS', 'American Samoa'),
+    ('AT', 'Austria'),
+    ('AU', 'Australia'),
+    ('AW', 'Aruba'),
+    ('AX', 'Åland Islands'),
+    ('AZ', 'Azerbaijan'),
+    ('BA', 'Bosnia and Herzegovina'),
+    ('BB', 'Barbados'),
+    ('BD', 'Bangladesh'),
+    ('BE', 'Belgium'),
+    ('BF', 'Burkina Faso'),
+    ('BG', 'Bulgaria'),
+    ('BH', 'Bahrain'),
+    ('BI', 'Burundi'),
+    ('BJ', 'Benin'),
+    ('BL', 'Saint Barthélemy'),
+    ('BM', 'Bermuda'),
+    ('BN', 'Brunei'),
+    ('BO', 'Bolivia'),
+    ('BQ', 'Caribbean Netherlands'),
+    ('BR', 'Brazil'),
+    ('BS', 'Bahamas'),
+    ('BT', 'Bhutan'),
+    ('BV', 'Bouvet Island'),
+    ('BW', 'Botswana'),
+    ('BY', 'Belarus'),
+    ('BZ', 'Belize'),
+    ('CA', 'Canada'),
+    ('CC', 'Cocos (Keeling) Islands'),
+    ('CD', 'DR Congo'),
+    ('CF', 'Central African Republic'),
+    ('CG', 'Congo'),
+    ('CH', 'Switzerland'),
+    ('CI', 'Côte d''Ivoire'),
+    ('CK', 'Cook Islands'),
+    ('CL', 'Chile'),
+    ('CM', 'Cameroon'),
+    ('CN', 'China'),
+    ('CO', 'Colombia'),
+    ('CR', 'Costa Rica'),
+    ('CU', 'Cuba'),
+    ('CV', 'Cape Verde'),
+    ('CW', 'Curaçao'),
+    ('CX', 'Christmas Island'),
+    ('CY', 'Cyprus'),
+    ('CZ', 'Czech Republic'),
+    ('DE', 'Germany'),
+    ('DJ', 'Djibouti'),
+    ('DK', 'Denmark'),
+    ('DM', 'Dominica'),
+    ('DO', 'Dominican Republic'),
+    ('DZ', 'Algeria'),
+    ('EC', 'Ecuador'),
+    ('EE', 'Estonia'),
+    ('EG', 'Egypt'),
+    ('EH', 'Western Sahara'),
+    ('ER', 'Eritrea'),
+    ('ES', 'Spain'),
+    ('ET', 'Ethiopia'),
+    ('FI', 'Finland'),
+    ('FJ', 'Fiji'),
+    ('FK', 'Falkland Islands'),
+    ('FM', 'Micronesia'),
+    ('FO', 'Faroe Islands'),
+    ('FR', 'France'),
+    ('GA', 'Gabon'),
+    ('GB', 'UK'),
+    ('GD', 'Grenada'),
+    ('GE', 'Georgia'),
+    ('GF', 'French Guiana'),
+    ('GG', 'Guernsey'),
+    ('GH', 'Ghana'),
+    ('GI', 'Gibraltar'),
+    ('GL', 'Greenland'),
+    ('GM', 'Gambia'),
+    ('GN', 'Guinea'),
+    ('GP', 'Guadeloupe'),
+    ('GQ', 'Equatorial Guinea'),
+    ('GR', 'Greece'),
+    ('GS', 'South Georgia and South Sandwich Islands'),
+    ('GT', 'Guatemala'),
+    ('GU', 'Guam'),
+    ('GW', 'Guinea-Bissau'),
+    ('GY', 'Guyana'),
+    ('HK', 'Hong Kong'),
+    ('HM', 'Heard and McDonald Islands'),
+    ('HN', 'Honduras'),
+    ('HR', 'Croatia'),
+    ('HT', 'Haiti'),
+    ('HU', 'Hungary'),
+    ('ID', 'Indonesia'),
+    ('IE', 'Ireland'),
+    ('IL', 'Israel'),
+    ('IM', 'Isle of Man'),
+    ('IN', 'India'),
+    ('IO', 'British Indian Ocean Territory'),
+    ('IQ', 'Iraq'),
+    ('IR', 'Iran'),
+    ('IS', 'Iceland'),
+    ('IT', 'Italy'),
+    ('JE', 'Jersey'),
+    ('JM', 'Jamaica'),
+    ('JO', 'Jordan'),
+    ('JP', 'Japan'),
+    ('KE', 'Kenya'),
+    ('KG', 'Kyrgyzstan'),
+    ('KH', 'Cambodia'),
+    ('KI', 'Kiribati'),
+    ('KM', 'Comoros'),
+    ('KN', 'Saint Kitts and Nevis'),
+    ('KP', 'North Korea'),
+    ('KR', 'South Korea'),
+    ('KW', 'Kuwait'),
+    ('KY', 'Cayman Islands'),
+    ('KZ', 'Kazakhstan'),
+    ('LA', 'Laos'),
+    ('LB', 'Lebanon'),
+    ('LC', 'Saint Lucia'),
+    ('LI', 'Liechtenstein'),
+    ('LK', 'Sri Lanka'),
+    ('LR', 'Liberia'),
+    ('LS', 'Lesotho'),
+    ('LT', 'Lithuania'),
+    ('LU', 'Luxembourg'),
+    ('LV', 'Latvia'),
+    ('LY', 'Libya'),
+    ('MA', 'Morocco'),
+    ('MC', 'Monaco'),
+    ('MD', 'Moldova'),
+    ('ME', 'Montenegro'),
+    ('MF', 'Saint Martin'),
+    ('MG', 'Madagascar'),
+    ('MH', 'Marshall Islands'),
+    ('MK', 'North Macedonia'),
+    ('ML', 'Mali'),
+    ('MM', 'Myanmar'),
+    ('MN', 'Mongolia'),
+    ('MO', 'Macau'),
+    ('MP', 'Northern Mariana Islands'),
+    ('MQ', 'Martinique'),
+    ('MR', 'Mauritania'),
+    ('MS', 'Montserrat'),
+    ('MT', 'Malta'),
+    ('MU', 'Mauritius'),
+    ('MV', 'Maldives'),
+    ('MW', 'Malawi'),
+    ('MX', 'Mexico'),
+    ('MY', 'Malaysia'),
+    ('MZ', 'Mozambique'),
+    ('NA', 'Namibia'),
+    ('NC', 'New Caledonia'),
+    ('NE', 'Niger'),
+    ('NF', 'Norfolk Island'),
+    ('NG', 'Nigeria'),
+    ('NI', 'Nicaragua'),
+    ('NL', 'Netherlands'),
+    ('NO', 'Norway'),
+    ('NP', 'Nepal'),
+    ('NR', 'Nauru'),
+    ('NU', 'Niue'),
+    ('NZ', 'New Zealand'),
+    ('OM', 'Oman'),
+    ('PA', 'Panama'),
+    ('PE', 'Peru'),
+    ('PF', 'French Polynesia'),
+    ('PG', 'Papua New Guinea'),
+    ('PH', 'Philippines'),
+    ('PK', 'Pakistan'),
+    ('PL', 'Poland'),
+    ('PM', 'Saint Pierre and Miquelon'),
+    ('PN', 'Pitcairn Islands'),
+    ('PR', 'Puerto Rico'),
+    ('PS', 'Palestine'),
+    ('PT', 'Portugal'),
+    ('PW', 'Palau'),
+    ('PY', 'Paraguay'),
+    ('QA', 'Qatar'),
+    ('RE', 'Réunion'),
+    ('RO', 'Romania'),
+    ('RS', 'Serbia'),
+    ('RU', 'Russia'),
+    ('RW', 'Rwanda'),
+    ('SA', 'Saudi Arabia'),
+    ('SB', 'Solomon Islands'),
+    ('SC', 'Seychelles'),
+    ('SD', 'Sudan'),
+    ('SE', 'Sweden'),
+    ('SG', 'Singapore'),
+    ('SH', 'Saint Helena'),
+    ('SI', 'Slovenia'),
+    ('SJ', 'Svalbard and Jan Mayen'),
+    ('SK', 'Slovakia'),
+    ('SL', 'Sierra Leone'),
+    ('SM', 'San Marino'),
+    ('SN', 'Senegal'),
+    ('SO', 'Somalia'),
+    ('SR', 'Suriname'),
+    ('SS', 'South Sudan'),
+    ('ST', 'São Tomé and Príncipe'),
+    ('SV', 'El Salvador'),
+    ('SX', 'Sint Maarten'),
+    ('SY', 'Syria'),
+    ('SZ', 'Eswatini'),
+    ('TC', 'Turks and Caicos Islands'),
+    ('TD', 'Chad'),
+    ('TF', 'French Southern Territories'),
+    ('TG', 'Togo'),
+    ('TH', 'Thailand'),
+    ('TJ', 'Tajikistan'),
+    ('TK', 'Tokelau'),
+    ('TL', 'Timor-Leste'),
+    ('TM', 'Turkmenistan'),
+    ('TN', 'Tunisia'),
+    ('TO', 'Tonga'),
+    ('TR', 'Turkey'),
+    ('TT', 'Trinidad and Tobago'),
+    ('TV', 'Tuvalu'),
+    ('TW', 'Taiwan'),
+    ('TZ', 'Tanzania'),
+    ('UA', 'Ukraine'),
+    ('UG', 'Uganda'),
+    ('UM', 'U.S. Outlying Islands'),
+    ('US', 'USA'),
+    ('UY', 'Uruguay'),
+    ('UZ', 'Uzbekistan'),
+    ('VA', 'Vatican City'),
+    ('VC', 'Saint Vincent and Grenadines'),
+    ('VE', 'Venezuela'),
+    ('VG', 'British Virgin Islands'),
+    ('VI', 'U.S. Virgin Islands'),
+    ('VN', 'Vietnam'),
+    ('VU', 'Vanuatu'),
+    ('WF', 'Wallis and Futuna'),
+    ('WS', 'Samoa'),
+    ('YE', 'Yemen'),
+    ('YT', 'Mayotte'),
+    ('ZA', 'South Africa'),
+    ('ZM', 'Zambia'),
+    ('ZW', 'Zimbabwe');
+
+CREATE TABLE country_aliases (
+    alias      VARCHAR(60) NOT NULL,
+    country_id SMALLINT    NOT NULL,
+    CONSTRAINT pk_country_aliases PRIMARY KEY (alias),
+    CONSTRAINT fk_country_aliases_country FOREIGN KEY (country_id) REFERENCES countries (id)
+);
+
+INSERT INTO country_aliases (alias, country_id)
+SELECT a.alias, c.id FROM (VALUES
+    ('AD', 'AD'),
+    ('AND', 'AD'),
+    ('ANDORRA', 'AD'),
+    ('AE', 'AE'),
+    ('ARE', 'AE'),
+    ('UNITED ARAB EMIRATES', 'AE'),
+    ('UAE', 'AE'),
+    ('AF', 'AF'),
+    ('AFG', 'AF'),
+    ('AFGHANISTAN', 'AF'),
+    ('AG', 'AG'),
+    ('ATG', 'AG'),
+    ('ANTIGUA AND BARBUDA', 'AG'),
+    ('ANTIGUA & BARBUDA', 'AG'),
+    ('AI', 'AI'),
+    ('AIA', 'AI'),
+    ('ANGUILLA', 'AI'),
+    ('AL', 'AL'),
+    ('ALB', 'AL'),
+    ('ALBANIA', 'AL'),
+    ('AM', 'AM'),
+    ('ARM', 'AM'),
+    ('ARMENIA', 'AM'),
+    ('AO', 'AO'),
+    ('AGO', 'AO'),
+    ('ANGOLA', 'AO'),
+    ('AQ', 'AQ'),
+    ('ATA', 'AQ'),
+    ('ANTARCTICA', 'AQ'),
+    ('AR', 'AR'),
+    ('ARG', 'AR'),
+    ('ARGENTINA', 'AR'),
+    ('AS', 'AS'),
+    ('ASM', 'AS'),
+    ('AMERICAN SAMOA', 'AS'),
+    ('AT', 'AT'),
+    ('AUT', 'AT'),
+    ('AUSTRIA', 'AT'),
+    ('AU', 'AU'),
+    ('AUS', 'AU'),
+    ('AUSTRALIA', 'AU'),
+    ('AW', 'AW'),
+    ('ABW', 'AW'),
+    ('ARUBA', 'AW'),
+    ('AX', 'AX'),
+    ('ALA', 'AX'),
+    ('ALAND ISLANDS', 'AX'),
+    ('AZ', 'AZ'),
+    ('AZE', 'AZ'),
+    ('AZERBAIJAN', 'AZ'),
+    ('BA', 'BA'),
+    ('BIH', 'BA'),
+    ('BOSNIA AND HERZEGOVINA', 'BA'),
+    ('BOSNIA & HERZEGOVINA', 'BA'),
+    ('BB', 'BB'),
+    ('BRB', 'BB'),
+    ('BARBADOS', 'BB'),
+    ('BD', 'BD'),
+    ('BGD', 'BD'),
+    ('BANGLADESH', 'BD'),
+    ('BE', 'BE'),
+    ('BEL', 'BE'),
+    ('BELGIUM', 'BE'),
+    ('BF', 'BF'),
+    ('BFA', 'BF'),
+    ('BURKINA FASO', 'BF'),
+    ('BG', 'BG'),
+    ('BGR', 'BG'),
+    ('BULGARIA', 'BG'),
+    ('BH', 'BH'),
+    ('BHR', 'BH'),
+    ('BAHRAIN', 'BH'),
+    ('BI', 'BI'),
+    ('BDI', 'BI'),
+    ('BURUNDI', 'BI'),
+    ('BJ', 'BJ'),
+    ('BEN', 'BJ'),
+    ('BENIN', 'BJ'),
+    ('BL', 'BL'),
+    ('BLM', 'BL'),
+    ('SAINT BARTHELEMY', 'BL'),
+    ('ST. BARTHELEMY', 'BL'),
+    ('BM', 'BM'),
+    ('BMU', 'BM'),
+    ('BERMUDA', 'BM'),
+    ('BN', 'BN'),
+    ('BRN', 'BN'),
+    ('BRUNEI', 'BN'),
+    ('BO', 'BO'),
+    ('BOL', 'BO'),
+    ('BOLIVIA', 'BO'),
+    ('BQ', 'BQ'),
+    ('BES', 'BQ'),
+    ('CARIBBEAN NETHERLANDS', 'BQ'),
+    ('BR', 'BR'),
+    ('BRA', 'BR'),
+    ('BRAZIL', 'BR'),
+    ('BS', 'BS'),
+    ('BHS', 'BS'),
+    ('BAHAMAS', 'BS'),
+    ('BT', 'BT'),
+    ('BTN', 'BT'),
+    ('BHUTAN', 'BT'),
+    ('BV', 'BV'),
+    ('BVT', 'BV'),
+    ('BOUVET ISLAND', 'BV'),
+    ('BW', 'BW'),
+    ('BWA', 'BW'),
+    ('BOTSWANA', 'BW'),
+    ('BY', 'BY'),
+    ('BLR', 'BY'),
+    ('BELARUS', 'BY'),
+    ('BZ', 'BZ'),
+    ('BLZ', 'BZ'),
+    ('BELIZE', 'BZ'),
+    ('CA', 'CA'),
+    ('CAN', 'CA'),
+    ('CANADA', 'CA'),
+    ('CC', 'CC'),
+    ('CCK', 'CC'),
+    ('COCOS (KEELING) ISLANDS', 'CC'),
+    ('CD', 'CD'),
+    ('COD', 'CD'),
+    ('DR CONGO', 'CD'),
+    ('CONGO - KINSHASA', 'CD'),
+    ('DEMOCRATIC REPUBLIC OF THE CONGO', 'CD'),
+    ('CONGO-KINSHASA', 'CD'),
+    ('CF', 'CF'),
+    ('CAF', 'CF'),
+    ('CENTRAL AFRICAN REPUBLIC', 'CF'),
+    ('CG', 'CG'),
+    ('COG', 'CG'),
+    ('CONGO', 'CG'),
+    ('CONGO - BRAZZAVILLE', 'CG'),
+    ('REPUBLIC OF THE CONGO', 'CG'),
+    ('CONGO-BRAZZAVILLE', 'CG'),
+    ('CH', 'CH'),
+    ('CHE', 'CH'),
+    ('SWITZERLAND', 'CH'),
+    ('CI', 'CI'),
+    ('CIV', 'CI'),
+    ('COTE D''IVOIRE', 'CI'),
+    ('IVORY COAST', 'CI'),
+    ('CK', 'CK'),
+    ('COK', 'CK'),
+    ('COOK ISLANDS', 'CK'),
+    ('CL', 'CL'),
+    ('CHL', 'CL'),
+    ('CHILE', 'CL'),
+    ('CM', 'CM'),
+    ('CMR', 'CM'),
+    ('CAMEROON', 'CM'),
+    ('CN', 'CN'),
+    ('CHN', 'CN'),
+    ('CHINA', 'CN'),
+    ('CO', 'CO'),
+    ('COL', 'CO'),
+    ('COLOMBIA', 'CO'),
+    ('CR', 'CR'),
+    ('CRI', 'CR'),
+    ('COSTA RICA', 'CR'),
+    ('CU', 'CU'),
+    ('CUB', 'CU'),
+    ('CUBA', 'CU'),
+    ('CV', 'CV'),
+    ('CPV', 'CV'),
+    ('CAPE VERDE', 'CV'),
+    ('CABO VERDE', 'CV'),
+    ('CW', 'CW'),
+    ('CUW', 'CW'),
+    ('CURACAO', 'CW'),
+    ('CX', 'CX'),
+    ('CXR', 'CX'),
+    ('CHRISTMAS ISLAND', 'CX'),
+    ('CY', 'CY'),
+    ('CYP', 'CY'),
+    ('CYPRUS', 'CY'),
+    ('CZ', 'CZ'),
+    ('CZE', 'CZ'),
+    ('CZECH REPUBLIC', 'CZ'),
+    ('CZECHIA', 'CZ'),
+    ('DE', 'DE'),
+    ('DEU', 'DE'),
+    ('GERMANY', 'DE'),
+    ('DJ', 'DJ'),
+    ('DJI', 'DJ'),
+    ('DJIBOUTI', 'DJ'),
+    ('DK', 'DK'),
+    ('DNK', 'DK'),
+    ('DENMARK', 'DK'),
+    ('DM', 'DM'),
+    ('DMA', 'DM'),
+    ('DOMINICA', 'DM'),
+    ('DO', 'DO'),
+    ('DOM', 'DO'),
+    ('DOMINICAN REPUBLIC', 'DO'),
+    ('DZ', 'DZ'),
+    ('DZA', 'DZ'),
+    ('ALGERIA', 'DZ'),
+    ('EC', 'EC'),
+    ('ECU', 'EC'),
+    ('ECUADOR', 'EC'),
+    ('EE', 'EE'),
+    ('EST', 'EE'),
+    ('ESTONIA', 'EE'),
+    ('EG', 'EG'),
+    ('EGY', 'EG'),
+    ('EGYPT', 'EG'),
+    ('EH', 'EH'),
+    ('ESH', 'EH'),
+    ('WESTERN SAHARA', 'EH'),
+    ('ER', 'ER'),
+    ('ERI', 'ER'),
+    ('ERITREA', 'ER'),
+    ('ES', 'ES'),
+    ('ESP', 'ES'),
+    ('SPAIN', 'ES'),
+    ('ET', 'ET'),
+    ('ETH', 'ET'),
+    ('ETHIOPIA', 'ET'),
+    ('FI', 'FI'),
+    ('FIN', 'FI'),
+    ('FINLAND', 'FI'),
+    ('FJ', 'FJ'),
+    ('FJI', 'FJ'),
+    ('FIJI', 'FJ'),
+    ('FK', 'FK'),
+    ('FLK', 'FK'),
+    ('FALKLAND ISLANDS', 'FK'),
+    ('FM', 'FM'),
+    ('FSM', 'FM'),
+    ('MICRONESIA', 'FM'),
+    ('FO', 'FO'),
+    ('FRO', 'FO'),
+    ('FAROE ISLANDS', 'FO'),
+    ('FR', 'FR'),
+    ('FRA', 'FR'),
+    ('FRANCE', 'FR'),
+    ('GA', 'GA'),
+    ('GAB', 'GA'),
+    ('GABON', 'GA'),
+    ('GB', 'GB'),
+    ('GBR', 'GB'),
+    ('UK', 'GB'),
+    ('UNITED KINGDOM', 'GB'),
+    ('GREAT BRITAIN', 'GB'),
+    ('BRITAIN', 'GB'),
+    ('ENGLAND', 'GB'),
+    ('SCOTLAND', 'GB'),
+    ('WALES', 'GB'),
+    ('NORTHERN IRELAND', 'GB'),
+    ('GD', 'GD'),
+    ('GRD', 'GD'),
+    ('GRENADA', 'GD'),
+    ('GE', 'GE'),
+    ('GEO', 'GE'),
+    ('GEORGIA', 'GE'),
+    ('GF', 'GF'),
+    ('GUF', 'GF'),
+    ('FRENCH GUIANA', 'GF'),
+    ('GG', 'GG'),
+    ('GGY', 'GG'),
+    ('GUERNSEY', 'GG'),
+    ('GH', 'GH'),
+    ('GHA', 'GH'),
+    ('GHANA', 'GH'),
+    ('GI', 'GI'),
+    ('GIB', 'GI'),
+    ('GIBRALTAR', 'GI'),
+    ('GL', 'GL'),
+    ('GRL', 'GL'),
+    ('GREENLAND', 'GL'),
+    ('GM', 'GM'),
+    ('GMB', 'GM'),
+    ('GAMBIA', 'GM'),
+    ('GN', 'GN'),
+    ('GIN', 'GN'),
+    ('GUINEA', 'GN'),
+    ('GP', 'GP'),
+    ('GLP', 'GP'),
+    ('GUADELOUPE', 'GP'),
+    ('GQ', 'GQ'),
+    ('GNQ', 'GQ'),
+    ('EQUATORIAL GUINEA', 'GQ'),
+    ('GR', 'GR'),
+    ('GRC', 'GR'),
+    ('GREECE', 'GR'),
+    ('GS', 'GS'),
+    ('SGS', 'GS'),
+    ('SOUTH GEORGIA AND SOUTH SANDWICH ISLANDS', 'GS'),
+    ('SOUTH GEORGIA & SOUTH SANDWICH ISLANDS', 'GS'),
+    ('GT', 'GT'),
+    ('GTM', 'GT'),
+    ('GUATEMALA', 'GT'),
+    ('GU', 'GU'),
+    ('GUM', 'GU'),
+    ('GUAM', 'GU'),
+    ('GW', 'GW'),
+    ('GNB', 'GW'),
+    ('GUINEA-BISSAU', 'GW'),
+    ('GY', 'GY'),
+    ('GUY', 'GY'),
+    ('GUYANA', 'GY'),
+    ('HK', 'HK'),
+    ('HKG', 'HK'),
+    ('HONG KONG', 'HK'),
+    ('HONG KONG SAR CHINA', 'HK'),
+    ('HM', 'HM'),
+    ('HMD', 'HM'),
+    ('HEARD AND MCDONALD ISLANDS', 'HM'),
+    ('HEARD & MCDONALD ISLANDS', 'HM'),
+    ('HN', 'HN'),
+    ('HND', 'HN'),
+    ('HONDURAS', 'HN'),
+    ('HR', 'HR'),
+    ('HRV', 'HR'),
+    ('CROATIA', 'HR'),
+    ('HT', 'HT'),
+    ('HTI', 'HT'),
+    ('HAITI', 'HT'),
+    ('HU', 'HU'),
+    ('HUN', 'HU'),
+    ('HUNGARY', 'HU'),
+    ('ID', 'ID'),
+    ('IDN', 'ID'),
+    ('INDONESIA', 'ID'),
+    ('IE', 'IE'),
+    ('IRL', 'IE'),
+    ('IRELAND', 'IE'),
+    ('IL', 'IL'),
+    ('ISR', 'IL'),
+    ('ISRAEL', 'IL'),
+    ('IM', 'IM'),
+    ('IMN', 'IM'),
+    ('ISLE OF MAN', 'IM'),
+    ('IN', 'IN'),
+    ('IND', 'IN'),
+    ('INDIA', 'IN'),
+    ('IO', 'IO'),
+    ('IOT', 'IO'),
+    ('BRITISH INDIAN OCEAN TERRITORY', 'IO'),
+    ('IQ', 'IQ'),
+    ('IRQ', 'IQ'),
+    ('IRAQ', 'IQ'),
+    ('IR', 'IR'),
+    ('IRN', 'IR'),
+    ('IRAN', 'IR'),
+    ('PERSIA', 'IR'),
+    ('IS', 'IS'),
+    ('ISL', 'IS'),
+    ('ICELAND', 'IS'),
+    ('IT', 'IT'),
+    ('ITA', 'IT'),
+    ('ITALY', 'IT'),
+    ('JE', 'JE'),
+    ('JEY', 'JE'),
+    ('JERSEY', 'JE'),
+    ('JM', 'JM'),
+    ('JAM', 'JM'),
+    ('JAMAICA', 'JM'),
+    ('JO', 'JO'),
+    ('JOR', 'JO'),
+    ('JORDAN', 'JO'),
+    ('JP', 'JP'),
+    ('JPN', 'JP'),
+    ('JAPAN', 'JP'),
+    ('KE', 'KE'),
+    ('KEN', 'KE'),
+    ('KENYA', 'KE'),
+    ('KG', 'KG'),
+    ('KGZ', 'KG'),
+    ('KYRGYZSTAN', 'KG'),
+    ('KH', 'KH'),
+    ('KHM', 'KH'),
+    ('CAMBODIA', 'KH'),
+    ('KI', 'KI'),
+    ('KIR', 'KI'),
+    ('KIRIBATI', 'KI'),
+    ('KM', 'KM'),
+    ('COM', 'KM'),
+    ('COMOROS', 'KM'),
+    ('KN', 'KN'),
+    ('KNA', 'KN'),
+    ('SAINT KITTS AND NEVIS', 'KN'),
+    ('ST. KITTS & NEVIS', 'KN'),
+    ('ST. KITTS AND NEVIS', 'KN'),
+    ('KP', 'KP'),
+    ('PRK', 'KP'),
+    ('NORTH KOREA', 'KP'),
+    ('DPRK', 'KP'),
+    ('KR', 'KR'),
+    ('KOR', 'KR'),
+    ('SOUTH KOREA', 'KR'),
+    ('KOREA', 'KR'),
+    ('REPUBLIC OF KOREA', 'KR'),
+    ('KW', 'KW'),
+    ('KWT', 'KW'),
+    ('KUWAIT', 'KW'),
+    ('KY', 'KY'),
+    ('CYM', 'KY'),
+    ('CAYMAN ISLANDS', 'KY'),
+    ('KZ', 'KZ'),
+    ('KAZ', 'KZ'),
+    ('KAZAKHSTAN', 'KZ'),
+    ('LA', 'LA'),
+    ('LAO', 'LA'),
+    ('LAOS', 'LA'),
+    ('LB', 'LB'),
+    ('LBN', 'LB'),
+    ('LEBANON', 'LB'),
+    ('LC', 'LC'),
+    ('LCA', 'LC'),
+    ('SAINT LUCIA', 'LC'),
+    ('ST. LUCIA', 'LC'),
+    ('LI', 'LI'),
+    ('LIE', 'LI'),
+    ('LIECHTENSTEIN', 'LI'),
+    ('LK', 'LK'),
+    ('LKA', 'LK'),
+    ('SRI LANKA', 'LK'),
+    ('LR', 'LR'),
+    ('LBR', 'LR'),
+    ('LIBERIA', 'LR'),
+    ('LS', 'LS'),
+    ('LSO', 'LS'),
+    ('LESOTHO', 'LS'),
+    ('LT', 'LT'),
+    ('LTU', 'LT'),
+    ('LITHUANIA', 'LT'),
+    ('LU', 'LU'),
+    ('LUX', 'LU'),
+    ('LUXEMBOURG', 'LU'),
+    ('LV', 'LV'),
+    ('LVA', 'LV'),
+    ('LATVIA', 'LV'),
+    ('LY', 'LY'),
+    ('LBY', 'LY'),
+    ('LIBYA', 'LY'),
+    ('MA', 'MA'),
+    ('MAR', 'MA'),
+    ('MOROCCO', 'MA'),
+    ('MC', 'MC'),
+    ('MCO', 'MC'),
+    ('MONACO', 'MC'),
+    ('MD', 'MD'),
+    ('MDA', 'MD'),
+    ('MOLDOVA', 'MD'),
+    ('ME', 'ME'),
+    ('MNE', 'ME'),
+    ('MONTENEGRO', 'ME'),
+    ('MF', 'MF'),
+    ('MAF', 'MF'),
+    ('SAINT MARTIN', 'MF'),
+    ('ST. MARTIN', 'MF'),
+    ('MG', 'MG'),
+    ('MDG', 'MG'),
+    ('MADAGASCAR', 'MG'),
+    ('MH', 'MH'),
+    ('MHL', 'MH'),
+    ('MARSHALL ISLANDS', 'MH'),
+    ('MK', 'MK'),
+    ('MKD', 'MK'),
+    ('NORTH MACEDONIA', 'MK'),
+    ('MACEDONIA', 'MK'),
+    ('ML', 'ML'),
+    ('MLI', 'ML'),
+    ('MALI', 'ML'),
+    ('MM', 'MM'),
+    ('MMR', 'MM'),
+    ('MYANMAR', 'MM'),
+    ('MYANMAR (BURMA)', 'MM'),
+    ('BURMA', 'MM'),
+    ('MN', 'MN'),
+    ('MNG', 'MN'),
+    ('MONGOLIA', 'MN'),
+    ('MO', 'MO'),
+    ('MAC', 'MO'),
+    ('MACAU', 'MO'),
+    ('MACAO SAR CHINA', 'MO'),
+    ('MP', 'MP'),
+    ('MNP', 'MP'),
+    ('NORTHERN MARIANA ISLANDS', 'MP'),
+    ('MQ', 'MQ'),
+    ('MTQ', 'MQ'),
+    ('MARTINIQUE', 'MQ'),
+    ('MR', 'MR'),
+    ('MRT', 'MR'),
+    ('MAURITANIA', 'MR'),
+    ('MS', 'MS'),
+    ('MSR', 'MS'),
+    ('MONTSERRAT', 'MS'),
+    ('MT', 'MT'),
+    ('MLT', 'MT'),
+    ('MALTA', 'MT'),
+    ('MU', 'MU'),
+    ('MUS', 'MU'),
+    ('MAURITIUS', 'MU'),
+    ('MV', 'MV'),
+    ('MDV', 'MV'),
+    ('MALDIVES', 'MV'),
+    ('MW', 'MW'),
+    ('MWI', 'MW'),
+    ('MALAWI', 'MW'),
+    ('MX', 'MX'),
+    ('MEX', 'MX'),
+    ('MEXICO', 'MX'),
+    ('MY', 'MY'),
+    ('MYS', 'MY'),
+    ('MALAYSIA', 'MY'),
+    ('MZ', 'MZ'),
+    ('MOZ', 'MZ'),
+    ('MOZAMBIQUE', 'MZ'),
+    ('NA', 'NA'),
+    ('NAM', 'NA'),
+    ('NAMIBIA', 'NA'),
+    ('NC', 'NC'),
+    ('NCL', 'NC'),
+    ('NEW CALEDONIA', 'NC'),
+    ('NE', 'NE'),
+    ('NER', 'NE'),
+    ('NIGER', 'NE'),
+    ('NF', 'NF'),
+    ('NFK', 'NF'),
+    ('NORFOLK ISLAND', 'NF'),
+    ('NG', 'NG'),
+    ('NGA', 'NG'),
+    ('NIGERIA', 'NG'),
+    ('NI', 'NI'),
+    ('NIC', 'NI'),
+    ('NICARAGUA', 'NI'),
+    ('NL', 'NL'),
+    ('NLD', 'NL'),
+    ('NETHERLANDS', 'NL'),
+    ('HOLLAND', 'NL'),
+    ('THE NETHERLANDS', 'NL'),
+    ('NO', 'NO'),
+    ('NOR', 'NO'),
+    ('NORWAY', 'NO'),
+    ('NP', 'NP'),
+    ('NPL', 'NP'),
+    ('NEPAL', 'NP'),
+    ('NR', 'NR'),
+    ('NRU', 'NR'),
+    ('NAURU', 'NR'),
+    ('NU', 'NU'),
+    ('NIU', 'NU'),
+    ('NIUE', 'NU'),
+    ('NZ', 'NZ'),
+    ('NZL', 'NZ'),
+    ('NEW ZEALAND', 'NZ'),
+    ('OM', 'OM'),
+    ('OMN', 'OM'),
+    ('OMAN', 'OM'),
+    ('PA', 'PA'),
+    ('PAN', 'PA'),
+    ('PANAMA', 'PA'),
+    ('PE', 'PE'),
+    ('PER', 'PE'),
+    ('PERU', 'PE'),
+    ('PF', 'PF'),
+    ('PYF', 'PF'),
+    ('FRENCH POLYNESIA', 'PF'),
+    ('PG', 'PG'),
+    ('PNG', 'PG'),
+    ('PAPUA NEW GUINEA', 'PG'),
+    ('PH', 'PH'),
+    ('PHL', 'PH'),
+    ('PHILIPPINES', 'PH'),
+    ('PK', 'PK'),
+    ('PAK', 'PK'),
+    ('PAKISTAN', 'PK'),
+    ('PL', 'PL'),
+    ('POL', 'PL'),
+    ('POLAND', 'PL'),
+    ('PM', 'PM'),
+    ('SPM', 'PM'),
+    ('SAINT PIERRE AND MIQUELON', 'PM'),
+    ('ST. PIERRE & MIQUELON', 'PM'),
+    ('ST. PIERRE AND MIQUELON', 'PM'),
+    ('PN', 'PN'),
+    ('PCN', 'PN'),
+    ('PITCAIRN ISLANDS', 'PN'),
+    ('PR', 'PR'),
+    ('PRI', 'PR'),
+    ('PUERTO RICO', 'PR'),
+    ('PS', 'PS'),
+    ('PSE', 'PS'),
+    ('PALESTINE', 'PS'),
+    ('PALESTINIAN TERRITORIES', 'PS'),
+    ('PT', 'PT'),
+    ('PRT', 'PT'),
+    ('PORTUGAL', 'PT'),
+    ('PW', 'PW'),
+    ('PLW', 'PW'),
+    ('PALAU', 'PW'),
+    ('PY', 'PY'),
+    ('PRY', 'PY'),
+    ('PARAGUAY', 'PY'),
+    ('QA', 'QA'),
+    ('QAT', 'QA'),
+    ('QATAR', 'QA'),
+    ('RE', 'RE'),
+    ('REU', 'RE'),
+    ('REUNION', 'RE'),
+    ('RO', 'RO'),
+    ('ROU', 'RO'),
+    ('ROMANIA', 'RO'),
+    ('RS', 'RS'),
+    ('SRB', 'RS'),
+    ('SERBIA', 'RS'),
+    ('RU', 'RU'),
+    ('RUS', 'RU'),
+    ('RUSSIA', 'RU'),
+    ('RUSSIAN FEDERATION', 'RU'),
+    ('RW', 'RW'),
+    ('RWA', 'RW'),
+    ('RWANDA', 'RW'),
+    ('SA', 'SA'),
+    ('SAU', 'SA'),
+    ('SAUDI ARABIA', 'SA'),
+    ('SB', 'SB'),
+    ('SLB', 'SB'),
+    ('SOLOMON ISLANDS', 'SB'),
+    ('SC', 'SC'),
+    ('SYC', 'SC'),
+    ('SEYCHELLES', 'SC'),
+    ('SD', 'SD'),
+    ('SDN', 'SD'),
+    ('SUDAN', 'SD'),
+    ('SE', 'SE'),
+    ('SWE', 'SE'),
+    ('SWEDEN', 'SE'),
+    ('SG', 'SG'),
+    ('SGP', 'SG'),
+    ('SINGAPORE', 'SG'),
+    ('SH', 'SH'),
+    ('SHN', 'SH'),
+    ('SAINT HELENA', 'SH'),
+    ('ST. HELENA', 'SH'),
+    ('SI', 'SI'),
+    ('SVN', 'SI'),
+    ('SLOVENIA', 'SI'),
+    ('SJ', 'SJ'),
+    ('SJM', 'SJ'),
+    ('SVALBARD AND JAN MAYEN', 'SJ'),
+    ('SVALBARD & JAN MAYEN', 'SJ'),
+    ('SK', 'SK'),
+    ('SVK', 'SK'),
+    ('SLOVAKIA', 'SK'),
+    ('SL', 'SL'),
+    ('SLE', 'SL'),
+    ('SIERRA LEONE', 'SL'),
+    ('SM', 'SM'),
+    ('SMR', 'SM'),
+    ('SAN MARINO', 'SM'),
+    ('SN', 'SN'),
+    ('SEN', 'SN'),
+    ('SENEGAL', 'SN'),
+    ('SO', 'SO'),
+    ('SOM', 'SO'),
+    ('SOMALIA', 'SO'),
+    ('SR', 'SR'),
+    ('SUR', 'SR'),
+    ('SURINAME', 'SR'),
+    ('SS', 'SS'),
+    ('SSD', 'SS'),
+    ('SOUTH SUDAN', 'SS'),
+    ('ST', 'ST'),
+    ('STP', 'ST'),
+    ('SAO TOME AND PRINCIPE', 'ST'),
+    ('SAO TOME & PRINCIPE', 'ST'),
+    ('SV', 'SV'),
+    ('SLV', 'SV'),
+    ('EL SALVADOR', 'SV'),
+    ('SX', 'SX'),
+    ('SXM', 'SX'),
+    ('SINT MAARTEN', 'SX'),
+    ('SY', 'SY'),
+    ('SYR', 'SY'),
+    ('SYRIA', 'SY'),
+    ('SZ', 'SZ'),
+    ('SWZ', 'SZ'),
+    ('ESWATINI', 'SZ'),
+    ('SWAZILAND', 'SZ'),
+    ('TC', 'TC'),
+    ('TCA', 'TC'),
+    ('TURKS AND CAICOS ISLANDS', 'TC'),
+    ('TURKS & CAICOS ISLANDS', 'TC'),
+    ('TD', 'TD'),
+    ('TCD', 'TD'),
+    ('CHAD', 'TD'),
+    ('TF', 'TF'),
+    ('ATF', 'TF'),
+    ('FRENCH SOUTHERN TERRITORIES', 'TF'),
+    ('TG', 'TG'),
+    ('TGO', 'TG'),
+    ('TOGO', 'TG'),
+    ('TH', 'TH'),
+    ('THA', 'TH'),
+    ('THAILAND', 'TH'),
+    ('TJ', 'TJ'),
+    ('TJK', 'TJ'),
+    ('TAJIKISTAN', 'TJ'),
+    ('TK', 'TK'),
+    ('TKL', 'TK'),
+    ('TOKELAU', 'TK'),
+    ('TL', 'TL'),
+    ('TLS', 'TL'),
+    ('TIMOR-LESTE', 'TL'),
+    ('EAST TIMOR', 'TL'),
+    ('TM', 'TM'),
+    ('TKM', 'TM'),
+    ('TURKMENISTAN', 'TM'),
+    ('TN', 'TN'),
+    ('TUN', 'TN'),
+    ('TUNISIA', 'TN'),
+    ('TO', 'TO'),
+    ('TON', 'TO'),
+    ('TONGA', 'TO'),
+    ('TR', 'TR'),
+    ('TUR', 'TR'),
+    ('TURKEY', 'TR'),
+    ('TURKIYE', 'TR'),
+    ('TT', 'TT'),
+    ('TTO', 'TT'),
+    ('TRINIDAD AND TOBAGO', 'TT'),
+    ('TRINIDAD & TOBAGO', 'TT'),
+    ('TV', 'TV'),
+    ('TUV', 'TV'),
+    ('TUVALU', 'TV'),
+    ('TW', 'TW'),
+    ('TWN', 'TW'),
+    ('TAIWAN', 'TW'),
+    ('TZ', 'TZ'),
+    ('TZA', 'TZ'),
+    ('TANZANIA', 'TZ'),
+    ('UA', 'UA'),
+    ('UKR', 'UA'),
+    ('UKRAINE', 'UA'),
+    ('UG', 'UG'),
+    ('UGA', 'UG'),
+    ('UGANDA', 'UG'),
+    ('UM', 'UM'),
+    ('UMI', 'UM'),
+    ('U.S. OUTLYING ISLANDS', 'UM'),
+    ('US', 'US'),
+    ('USA', 'US'),
+    ('UNITED STATES', 'US'),
+    ('UNITED STATES OF AMERICA', 'US'),
+    ('AMERICA', 'US'),
+    ('UY', 'UY'),
+    ('URY', 'UY'),
+    ('URUGUAY', 'UY'),
+    ('UZ', 'UZ'),
+    ('UZB', 'UZ'),
+    ('UZBEKISTAN', 'UZ'),
+    ('VA', 'VA'),
+    ('VAT', 'VA'),
+    ('VATICAN CITY', 'VA'),
+    ('HOLY SEE', 'VA'),
+    ('VC', 'VC'),
+    ('VCT', 'VC'),
+    ('SAINT VINCENT AND GRENADINES', 'VC'),
+    ('ST. VINCENT & GRENADINES', 'VC'),
+    ('ST. VINCENT AND GRENADINES', 'VC'),
+    ('VE', 'VE'),
+    ('VEN', 'VE'),
+    ('VENEZUELA', 'VE'),
+    ('VG', 'VG'),
+    ('VGB', 'VG'),
+    ('BRITISH VIRGIN ISLANDS', 'VG'),
+    ('VI', 'VI'),
+    ('VIR', 'VI'),
+    ('U.S. VIRGIN ISLANDS', 'VI'),
+    ('VN', 'VN'),
+    ('VNM', 'VN'),
+    ('VIETNAM', 'VN'),
+    ('VIET NAM', 'VN'),
+    ('VU', 'VU'),
+    ('VUT', 'VU'),
+    ('VANUATU', 'VU'),
+    ('WF', 'WF'),
+    ('WLF', 'WF'),
+    ('WALLIS AND FUTUNA', 'WF'),
+    ('WALLIS & FUTUNA', 'WF'),
+    ('WS', 'WS'),
+    ('WSM', 'WS'),
+    ('SAMOA', 'WS'),
+    ('YE', 'YE'),
+    ('YEM', 'YE'),
+    ('YEMEN', 'YE'),
+    ('YT', 'YT'),
+    ('MYT', 'YT'),
+    ('MAYOTTE', 'YT'),
+    ('ZA', 'ZA'),
+    ('ZAF', 'ZA'),
+    ('SOUTH AFRICA', 'ZA'),
+    ('ZM', 'ZM'),
+    ('ZMB', 'ZM'),
+    ('ZAMBIA', 'ZM'),
+    ('ZW', 'ZW'),
+    ('ZWE', 'ZW'),
+    ('ZIMBABWE', 'ZW')
+) AS a (alias, code) JOIN countries c ON c.code = a.code;
+
+UPDATE gamers g SET country_id = (
+    SELECT a.country_id FROM countries c JOIN country_aliases a ON a.alias = UPPER(TRIM(c.name)) WHERE c.id = g.country_id)
+WHERE g.country_id IN (
+    SELECT c.id FROM countries c JOIN country_aliases a ON a.alias = UPPER(TRIM(c.name)) WHERE c.code IS NULL);
+
+DELETE FROM countries c
+WHERE c.code IS NULL AND EXISTS (SELECT 1 FROM country_aliases a WHERE a.alias = UPPER(TRIM(c.name)));
@@ -0,0 +1,6 @@
+-- The country filter is an optional parameter of the search queries, "(? IS NULL OR country_id = ?)", and H2 plans
+-- such a statement without using idx_gamers_country_id. The index only served literal country filters: it made rare
+-- countries fast and common ones slow (all their gamers joined and sorted before the first page), see QueryIndexBenchmark.
+-- Rare countries are served by the in-memory search index, so it is dropped and saves its upkeep on every gamer write.
+-- fk_gamers_country keeps the index H2 created for it.
+DROP INDEX idx_gamers_country_id;
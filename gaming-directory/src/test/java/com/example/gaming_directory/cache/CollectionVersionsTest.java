@@ -0,0 +1,46 @@
+package com.example.gaming_directory.cache;
+
+import com.example.gaming_directory.entity.Game;
+import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.entity.GamerSkill;
+import com.example.gaming_directory.enums.Level;
+import com.example.gaming_directory.event.GameCreatedEvent;
+import com.example.gaming_directory.event.GamerSkillChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectionVersionsTest {
+
+    private final CollectionVersions collectionVersions = new CollectionVersions();
+
+    @Test
+    void eTags_ShouldBeStrongAndStableWithoutChanges() {
+        String eTag = collectionVersions.gamesETag();
+
+        assertTrue(eTag.startsWith("\"games-") && eTag.endsWith("\""));
+        assertEquals(eTag, collectionVersions.gamesETag());
+        assertNotEquals(eTag, collectionVersions.gamersETag());
+    }
+
+    @Test
+    void gamerSkillChange_ShouldChangeGamersETagOnly() {
+        String gamesETag = collectionVersions.gamesETag();
+        String gamersETag = collectionVersions.gamersETag();
+
+        collectionVersions.onGamerSkillChanged(new GamerSkillChangedEvent(
+            new GamerSkill(new Gamer("Joey", "USA"), new Game("Diablo"), Level.PRO), null));
+
+        assertEquals(gamesETag, collectionVersions.gamesETag());
+        assertNotEquals(gamersETag, collectionVersions.gamersETag());
+    }
+
+    @Test
+    void gameCreated_ShouldChangeGamesETag() {
+        String gamesETag = collectionVersions.gamesETag();
+
+        collectionVersions.onGameCreated(new GameCreatedEvent(new Game("Diablo")));
+
+        assertNotEquals(gamesETag, collectionVersions.gamesETag());
+    }
+}
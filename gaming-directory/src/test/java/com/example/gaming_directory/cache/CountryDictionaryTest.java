@@ -0,0 +1,90 @@
+package com.example.gaming_directory.cache;
+
+import com.example.gaming_directory.entity.Game;
+import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.entity.GamerSkill;
+import com.example.gaming_directory.enums.Level;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(CountryDictionary.class)
+class CountryDictionaryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CountryDictionary countryDictionary;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void persist_ShouldStoreCountryAndLevelAsSmallCodes() {
+        Gamer gamer = entityManager.persist(new Gamer("Bjork", "Iceland"));
+        Game game = entityManager.persist(new Game("Minecraft"));
+        GamerSkill skill = entityManager.persist(new GamerSkill(gamer, game, Level.INVINCIBLE));
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT gm.country_id, c.name, gs.level FROM gamer_skills gs JOIN gamers gm ON gm.id = gs.gamer_id " +
+            "JOIN countries c ON c.id = gm.country_id WHERE gs.id = ?", skill.getId());
+        assertThat(((Number) row.get("COUNTRY_ID")).shortValue()).isEqualTo(countryDictionary.idOf("Iceland"));
+        assertThat(row.get("NAME")).isEqualTo("Iceland");
+        assertThat(((Number) row.get("LEVEL")).shortValue()).isEqualTo(Level.INVINCIBLE.getCode());
+
+        GamerSkill loaded = entityManager.find(GamerSkill.class, skill.getId());
+        assertThat(loaded.getGamerCountry()).isEqualTo("Iceland");
+        assertThat(loaded.getLevel()).isEqualTo(Level.INVINCIBLE);
+    }
+
+    @Test
+    void canonicalName_WithAliases_ShouldReturnTheSharedCanonicalName() {
+        String canonical = countryDictionary.canonicalName("USA");
+
+        assertThat(countryDictionary.canonicalName("us")).isSameAs(canonical);
+        assertThat(countryDictionary.canonicalName(" United  States ")).isSameAs(canonical);
+        assertThat(countryDictionary.canonicalName("usa")).isSameAs(canonical);
+        assertThat(countryDictionary.canonicalName("GBR")).isEqualTo("UK");
+        assertThat(countryDictionary.canonicalName("cote d'ivoire")).isEqualTo("Côte d'Ivoire");
+    }
+
+    @Test
+    void canonicalName_WithUnknownCountry_ShouldThrowException() {
+        assertThatThrownBy(() -> countryDictionary.canonicalName("Atlantis"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Unknown country 'Atlantis'");
+        assertThat(countryDictionary.findName("Atlantis")).isEmpty();
+        assertThat(countryDictionary.findId("Atlantis")).isEmpty();
+    }
+
+    @Test
+    void findId_WithAlias_ShouldReturnTheCountryId() {
+        short id = countryDictionary.idOf("Sweden");
+
+        assertThat(countryDictionary.findId("SE")).contains(id);
+        assertThat(countryDictionary.nameOf(id)).isEqualTo("Sweden");
+    }
+
+    @Test
+    void find_ShouldGiveEveryGamerOfACountryTheSameNameInstance() {
+        Gamer ross = entityManager.persist(new Gamer("Ross", "Canada"));
+        Gamer rachel = entityManager.persist(new Gamer("Rachel", "Canada"));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(entityManager.find(Gamer.class, ross.getId()).getCountry())
+            .isSameAs(entityManager.find(Gamer.class, rachel.getId()).getCountry());
+    }
+}
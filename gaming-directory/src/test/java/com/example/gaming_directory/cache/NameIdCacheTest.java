@@ -0,0 +1,131 @@
+package com.example.gaming_directory.cache;
+
+import com.example.gaming_directory.entity.Game;
+import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.event.GameCreatedEvent;
+import com.example.gaming_directory.event.GamerCreatedEvent;
+import com.example.gaming_directory.repository.GameRepository;
+import com.example.gaming_directory.repository.GamerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NameIdCacheTest {
+
+    @Mock
+    private GamerRepository gamerRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    private NameIdCache nameIdCache;
+
+    @BeforeEach
+    void setUp() {
+        nameIdCache = new NameIdCache(100, Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(nameIdCache, "gamerRepository", gamerRepository);
+        ReflectionTestUtils.setField(nameIdCache, "gameRepository", gameRepository);
+    }
+
+    @Test
+    void findGamer_CalledTwice_ShouldReadDatabaseOnce() {
+        when(gamerRepository.findKeyByUsernameKey("testuser")).thenReturn(Optional.of(new GamerKey(1L, "TestUser", "USA")));
+
+        Optional<GamerKey> first = nameIdCache.findGamer("TestUser");
+        Optional<GamerKey> second = nameIdCache.findGamer("TestUser");
+
+        assertEquals(1L, first.get().id());
+        assertEquals(first, second);
+        verify(gamerRepository, times(1)).findKeyByUsernameKey("testuser");
+    }
+
+    @Test
+    void findGame_WithUnknownName_ShouldNotCacheMiss() {
+        when(gameRepository.findKeyByNameKey("diablo"))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(new GameKey(2L, "Diablo")));
+
+        assertTrue(nameIdCache.findGame("Diablo").isEmpty());
+        assertEquals(2L, nameIdCache.findGame("Diablo").get().id());
+        verify(gameRepository, times(2)).findKeyByNameKey("diablo");
+    }
+
+    @Test
+    void onCreated_ShouldWarmCacheWithoutDatabaseRead() {
+        Gamer gamer = new Gamer("NewUser", "Denmark");
+        gamer.setId(3L);
+        Game game = new Game("Fortnite");
+        game.setId(4L);
+
+        nameIdCache.onGamerCreated(new GamerCreatedEvent(gamer));
+        nameIdCache.onGameCreated(new GameCreatedEvent(game));
+
+        assertEquals(new GamerKey(3L, "NewUser", "Denmark"), nameIdCache.findGamer("NewUser").get());
+        assertEquals(new GameKey(4L, "Fortnite"), nameIdCache.findGame("Fortnite").get());
+        verify(gamerRepository, never()).findKeyByUsernameKey(any());
+        verify(gameRepository, never()).findKeyByNameKey(any());
+    }
+
+    @Test
+    void evictGamer_ShouldReloadOnNextLookup() {
+        when(gamerRepository.findKeyByUsernameKey("testuser")).thenReturn(Optional.of(new GamerKey(1L, "TestUser", "USA")));
+
+        nameIdCache.findGamer("TestUser");
+        nameIdCache.evictGamer("TestUser");
+        nameIdCache.findGamer("TestUser");
+
+        verify(gamerRepository, times(2)).findKeyByUsernameKey("testuser");
+    }
+
+    @Test
+    void findGamers_ShouldLoadOnlyMissesInOneQuery() {
+        when(gamerRepository.findKeyByUsernameKey("testuser")).thenReturn(Optional.of(new GamerKey(1L, "TestUser", "USA")));
+        when(gamerRepository.findKeysByUsernameKeyIn(anyCollection())).thenReturn(List.of(new GamerKey(2L, "Other", "UK")));
+        nameIdCache.findGamer("TestUser");
+
+        Map<String, GamerKey> keys = nameIdCache.findGamers(List.of("TestUser", "Other", "Nobody"));
+
+        assertEquals(2, keys.size());
+        assertEquals(2L, keys.get("Other").id());
+        verify(gamerRepository, times(1)).findKeysByUsernameKeyIn(argThat(usernameKeys -> usernameKeys.size() == 2 && !usernameKeys.contains("testuser")));
+    }
+
+    @Test
+    void findGamer_InAnyCase_ShouldShareOneEntry() {
+        when(gamerRepository.findKeyByUsernameKey("testuser")).thenReturn(Optional.of(new GamerKey(1L, "TestUser", "USA")));
+
+        Optional<GamerKey> first = nameIdCache.findGamer("TestUser");
+        Optional<GamerKey> second = nameIdCache.findGamer("TESTUSER");
+
+        assertEquals("TestUser", second.get().username());
+        assertEquals(first, second);
+        verify(gamerRepository, times(1)).findKeyByUsernameKey("testuser");
+    }
+
+    @Test
+    void findGames_ShouldKeyResultsByNamesAsGiven() {
+        when(gameRepository.findKeysByNameKeyIn(anyCollection())).thenReturn(List.of(new GameKey(2L, "Diablo")));
+
+        Map<String, GameKey> keys = nameIdCache.findGames(List.of("diablo", "DIABLO", "Hades"));
+
+        assertEquals(2, keys.size());
+        assertEquals(2L, keys.get("diablo").id());
+        assertEquals(2L, keys.get("DIABLO").id());
+        verify(gameRepository, times(1)).findKeysByNameKeyIn(argThat(nameKeys -> nameKeys.size() == 2 && nameKeys.contains("diablo")));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.gaming_directory.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Metrics export is off in tests by default, @AutoConfigureObservability turns the Prometheus registry on.
+// Own in-memory database, since this context is not shared with the other @SpringBootTest and both load the test data.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:metricsdb")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheus_ShouldExposeEndpointServiceHibernateAndPoolMetrics() throws Exception {
+        mockMvc.perform(get("/api/games"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString("uri=\"/api/games\"")))
+                .andExpect(content().string(containsString("gaming_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("class=\"com.example.gaming_directory.service.GameService\"")))
+                .andExpect(content().string(containsString("method=\"getGames\"")))
+                .andExpect(content().string(containsString("hibernate_statements_total")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")));
+    }
+}
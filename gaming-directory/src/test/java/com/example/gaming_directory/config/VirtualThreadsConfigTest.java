@@ -0,0 +1,36 @@
+package com.example.gaming_directory.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadsConfigTest {
+
+    // SpringApplication's conversion service, which binds "5s" to a Duration
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withInitializer(context -> context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance()))
+        .withUserConfiguration(VirtualThreadsConfig.class)
+        .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    @Test
+    void concurrencyLimit_ShouldNotApply_WithPlatformThreads() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(FilterRegistrationBean.class));
+    }
+
+    @Test
+    void concurrencyLimit_ShouldDefaultToConnectionPoolSize_WithVirtualThreads() {
+        contextRunner
+            .withPropertyValues("spring.threads.virtual.enabled=true", "spring.datasource.hikari.maximum-pool-size=16",
+                "gaming.web.concurrency-limit.acquire-timeout=5s")
+            .run(context -> {
+                assertThat(context).hasSingleBean(FilterRegistrationBean.class);
+                assertThat(context.getBean(MeterRegistry.class).get("gaming.web.concurrency.limit").gauge().value())
+                    .isEqualTo(16);
+            });
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.gaming_directory.controller;
 
+import com.example.gaming_directory.cache.CollectionVersions;
+import com.example.gaming_directory.dto.CursorPage;
 import com.example.gaming_directory.dto.GameDTO;
+import com.example.gaming_directory.dto.GameMatch;
 import com.example.gaming_directory.entity.Game;
+import com.example.gaming_directory.event.GameCreatedEvent;
 import com.example.gaming_directory.service.GameService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -22,6 +28,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(GameController.class)
+@Import(CollectionVersions.class)
 public class GameControllerTest {
     
     @Autowired
@@ -29,6 +36,9 @@ public class GameControllerTest {
 
     @MockitoBean
     private GameService gameService; // Mock service instead of repository
+
+    @Autowired
+    private CollectionVersions collectionVersions;
     
     @Autowired
     private ObjectMapper objectMapper; 
@@ -45,6 +55,47 @@ public class GameControllerTest {
     }
 
 // --- Test cases for GET /api/games endpoint ---
+
+    @Test
+    void getAllGames_WithCurrentETag_ShouldReturn304WithoutLoadingGames() throws Exception {
+        when(gameService.getGames(null, null)).thenReturn(new CursorPage<>(List.of(), null, 50));
+
+        String eTag = mockMvc.perform(get("/api/games"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/games").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        verify(gameService, times(1)).getGames(null, null);
+    }
+
+    @Test
+    void getAllGames_WithInvalidPagingAndCurrentETag_ShouldReturn400() throws Exception {
+        String eTag = collectionVersions.gamesETag();
+
+        mockMvc.perform(get("/api/games").param("limit", "0").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/games").param("after", "-1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isBadRequest());
+
+        verify(gameService, never()).getGames(any(), any());
+    }
+
+    @Test
+    void getAllGames_AfterChange_ShouldReturnNewETag() throws Exception {
+        when(gameService.getGames(null, null)).thenReturn(new CursorPage<>(List.of(), null, 50));
+        String eTag = collectionVersions.gamesETag();
+
+        collectionVersions.onGameCreated(new GameCreatedEvent(testGame));
+
+        mockMvc.perform(get("/api/games").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, collectionVersions.gamesETag()));
+    }
     
     @Test 
     void getAllGames_ShouldReturnListOfGames() throws Exception {
@@ -53,17 +104,44 @@ public class GameControllerTest {
             new Game("Diablo"),
             new Game("Fortnite")
         );
-        when(gameService.getAllGames()).thenReturn(games);
+        when(gameService.getGames(null, null)).thenReturn(new CursorPage<>(games, null, 50));
 
         mockMvc.perform(get("/api/games"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.length()").value(3)) 
-                .andExpect(jsonPath("$[0].name").value("Counter-Strike"))
-                .andExpect(jsonPath("$[1].name").value("Diablo"))
-                .andExpect(jsonPath("$[2].name").value("Fortnite"));
+                .andExpect(jsonPath("$.items.length()").value(3)) 
+                .andExpect(jsonPath("$.items[0].name").value("Counter-Strike"))
+                .andExpect(jsonPath("$.items[1].name").value("Diablo"))
+                .andExpect(jsonPath("$.items[2].name").value("Fortnite"));
         
-        verify(gameService, times(1)).getAllGames();
+        verify(gameService, times(1)).getGames(null, null);
+    }
+
+    @Test 
+    void getAllGames_WithCursorAndLimit_ShouldReturnNextCursor() throws Exception {
+        when(gameService.getGames(1L, 1)).thenReturn(new CursorPage<>(Arrays.asList(testGame), 1L, 1));
+
+        mockMvc.perform(get("/api/games")
+                .param("after", "1")
+                .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value(1))
+                .andExpect(jsonPath("$.limit").value(1));
+        
+        verify(gameService, times(1)).getGames(1L, 1);
+    }
+
+    @Test 
+    void getAllGames_WithInvalidLimit_ShouldReturn400() throws Exception {
+        // Service throws IllegalArgumentException for a non-positive limit
+        when(gameService.getGames(null, 0))
+                .thenThrow(new IllegalArgumentException("Invalid limit. Limit must be a positive number"));
+
+        mockMvc.perform(get("/api/games")
+                .param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Invalid limit. Limit must be a positive number"));
     }
 
 // --- Test cases for GET /api/games/{id} endpoint ---
@@ -162,4 +240,17 @@ public class GameControllerTest {
         // Service should never be called due to validation failure
         verify(gameService, never()).createGame(any());
     }
-}
\ No newline at end of file
+
+// --- Test cases for GET /api/games/search endpoint ---
+
+    @Test
+    void searchGames_ShouldReturnRankedMatches() throws Exception {
+        when(gameService.searchGames("league", null)).thenReturn(List.of(new GameMatch(3L, "League of Legends", 0.9)));
+
+        mockMvc.perform(get("/api/games/search").param("q", "league"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[0].name").value("League of Legends"))
+                .andExpect(jsonPath("$[0].score").value(0.9));
+    }
+}
@@ -1,13 +1,21 @@
 package com.example.gaming_directory.controller;
 
+import com.example.gaming_directory.cache.CollectionVersions;
+import com.example.gaming_directory.dto.CursorPage;
 import com.example.gaming_directory.dto.GamerDTO;
+import com.example.gaming_directory.dto.GamerMatch;
 import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.enums.Level;
+import com.example.gaming_directory.event.GamerCreatedEvent;
 import com.example.gaming_directory.service.GamerService;
+import com.example.gaming_directory.service.GamerSkillService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -22,6 +30,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(GamerController.class)
+@Import(CollectionVersions.class)
 public class GamerControllerTest {
     
     @Autowired
@@ -29,6 +38,12 @@ public class GamerControllerTest {
 
     @MockitoBean
     private GamerService gamerService; // Mock service instead of repository
+
+    @MockitoBean
+    private GamerSkillService gamerSkillService;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
     
     @Autowired
     private ObjectMapper objectMapper; 
@@ -45,6 +60,47 @@ public class GamerControllerTest {
     }
 
 // --- Test cases for GET /api/gamers endpoint ---
+
+    @Test
+    void getAllGamers_WithCurrentETag_ShouldReturn304WithoutLoadingGamers() throws Exception {
+        when(gamerService.getGamers(null, null)).thenReturn(new CursorPage<>(List.of(), null, 50));
+
+        String eTag = mockMvc.perform(get("/api/gamers"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/gamers").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        verify(gamerService, times(1)).getGamers(null, null);
+    }
+
+    @Test
+    void getAllGamers_WithInvalidPagingAndCurrentETag_ShouldReturn400() throws Exception {
+        String eTag = collectionVersions.gamersETag();
+
+        mockMvc.perform(get("/api/gamers").param("limit", "0").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/gamers").param("after", "-1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isBadRequest());
+
+        verify(gamerService, never()).getGamers(any(), any());
+    }
+
+    @Test
+    void getAllGamers_AfterChange_ShouldReturnNewETag() throws Exception {
+        when(gamerService.getGamers(null, null)).thenReturn(new CursorPage<>(List.of(), null, 50));
+        String eTag = collectionVersions.gamersETag();
+
+        collectionVersions.onGamerCreated(new GamerCreatedEvent(testGamer));
+
+        mockMvc.perform(get("/api/gamers").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, collectionVersions.gamersETag()));
+    }
     
     @Test 
     void getAllGamers_ShouldReturnListOfGamers() throws Exception {
@@ -53,20 +109,20 @@ public class GamerControllerTest {
             new Gamer("Chandler", "USA"),
             new Gamer("Ross", "Canada")
         );
-        when(gamerService.getAllGamers()).thenReturn(gamers);
+        when(gamerService.getGamers(null, null)).thenReturn(new CursorPage<>(gamers, null, 50));
 
         mockMvc.perform(get("/api/gamers"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.length()").value(3)) 
-                .andExpect(jsonPath("$[0].username").value("Joey"))
-                .andExpect(jsonPath("$[0].country").value("USA"))
-                .andExpect(jsonPath("$[1].username").value("Chandler"))
-                .andExpect(jsonPath("$[1].country").value("USA"))
-                .andExpect(jsonPath("$[2].username").value("Ross"))
-                .andExpect(jsonPath("$[2].country").value("Canada"));
+                .andExpect(jsonPath("$.items.length()").value(3)) 
+                .andExpect(jsonPath("$.items[0].username").value("Joey"))
+                .andExpect(jsonPath("$.items[0].country").value("USA"))
+                .andExpect(jsonPath("$.items[1].username").value("Chandler"))
+                .andExpect(jsonPath("$.items[1].country").value("USA"))
+                .andExpect(jsonPath("$.items[2].username").value("Ross"))
+                .andExpect(jsonPath("$.items[2].country").value("Canada"));
         
-        verify(gamerService, times(1)).getAllGamers();
+        verify(gamerService, times(1)).getGamers(null, null);
     }
 
 // --- Test cases for GET /api/gamers/{id} endpoint ---
@@ -192,4 +248,56 @@ public class GamerControllerTest {
         
         verify(gamerService, never()).createGamer(any(), any());
     }
-}
\ No newline at end of file
+
+// --- Test cases for GET /api/gamers/autocomplete endpoint ---
+
+    @Test
+    void autocomplete_ShouldReturnUsernames() throws Exception {
+        when(gamerService.autocomplete("jo", 5)).thenReturn(List.of("Joey", "Joeyboy"));
+
+        mockMvc.perform(get("/api/gamers/autocomplete").param("prefix", "jo").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("Joey"))
+                .andExpect(jsonPath("$[1]").value("Joeyboy"));
+    }
+
+    @Test
+    void autocomplete_WithoutPrefix_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/gamers/autocomplete"))
+                .andExpect(status().isBadRequest());
+
+        verify(gamerService, never()).autocomplete(any(), any());
+    }
+
+// --- Test cases for GET /api/gamers/{id}/matches endpoint ---
+
+    @Test
+    void getMatches_ShouldReturnRankedTeammates() throws Exception {
+        when(gamerSkillService.findTeammates(1L, "Diablo", 5)).thenReturn(Optional.of(List.of(
+                new GamerMatch(7L, "Ross", "Canada", Level.PRO, 7),
+                new GamerMatch(9L, "Rachel", "France", Level.NOOB, 4))));
+
+        mockMvc.perform(get("/api/gamers/1/matches").param("game", "Diablo").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].gamerName").value("Ross"))
+                .andExpect(jsonPath("$[0].score").value(7))
+                .andExpect(jsonPath("$[1].level").value("NOOB"));
+    }
+
+    @Test
+    void getMatches_WithUnknownGamer_ShouldReturn404() throws Exception {
+        when(gamerSkillService.findTeammates(999L, "Diablo", null)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/gamers/999/matches").param("game", "Diablo"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getMatches_WithoutGame_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/gamers/1/matches"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(gamerSkillService);
+    }
+}
@@ -1,11 +1,18 @@
 package com.example.gaming_directory.controller;
 
+import com.example.gaming_directory.datasource.ReadYourWrites;
+import com.example.gaming_directory.dto.CursorPage;
+import com.example.gaming_directory.dto.GamerSkillBatchResult;
 import com.example.gaming_directory.dto.GamerSkillDTO;
+import com.example.gaming_directory.dto.GamerSkillOperation;
+import com.example.gaming_directory.dto.GamerSkillView;
+import com.example.gaming_directory.dto.SearchFacets;
 import com.example.gaming_directory.entity.Game;
 import com.example.gaming_directory.entity.Gamer;
 import com.example.gaming_directory.entity.GamerSkill;
 import com.example.gaming_directory.enums.Level;
 import com.example.gaming_directory.service.GamerSkillService;
+import com.example.gaming_directory.service.GamerSkillWriteBehind;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,10 +22,20 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import org.springframework.test.web.servlet.MvcResult;
+
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,6 +48,9 @@ public class GamerSkillControllerTest {
 
     @MockitoBean
     private GamerSkillService gamerSkillService; // Mock service instead of repositories
+
+    @MockitoBean
+    private GamerSkillWriteBehind gamerSkillWriteBehind; // Disabled unless a test enables write-behind mode
     
     @Autowired
     private ObjectMapper objectMapper;
@@ -74,6 +94,51 @@ public class GamerSkillControllerTest {
         verify(gamerSkillService, times(1)).linkGamerToGame("Joey", "Counter-Strike", Level.PRO);
     }
 
+    @Test
+    void linkGamerToGame_InWriteBehindMode_ShouldQueueLinkAndReturn202() throws Exception {
+        GamerSkillOperation operation = new GamerSkillOperation("op-1", "Joey", "Counter-Strike", Level.PRO);
+        when(gamerSkillWriteBehind.isEnabled()).thenReturn(true);
+        when(gamerSkillWriteBehind.submit("Joey", "Counter-Strike", Level.PRO)).thenReturn(Optional.of(operation));
+
+        mockMvc.perform(post("/api/gamer-skills")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testGamerSkillDTO)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/gamer-skills/operations/op-1"))
+                .andExpect(jsonPath("$.operationId").value("op-1"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        verify(gamerSkillService, never()).linkGamerToGame(any(), any(), any());
+    }
+
+    @Test
+    void linkGamerToGame_InWriteBehindModeWithFullQueue_ShouldReturn503WithRetryAfter() throws Exception {
+        when(gamerSkillWriteBehind.isEnabled()).thenReturn(true);
+        when(gamerSkillWriteBehind.submit("Joey", "Counter-Strike", Level.PRO)).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/api/gamer-skills")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testGamerSkillDTO)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void getOperation_ShouldReturnOperationOr404() throws Exception {
+        GamerSkillOperation written = new GamerSkillOperation("op-1", "Joey", "Counter-Strike", Level.PRO)
+                .completed(GamerSkillOperation.Status.CREATED, 5L, null);
+        when(gamerSkillWriteBehind.findOperation("op-1")).thenReturn(Optional.of(written));
+        when(gamerSkillWriteBehind.findOperation("expired")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/gamer-skills/operations/op-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andExpect(jsonPath("$.skillId").value(5))
+                .andExpect(jsonPath("$.error").doesNotExist());
+        mockMvc.perform(get("/api/gamer-skills/operations/expired"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void linkGamerToGame_WithNonExistentGamer_ShouldReturn400() throws Exception {
         // Service throws IllegalArgumentException for non-existent gamer
@@ -136,44 +201,79 @@ public class GamerSkillControllerTest {
         verify(gamerSkillService, never()).linkGamerToGame(any(), any(), any());
     }
 
+// --- Test cases for POST /api/gamer-skills/batch endpoint ---
+
+    @Test
+    void linkGamersToGames_ShouldReturnResultPerEntry() throws Exception {
+        GamerSkillBatchResult created = new GamerSkillBatchResult(0, testGamerSkillDTO);
+        created.setStatus(GamerSkillBatchResult.Status.CREATED);
+        created.setSkillId(1L);
+        GamerSkillDTO unknown = new GamerSkillDTO("Nobody", "Counter-Strike", Level.NOOB);
+        GamerSkillBatchResult failed = GamerSkillBatchResult.failed(1, unknown, "Gamer not found with username: Nobody");
+        when(gamerSkillService.linkGamersToGames(anyList())).thenReturn(List.of(created, failed));
+
+        mockMvc.perform(post("/api/gamer-skills/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(testGamerSkillDTO, unknown))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].skillId").value(1))
+                .andExpect(jsonPath("$[0].error").doesNotExist())
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].status").value("FAILED"))
+                .andExpect(jsonPath("$[1].error").value("Gamer not found with username: Nobody"));
+    }
+
+    @Test
+    void linkGamersToGames_WithEmptyBatch_ShouldReturnBadRequest() throws Exception {
+        when(gamerSkillService.linkGamersToGames(anyList()))
+                .thenThrow(new IllegalArgumentException("At least one entry is required"));
+
+        mockMvc.perform(post("/api/gamer-skills/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
 // --- Test cases for GET /api/gamer-skills/by-level endpoint ---
 
     @Test
     void getGamersByLevelAndGame_WithValidData_ShouldReturnGamers() throws Exception {
-        List<GamerSkill> gamerSkills = Arrays.asList(testGamerSkill);
-        when(gamerSkillService.getGamersByLevelAndGame("Counter-Strike", Level.PRO))
-                .thenReturn(gamerSkills);
+        List<GamerSkillView> gamerSkills = Arrays.asList(GamerSkillView.of(testGamerSkill));
+        when(gamerSkillService.getGamersByLevelAndGame("Counter-Strike", Level.PRO, null, null))
+                .thenReturn(new CursorPage<>(gamerSkills, null, 50));
         
         mockMvc.perform(get("/api/gamer-skills/by-level")
                 .param("gameName", "Counter-Strike")
                 .param("level", "PRO"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].gamerName").value("Joey"))
-                .andExpect(jsonPath("$[0].gameName").value("Counter-Strike"))
-                .andExpect(jsonPath("$[0].skillLevel").value("PRO"));
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].gamerName").value("Joey"))
+                .andExpect(jsonPath("$.items[0].gameName").value("Counter-Strike"))
+                .andExpect(jsonPath("$.items[0].skillLevel").value("PRO"));
         
-        verify(gamerSkillService, times(1)).getGamersByLevelAndGame("Counter-Strike", Level.PRO);
+        verify(gamerSkillService, times(1)).getGamersByLevelAndGame("Counter-Strike", Level.PRO, null, null);
     }
 
     @Test
     void getGamersByLevelAndGame_WithNoResults_ShouldReturn404() throws Exception {
-        when(gamerSkillService.getGamersByLevelAndGame("Counter-Strike", Level.INVINCIBLE))
-                .thenReturn(Arrays.asList()); // Empty list
+        when(gamerSkillService.getGamersByLevelAndGame("Counter-Strike", Level.INVINCIBLE, null, null))
+                .thenReturn(new CursorPage<>(Arrays.asList(), null, 50)); // Empty page
         
         mockMvc.perform(get("/api/gamer-skills/by-level")
                 .param("gameName", "Counter-Strike")
                 .param("level", "INVINCIBLE"))
                 .andExpect(status().isNotFound());
         
-        verify(gamerSkillService, times(1)).getGamersByLevelAndGame("Counter-Strike", Level.INVINCIBLE);
+        verify(gamerSkillService, times(1)).getGamersByLevelAndGame("Counter-Strike", Level.INVINCIBLE, null, null);
     }
 
     @Test
     void getGamersByLevelAndGame_WithEmptyGameName_ShouldReturn400() throws Exception {
         // Service throws IllegalArgumentException for empty game name
-        when(gamerSkillService.getGamersByLevelAndGame("", Level.PRO))
+        when(gamerSkillService.getGamersByLevelAndGame("", Level.PRO, null, null))
                 .thenThrow(new IllegalArgumentException("Game name is required"));
         
         mockMvc.perform(get("/api/gamer-skills/by-level")
@@ -182,16 +282,16 @@ public class GamerSkillControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(content().string("Game name is required"));
         
-        verify(gamerSkillService, times(1)).getGamersByLevelAndGame("", Level.PRO);
+        verify(gamerSkillService, times(1)).getGamersByLevelAndGame("", Level.PRO, null, null);
     }
 
 // --- Test cases for GET /api/gamer-skills/search endpoint ---
 
     @Test
     void searchGamers_WithAllParameters_ShouldReturnFilteredResults() throws Exception {
-        List<GamerSkill> gamerSkills = Arrays.asList(testGamerSkill);
-        when(gamerSkillService.searchGamers(Level.PRO, "Counter-Strike", "USA"))
-                .thenReturn(gamerSkills);
+        List<GamerSkillView> gamerSkills = Arrays.asList(GamerSkillView.of(testGamerSkill));
+        when(gamerSkillService.searchGamers(Level.PRO, "Counter-Strike", "USA", null, null, false))
+                .thenReturn(new CursorPage<>(gamerSkills, null, 50));
         
         mockMvc.perform(get("/api/gamer-skills/search")
                 .param("level", "PRO")
@@ -199,29 +299,55 @@ public class GamerSkillControllerTest {
                 .param("country", "USA"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.items.length()").value(1));
         
-        verify(gamerSkillService, times(1)).searchGamers(Level.PRO, "Counter-Strike", "USA");
+        verify(gamerSkillService, times(1)).searchGamers(Level.PRO, "Counter-Strike", "USA", null, null, false);
+    }
+
+    @Test
+    void searchGamers_WithFacets_ShouldReturnCountsForOpenFilters() throws Exception {
+        CursorPage<GamerSkillView> page = new CursorPage<>(List.of(GamerSkillView.of(testGamerSkill)), null, 50);
+        page.setFacets(new SearchFacets(Map.of(Level.PRO, 3L), null, Map.of("USA", 2L, "Canada", 1L)));
+        when(gamerSkillService.searchGamers(null, "Diablo", null, null, null, true)).thenReturn(page);
+
+        mockMvc.perform(get("/api/gamer-skills/search")
+                .param("gameName", "Diablo")
+                .param("facets", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.facets.level.PRO").value(3))
+                .andExpect(jsonPath("$.facets.country.USA").value(2))
+                .andExpect(jsonPath("$.facets.gameName").doesNotExist());
+    }
+
+    @Test
+    void searchGamers_WithoutFacets_ShouldLeaveFacetsOut() throws Exception {
+        when(gamerSkillService.searchGamers(null, "Diablo", null, null, null, false))
+                .thenReturn(new CursorPage<>(List.of(GamerSkillView.of(testGamerSkill)), null, 50));
+
+        mockMvc.perform(get("/api/gamer-skills/search").param("gameName", "Diablo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.facets").doesNotExist());
     }
 
     @Test
     void searchGamers_WithNoParameters_ShouldReturnAllGamers() throws Exception {
-        List<GamerSkill> gamerSkills = Arrays.asList(testGamerSkill);
-        when(gamerSkillService.searchGamers(null, null, null))
-                .thenReturn(gamerSkills);
+        List<GamerSkillView> gamerSkills = Arrays.asList(GamerSkillView.of(testGamerSkill));
+        when(gamerSkillService.searchGamers(null, null, null, null, null, false))
+                .thenReturn(new CursorPage<>(gamerSkills, null, 50));
         
         mockMvc.perform(get("/api/gamer-skills/search"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.items.length()").value(1));
         
-        verify(gamerSkillService, times(1)).searchGamers(null, null, null);
+        verify(gamerSkillService, times(1)).searchGamers(null, null, null, null, null, false);
     }
 
     @Test
     void searchGamers_WithNoResults_ShouldReturn404() throws Exception {
-        when(gamerSkillService.searchGamers(Level.INVINCIBLE, "NonExistentGame", "Mars"))
-                .thenReturn(Arrays.asList()); // Empty list
+        when(gamerSkillService.searchGamers(Level.INVINCIBLE, "NonExistentGame", "Mars", null, null, false))
+                .thenReturn(new CursorPage<>(Arrays.asList(), null, 50)); // Empty page
         
         mockMvc.perform(get("/api/gamer-skills/search")
                 .param("level", "INVINCIBLE")
@@ -229,6 +355,81 @@ public class GamerSkillControllerTest {
                 .param("country", "Mars"))
                 .andExpect(status().isNotFound());
         
-        verify(gamerSkillService, times(1)).searchGamers(Level.INVINCIBLE, "NonExistentGame", "Mars");
+        verify(gamerSkillService, times(1)).searchGamers(Level.INVINCIBLE, "NonExistentGame", "Mars", null, null, false);
+    }
+
+// --- Test cases for NDJSON streaming of GET /api/gamer-skills/search and GET /api/gamer-skills/export ---
+
+    @Test
+    void searchGamers_WithNdjsonAccept_ShouldStreamOneJsonObjectPerLine() throws Exception {
+        GamerSkill secondSkill = new GamerSkill(testGamer, new Game("Diablo"), Level.NOOB);
+        secondSkill.setId(2L);
+        doAnswer(invocation -> {
+            Consumer<GamerSkill> consumer = invocation.getArgument(3);
+            consumer.accept(testGamerSkill);
+            consumer.accept(secondSkill);
+            return 2L;
+        }).when(gamerSkillService).streamGamers(eq(Level.PRO), isNull(), isNull(), any());
+
+        MvcResult result = mockMvc.perform(get("/api/gamer-skills/search")
+                .param("level", "PRO")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).isEqualTo(
+                objectMapper.writeValueAsString(testGamerSkill) + "\n" +
+                objectMapper.writeValueAsString(secondSkill) + "\n");
+        verify(gamerSkillService, never()).searchGamers(any(), any(), any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void exportGamerSkills_ShouldStreamAllGamerSkills() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<GamerSkill> consumer = invocation.getArgument(3);
+            consumer.accept(testGamerSkill);
+            return 1L;
+        }).when(gamerSkillService).streamGamers(isNull(), isNull(), isNull(), any());
+
+        MvcResult result = mockMvc.perform(get("/api/gamer-skills/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(objectMapper.writeValueAsString(testGamerSkill) + "\n"));
+
+        verify(gamerSkillService, times(1)).streamGamers(isNull(), isNull(), isNull(), any());
+    }
+
+    @Test
+    void exportGamerSkills_WithReadYourWrites_ShouldReadFromThePrimaryWhileStreaming() throws Exception {
+        AtomicBoolean readYourWrites = new AtomicBoolean();
+        doAnswer(invocation -> {
+            readYourWrites.set(ReadYourWrites.isActive());
+            return 0L;
+        }).when(gamerSkillService).streamGamers(isNull(), isNull(), isNull(), any());
+
+        // Switched on for the request like ReadYourWritesFilter does, and off again before the body is streamed
+        MvcResult result;
+        ReadYourWrites.activate();
+        try {
+            result = mockMvc.perform(get("/api/gamer-skills/export"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+        } finally {
+            ReadYourWrites.clear();
+        }
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        assertThat(readYourWrites).isTrue();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.example.gaming_directory.controller;
+
+import com.example.gaming_directory.dto.ImportReport;
+import com.example.gaming_directory.enums.ImportFormat;
+import com.example.gaming_directory.service.ImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ImportController.class)
+class ImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ImportService importService;
+
+    @Test
+    void importCsv_ShouldStreamBodyToImportService() throws Exception {
+        ImportReport report = new ImportReport();
+        report.setRowsRead(2);
+        report.setGamersCreated(2);
+        report.finish(1_000_000, true);
+        when(importService.importRows(any(InputStream.class), eq(ImportFormat.CSV))).thenReturn(report);
+
+        mockMvc.perform(post("/api/import")
+                .contentType(ImportController.TEXT_CSV_VALUE)
+                .content("username,country\nJoey,USA\nRoss,Canada\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.rowsRead").value(2))
+                .andExpect(jsonPath("$.gamersCreated").value(2));
+    }
+
+    @Test
+    void importNdjson_ShouldUseNdjsonFormat() throws Exception {
+        when(importService.importRows(any(InputStream.class), eq(ImportFormat.NDJSON))).thenReturn(new ImportReport());
+
+        mockMvc.perform(post("/api/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"username\":\"Joey\",\"country\":\"USA\"}\n"))
+                .andExpect(status().isOk());
+
+        verify(importService).importRows(any(InputStream.class), eq(ImportFormat.NDJSON));
+    }
+}
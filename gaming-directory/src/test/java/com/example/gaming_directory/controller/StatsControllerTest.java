@@ -0,0 +1,48 @@
+package com.example.gaming_directory.controller;
+
+import com.example.gaming_directory.dto.GamerSkillCount;
+import com.example.gaming_directory.enums.Level;
+import com.example.gaming_directory.service.GamerSkillService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(StatsController.class)
+class StatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private GamerSkillService gamerSkillService;
+
+    @Test
+    void getStats_ShouldReturnPlayersPerGameLevelAndCountry() throws Exception {
+        when(gamerSkillService.getStats(Level.PRO, "Diablo", null))
+                .thenReturn(List.of(new GamerSkillCount("Diablo", Level.PRO, "USA", 42)));
+
+        mockMvc.perform(get("/api/stats").param("level", "PRO").param("gameName", "Diablo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].gameName").value("Diablo"))
+                .andExpect(jsonPath("$[0].level").value("PRO"))
+                .andExpect(jsonPath("$[0].country").value("USA"))
+                .andExpect(jsonPath("$[0].players").value(42));
+    }
+
+    @Test
+    void getStats_WithNoPlayers_ShouldReturnEmptyList() throws Exception {
+        when(gamerSkillService.getStats(null, null, "Mars")).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/stats").param("country", "Mars"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+    }
+}
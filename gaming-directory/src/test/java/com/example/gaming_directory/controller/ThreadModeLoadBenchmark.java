@@ -0,0 +1,245 @@
+package com.example.gaming_directory.controller;
+
+import com.example.gaming_directory.GamingDirectoryApplication;
+import com.example.gaming_directory.config.SyntheticData;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+// Load test comparing the platform-thread (Tomcat pool of 200) and virtual-thread request modes: throughput and
+// latency percentiles of a read mix (search, level lookup, gamer pages) at 1k and 10k concurrent clients, each sending
+// its next request as soon as the previous one is answered. The server runs in its own JVM against a synthetic dataset.
+// Not part of the regular test run; run with: mvn test -Dtest=ThreadModeLoadBenchmark
+// Options: -Dload.clients=1000,10000 -Dload.seconds=30 -Dload.gamers=50000 -Dload.serverArgs="--a=b --c=d"
+// Needs about clients + 100 open files per process (ulimit -n).
+class ThreadModeLoadBenchmark {
+
+    private static final int[] CLIENTS = Arrays.stream(System.getProperty("load.clients", "1000,10000").split(","))
+        .mapToInt(clients -> Integer.parseInt(clients.trim())).toArray();
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmupSeconds", 10));
+    private static final int GAMERS = Integer.getInteger("load.gamers", 50_000);
+    private static final int GAMES = 500;
+
+    @Test
+    void compareThroughputAndLatencyOfPlatformAndVirtualThreads() throws Exception {
+        List<String> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[] {false, true}) {
+            String mode = virtualThreads ? "virtual" : "platform";
+            try (Server server = Server.start(virtualThreads)) {
+                run(server, Math.min(100, CLIENTS[0]), WARMUP);
+                for (int clients : CLIENTS) {
+                    Result result = run(server, clients, DURATION);
+                    results.add(String.format("%-8s %7d %10.0f %8.1f %8.1f %8.1f %8.1f %9d %7d",
+                        mode, clients, result.throughput(), result.percentile(0.50), result.percentile(0.99),
+                        result.percentile(0.999), result.maxMillis(), result.rejected, result.errors));
+                }
+            }
+        }
+
+        System.out.printf("%n%-8s %7s %10s %8s %8s %8s %8s %9s %7s%n",
+            "mode", "clients", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "rejected", "errors");
+        results.forEach(System.out::println);
+    }
+
+    // Every client sends requests back to back until the deadline
+    private Result run(Server server, int clients, Duration duration) throws InterruptedException {
+        HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+        Client[] workers = new Client[clients];
+        CountDownLatch done = new CountDownLatch(clients);
+        long deadline = System.nanoTime() + duration.toNanos();
+        for (int i = 0; i < clients; i++) {
+            Client worker = new Client(http, server.baseUrl, new SplittableRandom(i), deadline);
+            workers[i] = worker;
+            Thread.ofVirtual().start(() -> {
+                try {
+                    worker.run();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        http.close();
+        return Result.of(workers, duration);
+    }
+
+    private static class Client implements Runnable {
+
+        private final HttpClient http;
+        private final String baseUrl;
+        private final SplittableRandom random;
+        private final long deadline;
+
+        private long[] latencies = new long[256];
+        private int count;
+        private long rejected;
+        private long errors;
+
+        Client(HttpClient http, String baseUrl, SplittableRandom random, long deadline) {
+            this.http = http;
+            this.baseUrl = baseUrl;
+            this.random = random;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            while (System.nanoTime() < deadline) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + nextPath()))
+                    .timeout(Duration.ofSeconds(60))
+                    .build();
+                long start = System.nanoTime();
+                try {
+                    int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    if (status == 200) {
+                        record(System.nanoTime() - start);
+                    } else if (status == 503) {
+                        rejected++;
+                    } else {
+                        errors++;
+                    }
+                } catch (IOException e) {
+                    errors++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        // Read mix weighted towards search; popular games (low numbers) are asked for more often
+        private String nextPath() {
+            String game = "Game%20" + (1 + Math.min(random.nextInt(GAMES), random.nextInt(GAMES)));
+            String level = new String[] {"NOOB", "PRO", "INVINCIBLE"}[random.nextInt(3)];
+            return switch (random.nextInt(4)) {
+                case 0, 1 -> "/api/gamer-skills/search?gameName=" + game + "&level=" + level;
+                case 2 -> "/api/gamer-skills/by-level?gameName=" + game + "&level=" + level;
+                default -> "/api/gamers?after=" + random.nextInt(GAMERS);
+            };
+        }
+
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+
+    private record Result(long[] sortedLatencies, long rejected, long errors, Duration duration) {
+
+        static Result of(Client[] clients, Duration duration) {
+            long[] all = new long[Arrays.stream(clients).mapToInt(client -> client.count).sum()];
+            int offset = 0;
+            long rejected = 0;
+            long errors = 0;
+            for (Client client : clients) {
+                System.arraycopy(client.latencies, 0, all, offset, client.count);
+                offset += client.count;
+                rejected += client.rejected;
+                errors += client.errors;
+            }
+            Arrays.sort(all);
+            return new Result(all, rejected, errors, duration);
+        }
+
+        double throughput() {
+            return sortedLatencies.length / (double) duration.toSeconds();
+        }
+
+        double percentile(double quantile) {
+            if (sortedLatencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(quantile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        double maxMillis() {
+            return sortedLatencies.length == 0 ? Double.NaN : sortedLatencies[sortedLatencies.length - 1] / 1_000_000.0;
+        }
+    }
+
+    // The application in a forked JVM on a free port, with the synthetic dataset
+    private record Server(Process process, String baseUrl) implements AutoCloseable {
+
+        static Server start(boolean virtualThreads) throws Exception {
+            int port;
+            try (ServerSocket socket = new ServerSocket(0)) {
+                port = socket.getLocalPort();
+            }
+
+            List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                GamingDirectoryApplication.class.getName(),
+                "--server.port=" + port,
+                "--spring.profiles.active=" + SyntheticData.PROFILE,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--gaming.synthetic.gamers=" + GAMERS,
+                "--gaming.synthetic.games=" + GAMES,
+                // Accept every client connection, so the thread model decides how requests are served
+                "--server.tomcat.max-connections=" + (Arrays.stream(CLIENTS).max().orElse(0) + 1000),
+                "--server.tomcat.accept-count=1000",
+                "--gaming.web.concurrency-limit.acquire-timeout=30s",
+                "--logging.level.root=WARN"));
+            String extraArgs = System.getProperty("load.serverArgs", "").trim();
+            if (!extraArgs.isEmpty()) {
+                command.addAll(List.of(extraArgs.split("\\s+")));
+            }
+
+            File log = Files.createTempFile("load-server-", ".log").toFile();
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log).start();
+            Server server = new Server(process, "http://localhost:" + port);
+            server.awaitHealthy(log);
+            System.out.printf("Started %s-thread server on port %d (log: %s)%n", virtualThreads ? "virtual" : "platform", port, log);
+            return server;
+        }
+
+        private void awaitHealthy(File log) throws Exception {
+            try (HttpClient http = HttpClient.newHttpClient()) {
+                HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).build();
+                long deadline = System.nanoTime() + Duration.ofMinutes(5).toNanos();
+                while (System.nanoTime() < deadline) {
+                    if (!process.isAlive()) {
+                        throw new IllegalStateException("Server exited, see " + log);
+                    }
+                    try {
+                        if (http.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                            return;
+                        }
+                    } catch (IOException e) {
+                        // not listening yet
+                    }
+                    Thread.sleep(500);
+                }
+            }
+            close();
+            throw new IllegalStateException("Server did not start within 5 minutes, see " + log);
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+}
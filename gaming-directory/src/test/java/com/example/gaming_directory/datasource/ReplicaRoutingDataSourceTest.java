@@ -0,0 +1,59 @@
+package com.example.gaming_directory.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Two separate in-memory databases; DATABASE() tells which one a statement ran on
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+        new DriverManagerDataSource("jdbc:h2:mem:primary", "sa", ""),
+        new DriverManagerDataSource("jdbc:h2:mem:replica", "sa", "")));
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica() {
+        assertEquals("REPLICA", databaseIn(transaction(true)));
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUsePrimary() {
+        assertEquals("PRIMARY", databaseIn(transaction(false)));
+    }
+
+    @Test
+    void withoutTransaction_ShouldUsePrimary() {
+        assertEquals("PRIMARY", jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUsePrimary_WhenReadingOwnWrites() {
+        ReadYourWrites.activate();
+        assertEquals("PRIMARY", databaseIn(transaction(true)));
+    }
+
+    private TransactionTemplate transaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    private String databaseIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.gaming_directory.dto;
+
+import com.example.gaming_directory.entity.Game;
+import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.entity.GamerSkill;
+import com.example.gaming_directory.enums.Level;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GamerSkillViewTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void json_ShouldMatchGamerSkillEntity() throws Exception {
+        Gamer gamer = new Gamer("Joey", "USA");
+        gamer.setId(3L);
+        Game game = new Game("Counter-Strike");
+        game.setId(7L);
+        GamerSkill gamerSkill = new GamerSkill(gamer, game, Level.PRO);
+        gamerSkill.setId(42L);
+
+        // Same properties in the same order
+        assertEquals(objectMapper.writeValueAsString(gamerSkill), objectMapper.writeValueAsString(GamerSkillView.of(gamerSkill)));
+    }
+}
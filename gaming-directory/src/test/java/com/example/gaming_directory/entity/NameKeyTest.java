@@ -0,0 +1,37 @@
+package com.example.gaming_directory.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameKeyTest {
+
+    @Test
+    void of_ShouldIgnoreCase() {
+        assertThat(NameKey.of("Joey")).isEqualTo("joey");
+        assertThat(NameKey.of("JOEY")).isEqualTo(NameKey.of("joey"));
+    }
+
+    @Test
+    void of_ShouldFoldCompatibilityCharactersAndEncodings() {
+        // Full-width letters, a ligature, and a precomposed vs. decomposed accent
+        assertThat(NameKey.of("Ｊｏｅｙ")).isEqualTo("joey");
+        assertThat(NameKey.of("ﬁfa")).isEqualTo("fifa");
+        assertThat(NameKey.of("Pokémon")).isEqualTo(NameKey.of("POKÉMON"));
+    }
+
+    @Test
+    void of_ShouldFoldCharactersWithoutSingleLowerCase() {
+        assertThat(NameKey.of("Straße")).isEqualTo(NameKey.of("STRASSE"));
+    }
+
+    @Test
+    void entities_ShouldKeepTheirKeyInSync() {
+        Gamer gamer = new Gamer("Joey", "USA");
+        gamer.setUsername("JoeyT");
+        Game game = new Game("Counter-Strike");
+
+        assertThat(gamer.getUsernameKey()).isEqualTo("joeyt");
+        assertThat(game.getNameKey()).isEqualTo("counter-strike");
+    }
+}
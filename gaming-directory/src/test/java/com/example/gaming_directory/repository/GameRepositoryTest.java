@@ -0,0 +1,87 @@
+package com.example.gaming_directory.repository;
+
+import com.example.gaming_directory.cache.CountryDictionary;
+import com.example.gaming_directory.entity.Game;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The second-level cache only serves committed data, so every repository call here runs in its own transaction
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(CountryDictionary.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GameRepositoryTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    private Statistics statistics;
+    private Long diabloId;
+
+    @BeforeEach
+    void setUp() {
+        diabloId = gameRepository.save(new Game("Diablo")).getId();
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameRepository.deleteAll();
+    }
+
+    @Test
+    void findByNameKey_ShouldServeRepeatedLookupsFromTheCache() {
+        Optional<Game> first = gameRepository.findByNameKey("diablo");
+        long statementsAfterFirst = statistics.getPrepareStatementCount();
+        Optional<Game> second = gameRepository.findByNameKey("diablo");
+
+        assertThat(first).get().extracting(Game::getId).isEqualTo(diabloId);
+        assertThat(second).get().extracting(Game::getName).isEqualTo("Diablo");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirst);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findById_ShouldBeServedFromTheGameRegionOnceLoaded() {
+        gameRepository.findByNameKey("diablo");
+        long statementsAfterLoad = statistics.getPrepareStatementCount();
+
+        Optional<Game> game = gameRepository.findById(diabloId);
+
+        assertThat(game).get().extracting(Game::getName).isEqualTo("Diablo");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterLoad);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void save_ShouldInvalidateCachedNameLookups() {
+        // A cached miss must not hide a game created afterwards
+        assertThat(gameRepository.findByNameKey("hades")).isEmpty();
+        assertThat(gameRepository.findByNameKey("hades")).isEmpty();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        gameRepository.save(new Game("Hades"));
+
+        assertThat(gameRepository.findByNameKey("hades")).get().extracting(Game::getName).isEqualTo("Hades");
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+}
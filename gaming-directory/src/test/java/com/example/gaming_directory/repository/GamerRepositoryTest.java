@@ -0,0 +1,108 @@
+package com.example.gaming_directory.repository;
+
+import com.example.gaming_directory.cache.CountryDictionary;
+import com.example.gaming_directory.entity.Game;
+import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.entity.GamerSkill;
+import com.example.gaming_directory.enums.Level;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(CountryDictionary.class)
+class GamerRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private GamerRepository gamerRepository;
+
+    private Statistics statistics;
+    private Long firstGamerId;
+
+    @BeforeEach
+    void setUp() {
+        Game counterStrike = entityManager.persist(new Game("Counter-Strike"));
+        Game diablo = entityManager.persist(new Game("Diablo"));
+
+        // Enough gamers that an N+1 would clearly show up in the statement count
+        for (int i = 0; i < 10; i++) {
+            Gamer gamer = entityManager.persist(new Gamer("Gamer" + i, "USA"));
+            entityManager.persist(new GamerSkill(gamer, counterStrike, Level.PRO));
+            entityManager.persist(new GamerSkill(gamer, diablo, Level.NOOB));
+            if (i == 0) {
+                firstGamerId = gamer.getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllWithSkillsByIdIn_ShouldLoadGamerPageWithSkillsAndGamesInTwoQueries() {
+        List<Long> ids = gamerRepository.findIdsAfter(0L, Limit.of(10));
+        List<Gamer> gamers = gamerRepository.findAllWithSkillsByIdIn(ids);
+
+        // Touch everything Jackson touches when serializing the list
+        gamers.forEach(gamer -> assertThat(gamer.getGames()).hasSize(2));
+
+        assertThat(gamers).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findIdsAfter_ShouldSeekPastCursorInIdOrder() {
+        List<Long> firstPage = gamerRepository.findIdsAfter(0L, Limit.of(4));
+        List<Long> secondPage = gamerRepository.findIdsAfter(firstPage.get(3), Limit.of(4));
+
+        assertThat(firstPage).hasSize(4).isSorted();
+        assertThat(secondPage).hasSize(4).isSorted();
+        assertThat(secondPage.get(0)).isGreaterThan(firstPage.get(3));
+    }
+
+    @Test
+    void findWithSkillsById_ShouldLoadGamerSkillsAndGamesInOneQuery() {
+        Optional<Gamer> gamer = gamerRepository.findWithSkillsById(firstGamerId);
+
+        assertThat(gamer).isPresent();
+        assertThat(gamer.get().getGames())
+                .containsExactlyInAnyOrder("Counter-Strike (PRO)", "Diablo (NOOB)");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findByUsernameKey_ShouldFindGamerInAnyCase() {
+        Optional<Gamer> gamer = gamerRepository.findByUsernameKey("gamer0");
+
+        assertThat(gamer).get().extracting(Gamer::getUsername).isEqualTo("Gamer0");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void save_WithUsernameOnlyDifferingInCase_ShouldViolateUniqueKey() {
+        assertThatThrownBy(() -> gamerRepository.saveAndFlush(new Gamer("GAMER0", "USA")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.gaming_directory.repository;
+
+import com.example.gaming_directory.cache.CountryDictionary;
+import com.example.gaming_directory.dto.GamerSkillView;
+import com.example.gaming_directory.entity.Game;
+import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.entity.GamerSkill;
+import com.example.gaming_directory.enums.Level;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(CountryDictionary.class)
+class GamerSkillRepositoryTest {
+
+    private static final int GAMERS = 4;
+    private static final int GAMES = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private GamerSkillRepository gamerSkillRepository;
+
+    private final List<Gamer> gamers = new ArrayList<>();
+    private final List<Game> games = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < GAMERS; i++) {
+            gamers.add(entityManager.persist(new Gamer("Gamer" + i, "USA")));
+        }
+        for (int i = 0; i < GAMES; i++) {
+            games.add(entityManager.persist(new Game("Game" + i)));
+        }
+        entityManager.flush();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void saveAll_ShouldSendInsertsInJdbcBatches() {
+        List<GamerSkill> skills = new ArrayList<>();
+        for (Gamer gamer : gamers) {
+            for (Game game : games) {
+                skills.add(new GamerSkill(gamer, game, Level.PRO));
+            }
+        }
+
+        gamerSkillRepository.saveAll(skills);
+        entityManager.flush();
+
+        // 200 rows: 4 sequence calls (allocation size 50) and 4 batched inserts, instead of 200 inserts
+        assertThat(skills).allSatisfy(skill -> assertThat(skill.getId()).isNotNull());
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(GAMERS * GAMES);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    void findByGamerIdInAndGameIdIn_ShouldReturnExistingSkillsWithGamerAndGameInOneQuery() {
+        entityManager.persist(new GamerSkill(gamers.get(0), games.get(0), Level.NOOB));
+        entityManager.persist(new GamerSkill(gamers.get(1), games.get(1), Level.PRO));
+        entityManager.persist(new GamerSkill(gamers.get(2), games.get(0), Level.INVINCIBLE));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<GamerSkill> skills = gamerSkillRepository.findByGamerIdInAndGameIdIn(
+            List.of(gamers.get(0).getId(), gamers.get(1).getId()),
+            List.of(games.get(0).getId(), games.get(1).getId()));
+
+        assertThat(skills).extracting(GamerSkill::getGamerName).containsExactlyInAnyOrder("Gamer0", "Gamer1");
+        assertThat(skills).extracting(GamerSkill::getGameName).containsExactlyInAnyOrder("Game0", "Game1");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findByLevelAndGameIdAndCountry_ShouldReturnFlatRowsFromOneJoinWithoutLoadingEntities() {
+        GamerSkill first = entityManager.persist(new GamerSkill(gamers.get(0), games.get(0), Level.PRO));
+        entityManager.persist(new GamerSkill(gamers.get(1), games.get(0), Level.NOOB));
+        GamerSkill third = entityManager.persist(new GamerSkill(gamers.get(2), games.get(0), Level.PRO));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<GamerSkillView> views = gamerSkillRepository.findByLevelAndGameIdAndCountry(
+            Level.PRO, games.get(0).getId(), "USA", 0L, Limit.of(10));
+
+        assertThat(views).containsExactly(GamerSkillView.of(first), GamerSkillView.of(third));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.gaming_directory.repository;
+
+import com.example.gaming_directory.synthetic.SyntheticDataGenerator;
+import com.example.gaming_directory.synthetic.SyntheticDataProperties;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Shows the query plan and latency of the hot repository queries without the query indexes, with the indexes the
+// migrations leave (V2, rebuilt on the encoded columns by V4), and with idx_gamers_country_id added back (dropped by V7).
+// Not part of the regular test run; run with: mvn test -Dtest=QueryIndexBenchmark
+class QueryIndexBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE";
+
+    private static final int GAMES = 50;
+    private static final int GAMERS = 100_000;
+    private static final int SKILLS_PER_GAMER = 10; // ~1M skill rows
+
+    private static final int RUNS = 25;
+
+    // findByLevelAndGameIdAndCountry as Hibernate generates it: every filter is an optional parameter, so H2 plans the
+    // statement without knowing which filters are set
+    private static final String SEARCH =
+        "SELECT gs.id, gs.level, g.username, g.country_id, gm.name FROM gamer_skills gs " +
+        "JOIN gamers g ON g.id = gs.gamer_id JOIN games gm ON gm.id = gs.game_id WHERE " +
+        "(? IS NULL OR gs.level = ?) AND (? IS NULL OR gs.game_id = ?) AND (? IS NULL OR g.country_id = ?) AND " +
+        "gs.id > ? ORDER BY gs.id FETCH FIRST ? ROWS ONLY";
+
+    // The SQL Hibernate generates for each repository query, with the parameters it binds (first page of 50 + 1).
+    // Levels are bound as their codes (NOOB 0, PRO 1, INVINCIBLE 2), countries as their dictionary ids, like
+    // CountryConverter does, and games as their ids, which the service resolves from the name cache.
+    private static final Map<String, BenchmarkQuery> QUERIES = new LinkedHashMap<>();
+    static {
+        QUERIES.put("findByGame_IdAndLevel", new BenchmarkQuery(
+            "SELECT gs.id, gs.level, g.username, g.country_id, gm.name FROM gamer_skills gs " +
+            "JOIN gamers g ON g.id = gs.gamer_id JOIN games gm ON gm.id = gs.game_id WHERE " +
+            "gs.game_id = ? AND gs.level = ? AND gs.id > ? ORDER BY gs.id FETCH FIRST ? ROWS ONLY",
+            game("Game 7"), 2, 0L, 51));
+        QUERIES.put("search by level", search(1, null, null, 500_000L));
+        QUERIES.put("search by common country", search(null, null, country("USA"), 0L));
+        QUERIES.put("search by rare country", search(null, null, country("Iceland"), 0L));
+        QUERIES.put("search by game, level and country", search(0, game("Game 7"), country("Sweden"), 0L));
+    }
+
+    private static final String GAME_LEVEL_INDEX = "CREATE INDEX idx_gamer_skills_game_level_id ON gamer_skills (game_id, level, id)";
+    private static final String COUNTRY_INDEX = "CREATE INDEX idx_gamers_country_id ON gamers (country_id, id)";
+
+    @Test
+    void compareQueryPlansAndLatencyBeforeAndAfterIndexes() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            Flyway.configure().dataSource(URL, "sa", "").load().migrate();
+            seed(connection);
+
+            execute(connection, "DROP INDEX idx_gamer_skills_game_level_id");
+            System.out.println("=== Before: without query indexes ===");
+            report(connection);
+
+            execute(connection, GAME_LEVEL_INDEX);
+            System.out.println("=== After: query indexes of the migrations ===");
+            report(connection);
+
+            execute(connection, COUNTRY_INDEX);
+            System.out.println("=== With idx_gamers_country_id (dropped by V7) ===");
+            report(connection);
+        }
+    }
+
+    // Production-shaped data from the synthetic generator: Zipf game popularity, real-world country mix
+    private void seed(Connection connection) throws SQLException {
+        SyntheticDataProperties properties = new SyntheticDataProperties(GAMERS, GAMES, SKILLS_PER_GAMER);
+        SyntheticDataGenerator.Result result = new SyntheticDataGenerator(new DriverManagerDataSource(URL, "sa", ""), properties).generate();
+
+        execute(connection, "ANALYZE");
+        System.out.printf("Seeded %d gamers, %d games, %d gamer skills%n", result.gamers(), result.games(), result.skills());
+    }
+
+    private void report(Connection connection) throws SQLException {
+        execute(connection, "ANALYZE");
+        for (Map.Entry<String, BenchmarkQuery> query : QUERIES.entrySet()) {
+            System.out.println("--- " + query.getKey());
+            try (PreparedStatement statement = prepare(connection, query.getValue())) {
+                System.out.println(explain(connection, query.getValue()));
+                System.out.printf("median %.3f ms over %d runs%n%n", medianMillis(statement), RUNS);
+            }
+        }
+    }
+
+    // The statement with its arguments bound, country and game names replaced with their ids
+    private PreparedStatement prepare(Connection connection, BenchmarkQuery query) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(query.sql());
+        for (int i = 0; i < query.arguments().length; i++) {
+            statement.setObject(i + 1, resolve(connection, query.arguments()[i]));
+        }
+        return statement;
+    }
+
+    private Object resolve(Connection connection, Object argument) throws SQLException {
+        if (!(argument instanceof NamedRow row)) {
+            return argument;
+        }
+        try (PreparedStatement statement = connection.prepareStatement("SELECT id FROM " + row.table() + " WHERE name = ?")) {
+            statement.setString(1, row.name());
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+                return result.getLong(1);
+            }
+        }
+    }
+
+    // EXPLAIN of the prepared statement, so H2 plans it without the argument values like it does for Hibernate
+    private String explain(Connection connection, BenchmarkQuery query) throws SQLException {
+        try (PreparedStatement statement = prepare(connection, new BenchmarkQuery("EXPLAIN " + query.sql(), query.arguments()));
+             ResultSet plan = statement.executeQuery()) {
+            plan.next();
+            return plan.getString(1);
+        }
+    }
+
+    private double medianMillis(PreparedStatement statement) throws SQLException {
+        double[] timings = new double[RUNS];
+        for (int warmup = 0; warmup < 5; warmup++) {
+            execute(statement);
+        }
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            execute(statement);
+            timings[run] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(timings);
+        return timings[RUNS / 2];
+    }
+
+    private void execute(PreparedStatement statement) throws SQLException {
+        try (ResultSet rows = statement.executeQuery()) {
+            while (rows.next()) {
+                rows.getLong(1);
+            }
+        }
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    // Every optional filter is bound twice, once for the IS NULL test and once for the comparison
+    private static BenchmarkQuery search(Object level, Object game, Object country, long after) {
+        return new BenchmarkQuery(SEARCH, level, level, game, game, country, country, after, 51);
+    }
+
+    private static NamedRow country(String name) {
+        return new NamedRow("countries", name);
+    }
+
+    private static NamedRow game(String name) {
+        return new NamedRow("games", name);
+    }
+
+    private record BenchmarkQuery(String sql, Object... arguments) {}
+
+    // The id of the row with the given name, looked up once the data is seeded
+    private record NamedRow(String table, String name) {}
+}
@@ -0,0 +1,137 @@
+package com.example.gaming_directory.repository;
+
+import com.example.gaming_directory.synthetic.SyntheticDataGenerator;
+import com.example.gaming_directory.synthetic.SyntheticDataProperties;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Compares the storage size and filter latency of level and country stored as text (VARCHAR, what EnumType.STRING and a
+// plain String column map to) against the V4 encoding (SMALLINT level code, SMALLINT reference to countries).
+// Both variants are copies of the same seeded rows in a file database, so their real on-disk size can be compared by how
+// much the compacted database file grows when the copy and then its filter index are created.
+// Not part of the regular test run; run with: mvn test -Dtest=StorageEncodingBenchmark
+class StorageEncodingBenchmark {
+
+    private static final int GAMES = 50;
+    private static final int GAMERS = 100_000;
+    private static final int SKILLS_PER_GAMER = 10; // ~1M skill rows
+
+    private static final int RUNS = 25;
+
+    // Variant -> table copy, its filter column's index, and the queries to time (a count and a search page);
+    // %d is the id of Sweden in the countries table
+    private static final Map<String, String[]> VARIANTS = new LinkedHashMap<>();
+    static {
+        VARIANTS.put("gamer_skills, level as text", new String[]{
+            "CREATE TABLE skills_text AS SELECT id, gamer_id, game_id, " +
+                "CAST(CASE level WHEN 0 THEN 'NOOB' WHEN 1 THEN 'PRO' ELSE 'INVINCIBLE' END AS VARCHAR(255)) AS level FROM gamer_skills",
+            "CREATE INDEX idx_skills_text ON skills_text (game_id, level, id)",
+            "SELECT COUNT(*) FROM skills_text WHERE level = 'INVINCIBLE'",
+            "SELECT id FROM skills_text WHERE game_id = 7 AND level = 'INVINCIBLE' AND id > 0 ORDER BY id FETCH FIRST 51 ROWS ONLY"});
+        VARIANTS.put("gamer_skills, level as code", new String[]{
+            "CREATE TABLE skills_coded AS SELECT id, gamer_id, game_id, level FROM gamer_skills",
+            "CREATE INDEX idx_skills_coded ON skills_coded (game_id, level, id)",
+            "SELECT COUNT(*) FROM skills_coded WHERE level = 2",
+            "SELECT id FROM skills_coded WHERE game_id = 7 AND level = 2 AND id > 0 ORDER BY id FETCH FIRST 51 ROWS ONLY"});
+        VARIANTS.put("gamers, country as text", new String[]{
+            "CREATE TABLE gamers_text AS SELECT gm.id, gm.username, c.name AS country FROM gamers gm JOIN countries c ON c.id = gm.country_id",
+            "CREATE INDEX idx_gamers_text ON gamers_text (country, id)",
+            "SELECT COUNT(*) FROM gamers_text WHERE country = 'Sweden'",
+            "SELECT id FROM gamers_text WHERE country = 'Sweden' AND id > 0 ORDER BY id FETCH FIRST 51 ROWS ONLY"});
+        VARIANTS.put("gamers, country as reference", new String[]{
+            "CREATE TABLE gamers_coded AS SELECT id, username, country_id FROM gamers",
+            "CREATE INDEX idx_gamers_coded ON gamers_coded (country_id, id)",
+            "SELECT COUNT(*) FROM gamers_coded WHERE country_id = %d",
+            "SELECT id FROM gamers_coded WHERE country_id = %d AND id > 0 ORDER BY id FETCH FIRST 51 ROWS ONLY"});
+    }
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void compareTextAndCodedStorage() throws SQLException, IOException {
+        String url = "jdbc:h2:file:" + directory.resolve("storage") + ";OPTIMIZE_REUSE_RESULTS=FALSE";
+        Path file = directory.resolve("storage.mv.db");
+        Flyway.configure().dataSource(url, "sa", "").load().migrate();
+        SyntheticDataProperties properties = new SyntheticDataProperties(GAMERS, GAMES, SKILLS_PER_GAMER);
+        SyntheticDataGenerator.Result result = new SyntheticDataGenerator(new DriverManagerDataSource(url, "sa", ""), properties).generate();
+        System.out.printf("Seeded %d gamers, %d games, %d gamer skills%n%n", result.gamers(), result.games(), result.skills());
+
+        short sweden;
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet id = statement.executeQuery("SELECT id FROM countries WHERE name = 'Sweden'")) {
+            id.next();
+            sweden = id.getShort(1);
+        }
+
+        for (Map.Entry<String, String[]> variant : VARIANTS.entrySet()) {
+            String[] sql = variant.getValue();
+            long before = compactedSize(url, file, null);
+            long rows = compactedSize(url, file, sql[0]) - before;
+            long index = compactedSize(url, file, sql[1]) - before - rows;
+
+            try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+                execute(connection, "ANALYZE TABLE " + sql[0].split(" ")[2]);
+                System.out.println("--- " + variant.getKey());
+                System.out.printf("rows %,d KB, filter index %,d KB%n", rows / 1024, index / 1024);
+                System.out.printf("count median %.3f ms, search page median %.3f ms over %d runs%n%n",
+                    medianMillis(connection, String.format(sql[2], sweden)), medianMillis(connection, String.format(sql[3], sweden)), RUNS);
+            }
+        }
+    }
+
+    // Size of the database file after running the statement (if any) and compacting the file
+    private long compactedSize(String url, Path file, String sql) throws SQLException, IOException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            if (sql != null) {
+                execute(connection, sql);
+            }
+            execute(connection, "SHUTDOWN COMPACT");
+        }
+        return Files.size(file);
+    }
+
+    private double medianMillis(Connection connection, String sql) throws SQLException {
+        double[] timings = new double[RUNS];
+        for (int warmup = 0; warmup < 5; warmup++) {
+            query(connection, sql);
+        }
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            query(connection, sql);
+            timings[run] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(timings);
+        return timings[RUNS / 2];
+    }
+
+    private void query(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(sql)) {
+            while (rows.next()) {
+                rows.getLong(1);
+            }
+        }
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.gaming_directory.search;
+
+import com.example.gaming_directory.cache.GameKey;
+import com.example.gaming_directory.entity.Game;
+import com.example.gaming_directory.event.GameCreatedEvent;
+import com.example.gaming_directory.repository.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@Import(GameNameIndex.class)
+class GameNameIndexTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private GameNameIndex gameNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        for (String name : new String[] {"Counter-Strike", "Counter-Strike 2", "League of Legends", "Diablo", "Dota 2", "Pokémon Red"}) {
+            entityManager.persist(new Game(name));
+        }
+        entityManager.flush();
+        gameNameIndex.rebuild();
+    }
+
+    @Test
+    void search_WithOtherSpellingOfAName_ShouldRankThatGameFirst() {
+        List<GameNameIndex.Match> matches = gameNameIndex.search("counter strike", 10);
+
+        assertThat(matches).extracting(GameNameIndex.Match::name).containsExactly("Counter-Strike", "Counter-Strike 2");
+        assertThat(matches.get(0).score()).isEqualTo(1.0);
+        assertThat(matches.get(1).score()).isLessThan(1.0);
+    }
+
+    @Test
+    void search_WithPartOfAName_ShouldFindIt() {
+        assertThat(gameNameIndex.search("league", 10)).extracting(GameNameIndex.Match::name).containsExactly("League of Legends");
+        assertThat(gameNameIndex.search("pokemon", 10)).extracting(GameNameIndex.Match::name).containsExactly("Pokémon Red");
+    }
+
+    @Test
+    void search_WithTypo_ShouldFindTheClosestName() {
+        assertThat(gameNameIndex.search("diabolo", 10)).extracting(GameNameIndex.Match::name).containsExactly("Diablo");
+        assertThat(gameNameIndex.search("conter strik", 1)).extracting(GameNameIndex.Match::name).containsExactly("Counter-Strike");
+    }
+
+    @Test
+    void search_WithUnrelatedQuery_ShouldFindNothing() {
+        assertThat(gameNameIndex.search("minecraft", 10)).isEmpty();
+        assertThat(gameNameIndex.search("--", 10)).isEmpty();
+    }
+
+    @Test
+    void onGameCreated_ShouldAddTheGame() {
+        Game game = new Game("Minecraft");
+        game.setId(99L);
+
+        gameNameIndex.onGameCreated(new GameCreatedEvent(game));
+
+        assertThat(gameNameIndex.search("mine craft", 10)).extracting(GameNameIndex.Match::id).containsExactly(99L);
+    }
+
+    @Test
+    void onGameCreated_WhileRebuilding_ShouldKeepTheGame() throws Exception {
+        Game minecraft = new Game("Minecraft");
+        minecraft.setId(99L);
+        GameRepository repository = mock(GameRepository.class);
+        GameNameIndex index = new GameNameIndex();
+        ReflectionTestUtils.setField(index, "gameRepository", repository);
+
+        // Minecraft commits right after the rebuild has read the games, so the read does not include it
+        AtomicReference<CompletableFuture<Void>> created = new AtomicReference<>();
+        when(repository.findAllKeys()).thenAnswer(invocation -> {
+            created.set(CompletableFuture.runAsync(() -> index.onGameCreated(new GameCreatedEvent(minecraft))));
+            try {
+                created.get().get(200, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Waiting for the rebuild to release the index
+            }
+            return List.of(new GameKey(1L, "Diablo"));
+        });
+
+        index.rebuild();
+        created.get().get(5, TimeUnit.SECONDS);
+
+        assertThat(index.search("minecraft", 10)).extracting(GameNameIndex.Match::id).containsExactly(99L);
+        assertThat(index.search("diablo", 10)).extracting(GameNameIndex.Match::id).containsExactly(1L);
+    }
+}
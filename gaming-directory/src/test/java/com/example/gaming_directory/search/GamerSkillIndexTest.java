@@ -0,0 +1,175 @@
+package com.example.gaming_directory.search;
+
+import com.example.gaming_directory.cache.CountryDictionary;
+import com.example.gaming_directory.dto.SearchFacets;
+import com.example.gaming_directory.entity.Game;
+import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.entity.GamerSkill;
+import com.example.gaming_directory.enums.Level;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({GamerSkillIndex.class, CountryDictionary.class})
+class GamerSkillIndexTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private GamerSkillIndex gamerSkillIndex;
+
+    private GamerSkill joeyCounterStrike;
+    private GamerSkill joeyDiablo;
+    private GamerSkill rossDiablo;
+
+    @BeforeEach
+    void setUp() {
+        Game counterStrike = entityManager.persist(new Game("Counter-Strike"));
+        Game diablo = entityManager.persist(new Game("Diablo"));
+        Gamer joey = entityManager.persist(new Gamer("Joey", "USA"));
+        Gamer ross = entityManager.persist(new Gamer("Ross", "Canada"));
+
+        joeyCounterStrike = entityManager.persist(new GamerSkill(joey, counterStrike, Level.PRO));
+        joeyDiablo = entityManager.persist(new GamerSkill(joey, diablo, Level.NOOB));
+        rossDiablo = entityManager.persist(new GamerSkill(ross, diablo, Level.PRO));
+        entityManager.flush();
+
+        gamerSkillIndex.rebuild();
+    }
+
+    @Test
+    void rebuild_ShouldIndexEverySkillAndMarkIndexReady() {
+        assertThat(gamerSkillIndex.isReady()).isTrue();
+        assertThat(ids(gamerSkillIndex.search(null, null, null)))
+                .containsExactly(joeyCounterStrike.getId(), joeyDiablo.getId(), rossDiablo.getId());
+    }
+
+    @Test
+    void search_WithSingleFilter_ShouldReturnMatchingSkills() {
+        assertThat(ids(gamerSkillIndex.search(Level.PRO, null, null)))
+                .containsExactly(joeyCounterStrike.getId(), rossDiablo.getId());
+        assertThat(ids(gamerSkillIndex.search(null, "Diablo", null)))
+                .containsExactly(joeyDiablo.getId(), rossDiablo.getId());
+        assertThat(ids(gamerSkillIndex.search(null, null, "USA")))
+                .containsExactly(joeyCounterStrike.getId(), joeyDiablo.getId());
+    }
+
+    @Test
+    void search_WithAllFilters_ShouldIntersectFilters() {
+        assertThat(ids(gamerSkillIndex.search(Level.PRO, "Diablo", "Canada")))
+                .containsExactly(rossDiablo.getId());
+        assertThat(ids(gamerSkillIndex.search(Level.NOOB, "Diablo", "Canada"))).isEmpty();
+    }
+
+    @Test
+    void search_WithUnknownValue_ShouldReturnNoSkills() {
+        assertThat(gamerSkillIndex.search(null, "Tetris", null).isEmpty()).isTrue();
+        assertThat(gamerSkillIndex.search(Level.PRO, null, "Mars").isEmpty()).isTrue();
+    }
+
+    @Test
+    void put_WithChangedLevel_ShouldMoveSkillToNewLevel() {
+        gamerSkillIndex.put(joeyDiablo.getId(), Level.INVINCIBLE, "Diablo", "USA");
+
+        assertThat(ids(gamerSkillIndex.search(Level.NOOB, null, null))).isEmpty();
+        assertThat(ids(gamerSkillIndex.search(Level.INVINCIBLE, "Diablo", "USA")))
+                .containsExactly(joeyDiablo.getId());
+    }
+
+    @Test
+    void put_WithNewSkill_ShouldMakeItSearchable() {
+        gamerSkillIndex.put(1000L, Level.NOOB, "Fortnite", "France");
+
+        assertThat(ids(gamerSkillIndex.search(null, "Fortnite", null))).containsExactly(1000L);
+    }
+
+    @Test
+    void facets_ShouldCountMatchesPerValueOfOpenFilters() {
+        SearchFacets facets = gamerSkillIndex.facets(gamerSkillIndex.search(null, "Diablo", null), true, false, true);
+
+        assertThat(facets.level()).containsExactly(Map.entry(Level.NOOB, 1L), Map.entry(Level.PRO, 1L));
+        assertThat(facets.gameName()).isNull();
+        assertThat(facets.country()).containsExactly(Map.entry("Canada", 1L), Map.entry("USA", 1L));
+    }
+
+    @Test
+    void facets_ShouldOrderByMostMatchesAndLeaveOutValuesWithoutMatches() {
+        SearchFacets pro = gamerSkillIndex.facets(gamerSkillIndex.search(Level.PRO, null, null), false, true, false);
+        assertThat(pro.gameName()).containsExactly(Map.entry("Counter-Strike", 1L), Map.entry("Diablo", 1L));
+
+        SearchFacets all = gamerSkillIndex.facets(gamerSkillIndex.search(null, null, null), true, true, true);
+        assertThat(all.gameName()).containsExactly(Map.entry("Diablo", 2L), Map.entry("Counter-Strike", 1L));
+        assertThat(all.country()).containsExactly(Map.entry("USA", 2L), Map.entry("Canada", 1L));
+
+        SearchFacets usa = gamerSkillIndex.facets(gamerSkillIndex.search(null, null, "USA"), true, false, false);
+        assertThat(usa.level()).containsExactly(Map.entry(Level.NOOB, 1L), Map.entry(Level.PRO, 1L));
+        SearchFacets canada = gamerSkillIndex.facets(gamerSkillIndex.search(null, null, "Canada"), true, false, false);
+        assertThat(canada.level()).containsOnlyKeys(Level.PRO);
+    }
+
+    @Test
+    void rankTeammates_ShouldOrderByLevelDistanceThenCountryThenRegion() {
+        // Joey (USA, NOOB) and Ross (Canada, PRO) already play Diablo
+        gamerSkillIndex.put(1001L, Level.NOOB, "Diablo", "Japan");
+        gamerSkillIndex.put(1002L, Level.NOOB, "Diablo", "Mexico");
+        gamerSkillIndex.put(1003L, Level.NOOB, "Diablo", "USA");
+        gamerSkillIndex.put(1004L, Level.INVINCIBLE, "Diablo", "USA");
+        gamerSkillIndex.put(1005L, Level.NOOB, "Counter-Strike", "USA");
+
+        List<GamerSkillIndex.Match> matches = gamerSkillIndex.rankTeammates(joeyDiablo.getId(), Level.NOOB, "Diablo", "USA", 10);
+
+        assertThat(matches).containsExactly(
+                new GamerSkillIndex.Match(1003L, 8),
+                new GamerSkillIndex.Match(1002L, 7),
+                new GamerSkillIndex.Match(1001L, 6),
+                new GamerSkillIndex.Match(rossDiablo.getId(), 4),
+                new GamerSkillIndex.Match(1004L, 2));
+    }
+
+    @Test
+    void rankTeammates_ShouldTakeBothNeighbouringLevelsInIdOrder() {
+        // Ross (Canada, PRO) has Joey (USA, NOOB) one level apart in his region, and these three elsewhere
+        gamerSkillIndex.put(1001L, Level.NOOB, "Diablo", "Japan");
+        gamerSkillIndex.put(1002L, Level.INVINCIBLE, "Diablo", "France");
+        gamerSkillIndex.put(1003L, Level.NOOB, "Diablo", "Japan");
+
+        assertThat(gamerSkillIndex.rankTeammates(rossDiablo.getId(), Level.PRO, "Diablo", "Canada", 3)).containsExactly(
+                new GamerSkillIndex.Match(joeyDiablo.getId(), 4),
+                new GamerSkillIndex.Match(1001L, 3),
+                new GamerSkillIndex.Match(1002L, 3));
+    }
+
+    @Test
+    void rankTeammates_ShouldStopAtLimit() {
+        gamerSkillIndex.put(1001L, Level.NOOB, "Diablo", "USA");
+        gamerSkillIndex.put(1002L, Level.NOOB, "Diablo", "USA");
+
+        assertThat(gamerSkillIndex.rankTeammates(joeyDiablo.getId(), Level.NOOB, "Diablo", "USA", 1))
+                .containsExactly(new GamerSkillIndex.Match(1001L, 8));
+        assertThat(gamerSkillIndex.rankTeammates(joeyDiablo.getId(), Level.NOOB, "Tetris", "USA", 1)).isEmpty();
+    }
+
+    @Test
+    void idsAfter_ShouldReturnIdsAfterCursorInAscendingOrder() {
+        RoaringBitmap ids = RoaringBitmap.bitmapOf(3, 5, 8, 13, 21);
+
+        assertThat(GamerSkillIndex.idsAfter(ids, 0L, 2)).containsExactly(3L, 5L);
+        assertThat(GamerSkillIndex.idsAfter(ids, 5L, 2)).containsExactly(8L, 13L);
+        assertThat(GamerSkillIndex.idsAfter(ids, 21L, 2)).isEmpty();
+    }
+
+    private List<Long> ids(RoaringBitmap bitmap) {
+        return GamerSkillIndex.idsAfter(bitmap, 0L, Integer.MAX_VALUE - 1);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.gaming_directory.search;
+
+import com.example.gaming_directory.cache.CountryDictionary;
+import com.example.gaming_directory.dto.GamerSkillCount;
+import com.example.gaming_directory.entity.Game;
+import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.entity.GamerSkill;
+import com.example.gaming_directory.enums.Level;
+import com.example.gaming_directory.event.GamerSkillChangedEvent;
+import com.example.gaming_directory.repository.GamerSkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@Import({GamerSkillStats.class, CountryDictionary.class})
+class GamerSkillStatsTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private GamerSkillStats gamerSkillStats;
+
+    private Game diablo;
+    private Gamer monica;
+    private GamerSkill rossDiablo;
+
+    @BeforeEach
+    void setUp() {
+        Game counterStrike = entityManager.persist(new Game("Counter-Strike"));
+        diablo = entityManager.persist(new Game("Diablo"));
+        Gamer joey = entityManager.persist(new Gamer("Joey", "USA"));
+        Gamer chandler = entityManager.persist(new Gamer("Chandler", "USA"));
+        Gamer ross = entityManager.persist(new Gamer("Ross", "Canada"));
+        monica = entityManager.persist(new Gamer("Monica", "UK"));
+
+        entityManager.persist(new GamerSkill(joey, counterStrike, Level.PRO));
+        entityManager.persist(new GamerSkill(chandler, counterStrike, Level.PRO));
+        entityManager.persist(new GamerSkill(joey, diablo, Level.NOOB));
+        rossDiablo = entityManager.persist(new GamerSkill(ross, diablo, Level.PRO));
+        entityManager.flush();
+
+        gamerSkillStats.rebuild();
+    }
+
+    @Test
+    void rebuild_ShouldCountPlayersPerGameLevelAndCountryInOrder() {
+        assertThat(gamerSkillStats.isReady()).isTrue();
+        assertThat(gamerSkillStats.counts()).containsExactly(
+                new GamerSkillCount("Counter-Strike", Level.PRO, "USA", 2),
+                new GamerSkillCount("Diablo", Level.NOOB, "USA", 1),
+                new GamerSkillCount("Diablo", Level.PRO, "Canada", 1));
+    }
+
+    @Test
+    void onGamerSkillChanged_WithNewSkill_ShouldCountItInItsGroup() {
+        GamerSkill monicaDiablo = new GamerSkill(monica, diablo, Level.PRO);
+        monicaDiablo.setId(99L);
+
+        gamerSkillStats.onGamerSkillChanged(new GamerSkillChangedEvent(monicaDiablo, null));
+
+        assertThat(gamerSkillStats.counts()).contains(new GamerSkillCount("Diablo", Level.PRO, "UK", 1));
+        assertThat(gamerSkillStats.counts()).hasSize(4);
+    }
+
+    @Test
+    void onGamerSkillChanged_WithLevelChange_ShouldMoveTheSkillAndDropEmptyGroups() {
+        rossDiablo.setLevel(Level.INVINCIBLE);
+
+        gamerSkillStats.onGamerSkillChanged(new GamerSkillChangedEvent(rossDiablo, Level.PRO));
+        // An update to the level it already has changes nothing
+        gamerSkillStats.onGamerSkillChanged(new GamerSkillChangedEvent(rossDiablo, Level.INVINCIBLE));
+
+        assertThat(gamerSkillStats.counts()).containsExactlyInAnyOrder(
+                new GamerSkillCount("Counter-Strike", Level.PRO, "USA", 2),
+                new GamerSkillCount("Diablo", Level.NOOB, "USA", 1),
+                new GamerSkillCount("Diablo", Level.INVINCIBLE, "Canada", 1));
+    }
+
+    @Test
+    void onGamerSkillChanged_WhileRebuilding_ShouldCountEveryChangeExactlyOnce() throws Exception {
+        Game game = new Game("Diablo");
+        GamerSkill rossNoob = skill(2L, new Gamer("Ross", "Canada"), game, Level.NOOB);
+        GamerSkill monicaPro = skill(3L, new Gamer("Monica", "UK"), game, Level.PRO);
+
+        // The scan sees Ross' update from PRO to NOOB, but not Monica's new skill, which commits while it runs
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch changesPublished = new CountDownLatch(1);
+        GamerSkillRepository repository = mock(GamerSkillRepository.class);
+        when(repository.streamIndexRows()).thenReturn(Stream.of(
+                new Object[] {1L, Level.PRO, "Diablo", "USA"},
+                new Object[] {2L, Level.NOOB, "Diablo", "Canada"})
+            .peek(row -> {
+                scanning.countDown();
+                await(changesPublished);
+            }));
+        GamerSkillStats stats = new GamerSkillStats();
+        ReflectionTestUtils.setField(stats, "gamerSkillRepository", repository);
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(stats::rebuild);
+        await(scanning);
+        CompletableFuture<Void> changes = CompletableFuture.runAsync(() -> {
+            stats.onGamerSkillChanged(new GamerSkillChangedEvent(rossNoob, Level.PRO));
+            stats.onGamerSkillChanged(new GamerSkillChangedEvent(monicaPro, null));
+        });
+        // Give the changes time to reach the counters' lock before the scan finishes
+        Thread.sleep(100);
+        changesPublished.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+        changes.get(5, TimeUnit.SECONDS);
+
+        assertThat(stats.counts()).containsExactly(
+                new GamerSkillCount("Diablo", Level.NOOB, "Canada", 1),
+                new GamerSkillCount("Diablo", Level.PRO, "UK", 1),
+                new GamerSkillCount("Diablo", Level.PRO, "USA", 1));
+    }
+
+    private static GamerSkill skill(Long id, Gamer gamer, Game game, Level level) {
+        GamerSkill skill = new GamerSkill(gamer, game, level);
+        skill.setId(id);
+        return skill;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
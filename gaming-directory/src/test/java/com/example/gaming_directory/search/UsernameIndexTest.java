@@ -0,0 +1,57 @@
+package com.example.gaming_directory.search;
+
+import com.example.gaming_directory.cache.CountryDictionary;
+import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.event.GamerCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({UsernameIndex.class, CountryDictionary.class})
+class UsernameIndexTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UsernameIndex usernameIndex;
+
+    @BeforeEach
+    void setUp() {
+        for (String username : new String[] {"Joey", "joanna", "Jo", "JOELLE", "Ross", "Joeyboy"}) {
+            entityManager.persist(new Gamer(username, "USA"));
+        }
+        entityManager.flush();
+        usernameIndex.rebuild();
+    }
+
+    @Test
+    void complete_ShouldReturnUsernamesWithThePrefixIgnoringCaseInAlphabeticalOrder() {
+        assertThat(usernameIndex.isReady()).isTrue();
+        assertThat(usernameIndex.complete("jo", 10)).containsExactly("Jo", "joanna", "JOELLE", "Joey", "Joeyboy");
+        assertThat(usernameIndex.complete("JOEY", 10)).containsExactly("Joey", "Joeyboy");
+        assertThat(usernameIndex.complete("x", 10)).isEmpty();
+    }
+
+    @Test
+    void complete_ShouldStopAtTheLimit() {
+        assertThat(usernameIndex.complete("jo", 2)).containsExactly("Jo", "joanna");
+    }
+
+    @Test
+    void onGamerCreated_ShouldAddTheUsername() {
+        Gamer gamer = new Gamer("Joseph", "UK");
+        gamer.setId(99L);
+
+        usernameIndex.onGamerCreated(new GamerCreatedEvent(gamer));
+
+        assertThat(usernameIndex.complete("jos", 10)).containsExactly("Joseph");
+        assertThat(usernameIndex.size()).isEqualTo(7);
+    }
+}
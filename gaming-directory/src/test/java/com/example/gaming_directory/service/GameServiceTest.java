@@ -1,13 +1,19 @@
 package com.example.gaming_directory.service;
 
+import com.example.gaming_directory.dto.CursorPage;
+import com.example.gaming_directory.dto.GameMatch;
 import com.example.gaming_directory.entity.Game;
+import com.example.gaming_directory.event.GameCreatedEvent;
 import com.example.gaming_directory.repository.GameRepository;
+import com.example.gaming_directory.search.GameNameIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.util.Arrays;
 import java.util.List;
@@ -15,6 +21,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +30,12 @@ class GameServiceTest {
     @Mock
     private GameRepository gameRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private GameNameIndex gameNameIndex;
+
     @InjectMocks
     private GameService gameService;
 
@@ -35,31 +48,62 @@ class GameServiceTest {
     }
 
     @Test
-    void getAllGames_ShouldReturnAllGames() {
+    void getGames_WithoutCursor_ShouldReturnFirstPage() {
         List<Game> games = Arrays.asList(testGame);
-        when(gameRepository.findAll()).thenReturn(games);
+        when(gameRepository.findPageAfter(0L, Limit.of(CursorPage.DEFAULT_LIMIT + 1))).thenReturn(games);
+
+        CursorPage<Game> result = gameService.getGames(null, null);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals("Counter-Strike", result.getItems().get(0).getName());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getGames_WithMoreRowsThanLimit_ShouldReturnNextCursor() {
+        Game diablo = new Game("Diablo");
+        diablo.setId(2L);
+        when(gameRepository.findPageAfter(0L, Limit.of(2))).thenReturn(Arrays.asList(testGame, diablo));
 
-        List<Game> result = gameService.getAllGames();
+        CursorPage<Game> result = gameService.getGames(0L, 1);
 
-        assertEquals(1, result.size());
-        assertEquals("Counter-Strike", result.get(0).getName());
-        verify(gameRepository, times(1)).findAll();
+        assertEquals(1, result.getItems().size());
+        assertEquals(1L, result.getNextCursor());
+    }
+
+    @Test
+    void getGames_WithLimitAboveMaximum_ShouldCapLimit() {
+        when(gameRepository.findPageAfter(5L, Limit.of(CursorPage.MAX_LIMIT + 1))).thenReturn(Arrays.asList());
+
+        CursorPage<Game> result = gameService.getGames(5L, 100_000);
+
+        assertEquals(CursorPage.MAX_LIMIT, result.getLimit());
+        assertTrue(result.getItems().isEmpty());
+    }
+
+    @Test
+    void getGames_WithInvalidLimit_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> 
+            gameService.getGames(null, 0));
+        
+        verify(gameRepository, never()).findPageAfter(anyLong(), any());
     }
 
     @Test
     void createGame_WithValidData_ShouldCreateGame() {
-        when(gameRepository.findByName("Counter-Strike")).thenReturn(Optional.empty());
+        when(gameRepository.findByNameKey("counter-strike")).thenReturn(Optional.empty());
         when(gameRepository.save(any(Game.class))).thenReturn(testGame);
 
         Game result = gameService.createGame("Counter-Strike");
 
         assertEquals("Counter-Strike", result.getName());
         verify(gameRepository, times(1)).save(any(Game.class));
+        verify(eventPublisher, times(1)).publishEvent(any(GameCreatedEvent.class));
     }
 
     @Test
     void createGame_WithExistingName_ShouldThrowException() {
-        when(gameRepository.findByName("Counter-Strike")).thenReturn(Optional.of(testGame));
+        when(gameRepository.findByNameKey("counter-strike")).thenReturn(Optional.of(testGame));
 
         assertThrows(IllegalArgumentException.class, () -> 
             gameService.createGame("Counter-Strike"));
@@ -67,12 +111,23 @@ class GameServiceTest {
         verify(gameRepository, never()).save(any(Game.class));
     }
 
+    @Test
+    void createGame_WithNameTakenInOtherCase_ShouldThrowException() {
+        when(gameRepository.findByNameKey("counter-strike")).thenReturn(Optional.of(testGame));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            gameService.createGame("counter-STRIKE"));
+
+        assertEquals("Game name already exists", exception.getMessage());
+        verify(gameRepository, never()).save(any(Game.class));
+    }
+
     @Test
     void createGame_WithEmptyName_ShouldThrowException() {
         assertThrows(IllegalArgumentException.class, () -> 
             gameService.createGame(""));
             
-        verify(gameRepository, never()).findByName(any());
+        verify(gameRepository, never()).findByNameKey(any());
     }
 
     @Test
@@ -92,4 +147,23 @@ class GameServiceTest {
         
         verify(gameRepository, never()).findById(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchGames_ShouldCapTheLimitAndReturnMatches() {
+        when(gameNameIndex.isReady()).thenReturn(true);
+        when(gameNameIndex.search("counter strike", GameService.MAX_SEARCH_LIMIT))
+            .thenReturn(List.of(new GameNameIndex.Match(1L, "Counter-Strike", 1.0)));
+
+        List<GameMatch> result = gameService.searchGames("counter strike", 1000);
+
+        assertEquals(List.of(new GameMatch(1L, "Counter-Strike", 1.0)), result);
+    }
+
+    @Test
+    void searchGames_WithBlankQuery_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () ->
+            gameService.searchGames(" ", null));
+
+        verifyNoInteractions(gameNameIndex);
+    }
+}
@@ -1,13 +1,20 @@
 package com.example.gaming_directory.service;
 
+import com.example.gaming_directory.cache.CountryDictionary;
+import com.example.gaming_directory.dto.CursorPage;
 import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.event.GamerCreatedEvent;
 import com.example.gaming_directory.repository.GamerRepository;
+import com.example.gaming_directory.search.UsernameIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Arrays;
 import java.util.List;
@@ -23,6 +30,15 @@ class GamerServiceTest {
     @Mock
     private GamerRepository gamerRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CountryDictionary countryDictionary;
+
+    @Mock
+    private UsernameIndex usernameIndex;
+
     @InjectMocks
     private GamerService gamerService;
 
@@ -35,20 +51,43 @@ class GamerServiceTest {
     }
 
     @Test
-    void getAllGamers_ShouldReturnAllGamers() {
+    void getGamers_WithoutCursor_ShouldReturnFirstPage() {
         List<Gamer> gamers = Arrays.asList(testGamer);
-        when(gamerRepository.findAll()).thenReturn(gamers);
+        when(gamerRepository.findIdsAfter(0L, Limit.of(CursorPage.DEFAULT_LIMIT + 1))).thenReturn(Arrays.asList(1L));
+        when(gamerRepository.findAllWithSkillsByIdIn(Arrays.asList(1L))).thenReturn(gamers);
+
+        CursorPage<Gamer> result = gamerService.getGamers(null, null);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals("TestUser", result.getItems().get(0).getUsername());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getGamers_WithMoreRowsThanLimit_ShouldOnlyLoadPageAndReturnNextCursor() {
+        when(gamerRepository.findIdsAfter(0L, Limit.of(2))).thenReturn(Arrays.asList(1L, 2L));
+        when(gamerRepository.findAllWithSkillsByIdIn(Arrays.asList(1L))).thenReturn(Arrays.asList(testGamer));
+
+        CursorPage<Gamer> result = gamerService.getGamers(0L, 1);
 
-        List<Gamer> result = gamerService.getAllGamers();
+        assertEquals(1, result.getItems().size());
+        assertEquals(1L, result.getNextCursor());
+    }
+
+    @Test
+    void getGamers_WithEmptyPage_ShouldNotLoadSkills() {
+        when(gamerRepository.findIdsAfter(99L, Limit.of(CursorPage.DEFAULT_LIMIT + 1))).thenReturn(Arrays.asList());
 
-        assertEquals(1, result.size());
-        assertEquals("TestUser", result.get(0).getUsername());
-        verify(gamerRepository, times(1)).findAll();
+        CursorPage<Gamer> result = gamerService.getGamers(99L, null);
+
+        assertTrue(result.getItems().isEmpty());
+        verify(gamerRepository, never()).findAllWithSkillsByIdIn(any());
     }
 
     @Test
     void createGamer_WithValidData_ShouldCreateGamer() {
-        when(gamerRepository.findByUsername("TestUser")).thenReturn(Optional.empty());
+        when(countryDictionary.canonicalName("USA")).thenReturn("USA");
+        when(gamerRepository.findByUsernameKey("testuser")).thenReturn(Optional.empty());
         when(gamerRepository.save(any(Gamer.class))).thenReturn(testGamer);
 
         Gamer result = gamerService.createGamer("TestUser", "USA");
@@ -56,11 +95,12 @@ class GamerServiceTest {
         assertEquals("TestUser", result.getUsername());
         assertEquals("USA", result.getCountry());
         verify(gamerRepository, times(1)).save(any(Gamer.class));
+        verify(eventPublisher, times(1)).publishEvent(any(GamerCreatedEvent.class));
     }
 
     @Test
     void createGamer_WithExistingUsername_ShouldThrowException() {
-        when(gamerRepository.findByUsername("TestUser")).thenReturn(Optional.of(testGamer));
+        when(gamerRepository.findByUsernameKey("testuser")).thenReturn(Optional.of(testGamer));
 
         assertThrows(IllegalArgumentException.class, () -> 
             gamerService.createGamer("TestUser", "USA"));
@@ -68,17 +108,76 @@ class GamerServiceTest {
         verify(gamerRepository, never()).save(any(Gamer.class));
     }
 
+    @Test
+    void createGamer_WithUsernameTakenInOtherCase_ShouldThrowException() {
+        when(countryDictionary.canonicalName("USA")).thenReturn("USA");
+        when(gamerRepository.findByUsernameKey("testuser")).thenReturn(Optional.of(testGamer));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            gamerService.createGamer("TESTUSER", "USA"));
+
+        assertEquals("Username already exists", exception.getMessage());
+        verify(gamerRepository, never()).save(any(Gamer.class));
+    }
+
+    @Test
+    void createGamer_WithCountryAlias_ShouldSaveCanonicalName() {
+        when(countryDictionary.canonicalName("united states")).thenReturn("USA");
+        when(gamerRepository.findByUsernameKey("testuser")).thenReturn(Optional.empty());
+        when(gamerRepository.save(any(Gamer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Gamer result = gamerService.createGamer("TestUser", "united states");
+
+        assertEquals("USA", result.getCountry());
+    }
+
+    @Test
+    void createGamer_WithUnknownCountry_ShouldThrowException() {
+        when(countryDictionary.canonicalName("Mars")).thenThrow(new IllegalArgumentException("Unknown country 'Mars'"));
+
+        assertThrows(IllegalArgumentException.class, () ->
+            gamerService.createGamer("TestUser", "Mars"));
+
+        verify(gamerRepository, never()).save(any(Gamer.class));
+    }
+
     @Test
     void createGamer_WithEmptyUsername_ShouldThrowException() {
         assertThrows(IllegalArgumentException.class, () -> 
             gamerService.createGamer("", "USA"));
             
-        verify(gamerRepository, never()).findByUsername(any());
+        verify(gamerRepository, never()).findByUsernameKey(any());
+    }
+
+    @Test
+    void autocomplete_ShouldCapTheLimitAndTrimThePrefix() {
+        when(usernameIndex.isReady()).thenReturn(true);
+        when(usernameIndex.complete("Jo", GamerService.MAX_COMPLETION_LIMIT)).thenReturn(List.of("Joey"));
+
+        List<String> result = gamerService.autocomplete(" Jo ", 1000);
+
+        assertEquals(List.of("Joey"), result);
+    }
+
+    @Test
+    void autocomplete_WithBlankPrefix_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () ->
+            gamerService.autocomplete(" ", null));
+
+        verifyNoInteractions(usernameIndex);
+    }
+
+    @Test
+    void autocomplete_BeforeIndexIsBuilt_ShouldBeUnavailable() {
+        when(usernameIndex.isReady()).thenReturn(false);
+
+        assertThrows(ResponseStatusException.class, () ->
+            gamerService.autocomplete("Jo", null));
     }
 
     @Test
     void getGamerById_WithValidId_ShouldReturnGamer() {
-        when(gamerRepository.findById(1L)).thenReturn(Optional.of(testGamer));
+        when(gamerRepository.findWithSkillsById(1L)).thenReturn(Optional.of(testGamer));
 
         Optional<Gamer> result = gamerService.getGamerById(1L);
 
@@ -91,6 +190,6 @@ class GamerServiceTest {
         assertThrows(IllegalArgumentException.class, () -> 
             gamerService.getGamerById(0L));
         
-        verify(gamerRepository, never()).findById(any());
+        verify(gamerRepository, never()).findWithSkillsById(any());
     }
 }
\ No newline at end of file
@@ -1,25 +1,51 @@
 package com.example.gaming_directory.service;
 
+import com.example.gaming_directory.cache.CountryDictionary;
+import com.example.gaming_directory.cache.GameKey;
+import com.example.gaming_directory.cache.GamerKey;
+import com.example.gaming_directory.cache.NameIdCache;
+import com.example.gaming_directory.dto.CursorPage;
+import com.example.gaming_directory.dto.GamerMatch;
+import com.example.gaming_directory.dto.GamerSkillBatchResult;
+import com.example.gaming_directory.dto.GamerSkillCount;
+import com.example.gaming_directory.dto.GamerSkillDTO;
+import com.example.gaming_directory.dto.GamerSkillView;
+import com.example.gaming_directory.dto.SearchFacets;
 import com.example.gaming_directory.entity.Game;
 import com.example.gaming_directory.entity.Gamer;
 import com.example.gaming_directory.entity.GamerSkill;
 import com.example.gaming_directory.enums.Level;
 import com.example.gaming_directory.repository.GameRepository;
 import com.example.gaming_directory.repository.GamerRepository;
+import com.example.gaming_directory.event.GamerSkillChangedEvent;
 import com.example.gaming_directory.repository.GamerSkillRepository;
+import com.example.gaming_directory.search.GameNameIndex;
+import com.example.gaming_directory.search.GamerSkillIndex;
+import com.example.gaming_directory.search.GamerSkillStats;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +60,27 @@ class GamerSkillServiceTest {
     @Mock
     private GameRepository gameRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private GamerSkillIndex gamerSkillIndex;
+
+    @Mock
+    private NameIdCache nameIdCache;
+
+    @Mock
+    private CountryDictionary countryDictionary;
+
+    @Mock
+    private GameNameIndex gameNameIndex;
+
+    @Mock
+    private GamerSkillStats gamerSkillStats;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private GamerSkillService gamerSkillService;
 
@@ -55,8 +102,8 @@ class GamerSkillServiceTest {
 
     @Test
     void linkGamerToGame_WithValidData_ShouldCreateLink() {
-        when(gamerRepository.findByUsername("TestUser")).thenReturn(Optional.of(testGamer));
-        when(gameRepository.findByName("Counter-Strike")).thenReturn(Optional.of(testGame));
+        when(nameIdCache.findGamer("TestUser")).thenReturn(Optional.of(new GamerKey(1L, "TestUser", "USA")));
+        when(nameIdCache.findGame("Counter-Strike")).thenReturn(Optional.of(new GameKey(1L, "Counter-Strike")));
         when(gamerSkillRepository.findByGamerIdAndGameId(1L, 1L)).thenReturn(Optional.empty());
         when(gamerSkillRepository.save(any(GamerSkill.class))).thenReturn(testGamerSkill);
 
@@ -66,23 +113,26 @@ class GamerSkillServiceTest {
         assertEquals("TestUser", result.getGamer().getUsername());
         assertEquals("Counter-Strike", result.getGame().getName());
         verify(gamerSkillRepository, times(1)).save(any(GamerSkill.class));
+        verify(eventPublisher, times(1)).publishEvent(any(GamerSkillChangedEvent.class));
     }
 
     @Test
     void linkGamerToGame_WithExistingLink_ShouldUpdateLevel() {
-        when(gamerRepository.findByUsername("TestUser")).thenReturn(Optional.of(testGamer));
-        when(gameRepository.findByName("Counter-Strike")).thenReturn(Optional.of(testGame));
+        when(nameIdCache.findGamer("TestUser")).thenReturn(Optional.of(new GamerKey(1L, "TestUser", "USA")));
+        when(nameIdCache.findGame("Counter-Strike")).thenReturn(Optional.of(new GameKey(1L, "Counter-Strike")));
         when(gamerSkillRepository.findByGamerIdAndGameId(1L, 1L)).thenReturn(Optional.of(testGamerSkill));
         when(gamerSkillRepository.save(any(GamerSkill.class))).thenReturn(testGamerSkill);
 
         GamerSkill result = gamerSkillService.linkGamerToGame("TestUser", "Counter-Strike", Level.INVINCIBLE);
 
         verify(gamerSkillRepository, times(1)).save(any(GamerSkill.class));
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+                ((GamerSkillChangedEvent) event).getPreviousLevel() == Level.PRO));
     }
 
     @Test
     void linkGamerToGame_WithNonExistentGamer_ShouldThrowException() {
-        when(gamerRepository.findByUsername("NonExistent")).thenReturn(Optional.empty());
+        when(nameIdCache.findGamer("NonExistent")).thenReturn(Optional.empty());
 
         assertThrows(IllegalArgumentException.class, () -> 
             gamerSkillService.linkGamerToGame("NonExistent", "Counter-Strike", Level.PRO));
@@ -92,8 +142,8 @@ class GamerSkillServiceTest {
 
     @Test
     void linkGamerToGame_WithNonExistentGame_ShouldThrowException() {
-        when(gamerRepository.findByUsername("TestUser")).thenReturn(Optional.of(testGamer));
-        when(gameRepository.findByName("NonExistentGame")).thenReturn(Optional.empty());
+        when(nameIdCache.findGamer("TestUser")).thenReturn(Optional.of(new GamerKey(1L, "TestUser", "USA")));
+        when(nameIdCache.findGame("NonExistentGame")).thenReturn(Optional.empty());
 
         assertThrows(IllegalArgumentException.class, () -> 
             gamerSkillService.linkGamerToGame("TestUser", "NonExistentGame", Level.PRO));
@@ -101,58 +151,349 @@ class GamerSkillServiceTest {
         verify(gamerSkillRepository, never()).save(any(GamerSkill.class));
     }
 
+    @Test
+    void linkGamerToGame_WithMisspelledGame_ShouldSuggestTheClosestGame() {
+        when(nameIdCache.findGamer("TestUser")).thenReturn(Optional.of(new GamerKey(1L, "TestUser", "USA")));
+        when(nameIdCache.findGame("counter strike")).thenReturn(Optional.empty());
+        when(gameNameIndex.isReady()).thenReturn(true);
+        when(gameNameIndex.search("counter strike", 1)).thenReturn(List.of(new GameNameIndex.Match(1L, "Counter-Strike", 1.0)));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            gamerSkillService.linkGamerToGame("TestUser", "counter strike", Level.PRO));
+
+        assertEquals("Game not found with name: counter strike. Did you mean 'Counter-Strike'?", exception.getMessage());
+    }
+
     @Test
     void linkGamerToGame_WithEmptyUsername_ShouldThrowException() {
         assertThrows(IllegalArgumentException.class, () -> 
             gamerSkillService.linkGamerToGame("", "Counter-Strike", Level.PRO));
         
-        verify(gamerRepository, never()).findByUsername(any());
+        verify(nameIdCache, never()).findGamer(any());
+    }
+
+    @Test
+    void linkGamersToGames_ShouldCreateNewAndUpdateExistingSkillsAndReportFailures() {
+        Game diablo = new Game("Diablo");
+        diablo.setId(2L);
+        when(nameIdCache.findGamers(anyCollection()))
+            .thenReturn(Map.of("TestUser", new GamerKey(1L, "TestUser", "USA")));
+        when(nameIdCache.findGames(anyCollection()))
+            .thenReturn(Map.of("Counter-Strike", new GameKey(1L, "Counter-Strike"), "Diablo", new GameKey(2L, "Diablo")));
+        when(gamerSkillRepository.findByGamerIdInAndGameIdIn(anyCollection(), anyCollection()))
+            .thenReturn(List.of(testGamerSkill));
+
+        List<GamerSkillBatchResult> results = gamerSkillService.linkGamersToGames(List.of(
+            new GamerSkillDTO("TestUser", "Counter-Strike", Level.INVINCIBLE),
+            new GamerSkillDTO(" TestUser ", "Diablo", Level.NOOB),
+            new GamerSkillDTO("Nobody", "Diablo", Level.PRO),
+            new GamerSkillDTO("TestUser", "", Level.PRO)));
+
+        assertEquals(GamerSkillBatchResult.Status.UPDATED, results.get(0).getStatus());
+        assertEquals(1L, results.get(0).getSkillId());
+        assertEquals(Level.INVINCIBLE, testGamerSkill.getLevel());
+        assertEquals(GamerSkillBatchResult.Status.CREATED, results.get(1).getStatus());
+        assertEquals("TestUser", results.get(1).getUsername());
+        assertEquals(GamerSkillBatchResult.Status.FAILED, results.get(2).getStatus());
+        assertEquals("Gamer not found with username: Nobody", results.get(2).getError());
+        assertEquals(GamerSkillBatchResult.Status.FAILED, results.get(3).getStatus());
+        assertEquals("Game name is required", results.get(3).getError());
+
+        // Only the new skill is saved; the existing one is a managed entity updated at flush
+        verify(gamerSkillRepository, times(1)).saveAll(argThat((List<GamerSkill> skills) ->
+            skills.size() == 1 && skills.get(0).getGameName().equals("Diablo")));
+        verify(gamerSkillRepository, never()).save(any(GamerSkill.class));
+        verify(eventPublisher, times(2)).publishEvent(any(GamerSkillChangedEvent.class));
     }
 
     @Test
-    void getGamersByLevelAndGame_WithValidData_ShouldReturnGamers() {
-        List<GamerSkill> expectedSkills = Arrays.asList(testGamerSkill);
-        when(gamerSkillRepository.findByGame_NameAndLevel("Counter-Strike", Level.PRO))
+    void linkGamersToGames_WithSamePairTwice_ShouldKeepLastLevel() {
+        when(nameIdCache.findGamers(anyCollection()))
+            .thenReturn(Map.of("TestUser", new GamerKey(1L, "TestUser", "USA")));
+        when(nameIdCache.findGames(anyCollection()))
+            .thenReturn(Map.of("Counter-Strike", new GameKey(1L, "Counter-Strike")));
+        when(gamerSkillRepository.findByGamerIdInAndGameIdIn(anyCollection(), anyCollection()))
+            .thenReturn(List.of());
+
+        List<GamerSkillBatchResult> results = gamerSkillService.linkGamersToGames(List.of(
+            new GamerSkillDTO("TestUser", "Counter-Strike", Level.NOOB),
+            new GamerSkillDTO("TestUser", "Counter-Strike", Level.PRO)));
+
+        assertEquals(GamerSkillBatchResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(GamerSkillBatchResult.Status.UPDATED, results.get(1).getStatus());
+        verify(gamerSkillRepository, times(1)).saveAll(argThat((List<GamerSkill> skills) ->
+            skills.size() == 1 && skills.get(0).getLevel() == Level.PRO));
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+            ((GamerSkillChangedEvent) event).isNewSkill()));
+    }
+
+    @Test
+    void linkGamersToGames_WithEmptyOrOversizedBatch_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () ->
+            gamerSkillService.linkGamersToGames(List.of()));
+
+        List<GamerSkillDTO> tooMany = Collections.nCopies(GamerSkillService.MAX_BATCH_SIZE + 1,
+            new GamerSkillDTO("TestUser", "Counter-Strike", Level.PRO));
+        assertThrows(IllegalArgumentException.class, () ->
+            gamerSkillService.linkGamersToGames(tooMany));
+
+        verify(nameIdCache, never()).findGamers(any());
+    }
+
+    @Test
+    void getGamersByLevelAndGame_WithGameNameInOtherCase_ShouldFilterByGameId() {
+        List<GamerSkillView> expectedSkills = Arrays.asList(GamerSkillView.of(testGamerSkill));
+        when(nameIdCache.findGame("counter-strike")).thenReturn(Optional.of(new GameKey(1L, "Counter-Strike")));
+        when(gamerSkillRepository.findByGame_IdAndLevel(1L, Level.PRO, 0L, Limit.of(CursorPage.DEFAULT_LIMIT + 1)))
                 .thenReturn(expectedSkills);
 
-        List<GamerSkill> result = gamerSkillService.getGamersByLevelAndGame("Counter-Strike", Level.PRO);
+        CursorPage<GamerSkillView> result = gamerSkillService.getGamersByLevelAndGame("counter-strike", Level.PRO, null, null);
 
-        assertEquals(1, result.size());
-        assertEquals("TestUser", result.get(0).getGamer().getUsername());
-        verify(gamerSkillRepository, times(1)).findByGame_NameAndLevel("Counter-Strike", Level.PRO);
+        assertEquals(1, result.getItems().size());
+        assertEquals("TestUser", result.getItems().get(0).gamerName());
+        verify(gamerSkillRepository, times(1))
+                .findByGame_IdAndLevel(1L, Level.PRO, 0L, Limit.of(CursorPage.DEFAULT_LIMIT + 1));
     }
 
     @Test
     void getGamersByLevelAndGame_WithEmptyGameName_ShouldThrowException() {
         assertThrows(IllegalArgumentException.class, () -> 
-            gamerSkillService.getGamersByLevelAndGame("", Level.PRO));
+            gamerSkillService.getGamersByLevelAndGame("", Level.PRO, null, null));
         
-        verify(gamerSkillRepository, never()).findByGame_NameAndLevel(any(), any());
+        verify(gamerSkillRepository, never()).findByGame_IdAndLevel(any(), any(), anyLong(), any());
     }
 
     @Test
     void searchGamers_WithAllParameters_ShouldReturnFilteredResults() {
-        List<GamerSkill> expectedSkills = Arrays.asList(testGamerSkill);
-        when(gamerSkillRepository.findByLevelAndGameNameAndCountry(Level.PRO, "Counter-Strike", "USA"))
+        List<GamerSkillView> expectedSkills = Arrays.asList(GamerSkillView.of(testGamerSkill));
+        when(nameIdCache.findGame("Counter-Strike")).thenReturn(Optional.of(new GameKey(1L, "Counter-Strike")));
+        when(countryDictionary.findName("USA")).thenReturn(Optional.of("USA"));
+        when(gamerSkillRepository.findByLevelAndGameIdAndCountry(Level.PRO, 1L, "USA", 0L, Limit.of(CursorPage.DEFAULT_LIMIT + 1)))
                 .thenReturn(expectedSkills);
 
-        List<GamerSkill> result = gamerSkillService.searchGamers(Level.PRO, "Counter-Strike", "USA");
+        CursorPage<GamerSkillView> result = gamerSkillService.searchGamers(Level.PRO, "Counter-Strike", "USA", null, null, false);
 
-        assertEquals(1, result.size());
+        assertEquals(1, result.getItems().size());
         verify(gamerSkillRepository, times(1))
-                .findByLevelAndGameNameAndCountry(Level.PRO, "Counter-Strike", "USA");
+                .findByLevelAndGameIdAndCountry(Level.PRO, 1L, "USA", 0L, Limit.of(CursorPage.DEFAULT_LIMIT + 1));
+    }
+
+    @Test
+    void searchGamers_WithUnknownCountry_ShouldNotQueryDatabase() {
+        when(countryDictionary.findName("Mars")).thenReturn(Optional.empty());
+
+        CursorPage<GamerSkillView> result = gamerSkillService.searchGamers(null, null, "Mars", null, null, false);
+
+        assertTrue(result.getItems().isEmpty());
+        verifyNoInteractions(gamerSkillRepository);
+    }
+
+    @Test
+    void searchGamers_WithUnknownGame_ShouldNotQueryDatabase() {
+        when(nameIdCache.findGame("Hades")).thenReturn(Optional.empty());
+
+        CursorPage<GamerSkillView> result = gamerSkillService.searchGamers(Level.PRO, "Hades", null, null, null, false);
+
+        assertTrue(result.getItems().isEmpty());
+        verifyNoInteractions(gamerSkillRepository);
+    }
+
+    @Test
+    void searchGamers_WithCountryAlias_ShouldFilterByCanonicalName() {
+        List<GamerSkillView> expectedSkills = Arrays.asList(GamerSkillView.of(testGamerSkill));
+        when(countryDictionary.findName("united states")).thenReturn(Optional.of("USA"));
+        when(gamerSkillRepository.findByLevelAndGameIdAndCountry(null, null, "USA", 0L, Limit.of(CursorPage.DEFAULT_LIMIT + 1)))
+                .thenReturn(expectedSkills);
+
+        CursorPage<GamerSkillView> result = gamerSkillService.searchGamers(null, null, "united states", null, null, false);
+
+        assertEquals(1, result.getItems().size());
     }
 
     @Test
     void searchGamers_WithNullParameters_ShouldSearchAll() {
-        List<GamerSkill> expectedSkills = Arrays.asList(testGamerSkill);
-        when(gamerSkillRepository.findByLevelAndGameNameAndCountry(null, null, null))
+        List<GamerSkillView> expectedSkills = Arrays.asList(GamerSkillView.of(testGamerSkill));
+        when(gamerSkillRepository.findByLevelAndGameIdAndCountry(null, null, null, 0L, Limit.of(CursorPage.DEFAULT_LIMIT + 1)))
                 .thenReturn(expectedSkills);
 
-        List<GamerSkill> result = gamerSkillService.searchGamers(null, null, null);
+        CursorPage<GamerSkillView> result = gamerSkillService.searchGamers(null, null, null, null, null, false);
 
-        assertEquals(1, result.size());
+        assertEquals(1, result.getItems().size());
         verify(gamerSkillRepository, times(1))
-                .findByLevelAndGameNameAndCountry(null, null, null);
+                .findByLevelAndGameIdAndCountry(null, null, null, 0L, Limit.of(CursorPage.DEFAULT_LIMIT + 1));
+    }
+
+    @Test
+    void searchGamers_WithCursor_ShouldSeekPastCursorAndReturnNextCursor() {
+        GamerSkillView secondSkill = new GamerSkillView(8L, Level.NOOB, "TestUser", "USA", "Counter-Strike");
+        when(gamerSkillRepository.findByLevelAndGameIdAndCountry(null, null, null, 5L, Limit.of(2)))
+                .thenReturn(Arrays.asList(GamerSkillView.of(testGamerSkill), secondSkill));
+
+        CursorPage<GamerSkillView> result = gamerSkillService.searchGamers(null, null, null, 5L, 1, false);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(1L, result.getNextCursor());
+    }
+
+    @Test
+    void searchGamers_WithReadyIndex_ShouldLoadOnlyThePageFromTheIndexMatches() {
+        RoaringBitmap matches = RoaringBitmap.bitmapOf(1, 4, 9);
+        when(nameIdCache.findGame("Counter-Strike")).thenReturn(Optional.of(new GameKey(1L, "Counter-Strike")));
+        when(gamerSkillIndex.isReady()).thenReturn(true);
+        when(gamerSkillIndex.search(Level.PRO, "Counter-Strike", null)).thenReturn(matches);
+        when(gamerSkillRepository.findViewsByIdIn(Arrays.asList(4L, 9L)))
+                .thenReturn(Arrays.asList(GamerSkillView.of(testGamerSkill)));
+
+        CursorPage<GamerSkillView> result = gamerSkillService.searchGamers(Level.PRO, "Counter-Strike", null, 1L, 5, false);
+
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+        verify(gamerSkillRepository, never()).findByLevelAndGameIdAndCountry(any(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void searchGamers_WithReadyIndexAndFacets_ShouldCountOpenFiltersFromTheSameMatches() {
+        RoaringBitmap matches = RoaringBitmap.bitmapOf(1);
+        SearchFacets facets = new SearchFacets(null, null, Map.of("USA", 1L));
+        when(nameIdCache.findGame("Counter-Strike")).thenReturn(Optional.of(new GameKey(1L, "Counter-Strike")));
+        when(gamerSkillIndex.isReady()).thenReturn(true);
+        when(gamerSkillIndex.search(Level.PRO, "Counter-Strike", null)).thenReturn(matches);
+        when(gamerSkillIndex.facets(matches, false, false, true)).thenReturn(facets);
+        when(gamerSkillRepository.findViewsByIdIn(List.of(1L))).thenReturn(List.of(GamerSkillView.of(testGamerSkill)));
+
+        CursorPage<GamerSkillView> result = gamerSkillService.searchGamers(Level.PRO, "Counter-Strike", null, null, null, true);
+
+        assertEquals(1, result.getItems().size());
+        assertSame(facets, result.getFacets());
+        verify(gamerSkillRepository, never()).countByLevelAndGameIdAndCountry(any(), any(), any());
+    }
+
+    @Test
+    void searchGamers_WithFacetsBeforeIndexIsReady_ShouldRollUpOneGroupedQuery() {
+        when(gamerSkillIndex.isReady()).thenReturn(false);
+        when(gamerSkillRepository.findByLevelAndGameIdAndCountry(Level.PRO, null, null, 0L, Limit.of(CursorPage.DEFAULT_LIMIT + 1)))
+                .thenReturn(List.of(GamerSkillView.of(testGamerSkill)));
+        when(gamerSkillRepository.countByLevelAndGameIdAndCountry(Level.PRO, null, null)).thenReturn(List.of(
+                new GamerSkillCount("Counter-Strike", Level.PRO, "USA", 3),
+                new GamerSkillCount("Counter-Strike", Level.PRO, "Canada", 1),
+                new GamerSkillCount("Diablo", Level.PRO, "Canada", 5)));
+
+        CursorPage<GamerSkillView> result = gamerSkillService.searchGamers(Level.PRO, null, null, null, null, true);
+
+        SearchFacets facets = result.getFacets();
+        assertNull(facets.level());
+        assertEquals(List.of("Canada", "USA"), List.copyOf(facets.country().keySet()));
+        assertEquals(Map.of("Canada", 6L, "USA", 3L), facets.country());
+        assertEquals(List.of("Diablo", "Counter-Strike"), List.copyOf(facets.gameName().keySet()));
+        assertEquals(Map.of("Diablo", 5L, "Counter-Strike", 4L), facets.gameName());
+    }
+
+    @Test
+    void searchGamers_WithReadyIndexAndNoMatches_ShouldNotQueryDatabase() {
+        when(countryDictionary.findName("Iceland")).thenReturn(Optional.of("Iceland"));
+        when(gamerSkillIndex.isReady()).thenReturn(true);
+        when(gamerSkillIndex.search(null, null, "Iceland")).thenReturn(new RoaringBitmap());
+
+        CursorPage<GamerSkillView> result = gamerSkillService.searchGamers(null, null, "Iceland", null, null, false);
+
+        assertTrue(result.getItems().isEmpty());
+        verifyNoInteractions(gamerSkillRepository);
+    }
+
+    @Test
+    void findTeammates_ShouldRankFromIndexAndLoadOnlyTheMatches() {
+        Gamer ross = new Gamer("Ross", "Canada");
+        GamerSkill rossSkill = new GamerSkill(ross, testGame, Level.PRO);
+        rossSkill.setId(7L);
+        when(nameIdCache.findGame("Counter-Strike")).thenReturn(Optional.of(new GameKey(1L, "Counter-Strike")));
+        when(gamerSkillRepository.findByGamerIdAndGameId(1L, 1L)).thenReturn(Optional.of(testGamerSkill));
+        when(gamerSkillIndex.isReady()).thenReturn(true);
+        when(gamerSkillIndex.rankTeammates(1L, Level.PRO, "Counter-Strike", "USA", 2))
+                .thenReturn(List.of(new GamerSkillIndex.Match(7L, 7), new GamerSkillIndex.Match(3L, 4)));
+        when(gamerSkillRepository.findViewsByIdIn(List.of(7L, 3L))).thenReturn(List.of(GamerSkillView.of(rossSkill)));
+
+        Optional<List<GamerMatch>> result = gamerSkillService.findTeammates(1L, " Counter-Strike ", 2);
+
+        // Skill 3 was deleted after ranking and is skipped
+        assertEquals(List.of(new GamerMatch(7L, "Ross", "Canada", Level.PRO, 7)), result.orElseThrow());
+    }
+
+    @Test
+    void findTeammates_WithUnknownGamer_ShouldReturnEmpty() {
+        when(nameIdCache.findGame("Counter-Strike")).thenReturn(Optional.of(new GameKey(1L, "Counter-Strike")));
+        when(gamerSkillRepository.findByGamerIdAndGameId(999L, 1L)).thenReturn(Optional.empty());
+        when(gamerRepository.existsById(999L)).thenReturn(false);
+
+        assertTrue(gamerSkillService.findTeammates(999L, "Counter-Strike", null).isEmpty());
+        verifyNoInteractions(gamerSkillIndex);
+    }
+
+    @Test
+    void findTeammates_WhenGamerDoesNotPlayTheGame_ShouldThrowException() {
+        when(nameIdCache.findGame("Counter-Strike")).thenReturn(Optional.of(new GameKey(1L, "Counter-Strike")));
+        when(gamerSkillRepository.findByGamerIdAndGameId(1L, 1L)).thenReturn(Optional.empty());
+        when(gamerRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> gamerSkillService.findTeammates(1L, "Counter-Strike", null));
+        assertThrows(IllegalArgumentException.class, () -> gamerSkillService.findTeammates(1L, " ", null));
+        assertThrows(IllegalArgumentException.class, () -> gamerSkillService.findTeammates(1L, "Counter-Strike", 0));
+    }
+
+    @Test
+    void findTeammates_BeforeIndexIsBuilt_ShouldBeUnavailable() {
+        when(nameIdCache.findGame("Counter-Strike")).thenReturn(Optional.of(new GameKey(1L, "Counter-Strike")));
+        when(gamerSkillRepository.findByGamerIdAndGameId(1L, 1L)).thenReturn(Optional.of(testGamerSkill));
+        when(gamerSkillIndex.isReady()).thenReturn(false);
+
+        assertThrows(ResponseStatusException.class, () -> gamerSkillService.findTeammates(1L, "Counter-Strike", null));
+    }
+
+    @Test
+    void getStats_WithFilters_ShouldReturnMatchingGroupsFromTheCounters() {
+        when(nameIdCache.findGame("counter-strike")).thenReturn(Optional.of(new GameKey(1L, "Counter-Strike")));
+        when(gamerSkillStats.isReady()).thenReturn(true);
+        when(gamerSkillStats.counts()).thenReturn(Arrays.asList(
+                new GamerSkillCount("Counter-Strike", Level.NOOB, "USA", 1),
+                new GamerSkillCount("Counter-Strike", Level.PRO, "Canada", 3),
+                new GamerSkillCount("Counter-Strike", Level.PRO, "USA", 2),
+                new GamerSkillCount("Diablo", Level.PRO, "USA", 5)));
+
+        List<GamerSkillCount> stats = gamerSkillService.getStats(null, "counter-strike", null);
+
+        assertEquals(Arrays.asList(
+                new GamerSkillCount("Counter-Strike", Level.NOOB, "USA", 1),
+                new GamerSkillCount("Counter-Strike", Level.PRO, "Canada", 3),
+                new GamerSkillCount("Counter-Strike", Level.PRO, "USA", 2)), stats);
+        verifyNoInteractions(gamerSkillRepository);
+    }
+
+    @Test
+    void getStats_BeforeCountersAreBuilt_ShouldCountInTheDatabaseAndSort() {
+        when(countryDictionary.findName("united states")).thenReturn(Optional.of("USA"));
+        when(gamerSkillRepository.countByGameLevelAndCountry()).thenReturn(Arrays.asList(
+                new GamerSkillCount("Diablo", Level.PRO, "USA", 5),
+                new GamerSkillCount("Counter-Strike", Level.PRO, "USA", 2),
+                new GamerSkillCount("Counter-Strike", Level.PRO, "Canada", 3),
+                new GamerSkillCount("Counter-Strike", Level.NOOB, "USA", 1)));
+
+        List<GamerSkillCount> stats = gamerSkillService.getStats(Level.PRO, null, "united states");
+
+        assertEquals(Arrays.asList(
+                new GamerSkillCount("Counter-Strike", Level.PRO, "USA", 2),
+                new GamerSkillCount("Diablo", Level.PRO, "USA", 5)), stats);
+    }
+
+    @Test
+    void streamGamers_ShouldPassEveryRowToConsumerAndClearPersistenceContextPeriodically() {
+        when(nameIdCache.findGame("Counter-Strike")).thenReturn(Optional.of(new GameKey(1L, "Counter-Strike")));
+        when(gamerSkillRepository.streamByLevelAndGameIdAndCountry(null, 1L, null))
+                .thenReturn(Stream.generate(() -> testGamerSkill).limit(2500));
+        List<GamerSkill> received = new ArrayList<>();
+
+        long count = gamerSkillService.streamGamers(null, "Counter-Strike", null, received::add);
+
+        assertEquals(2500, count);
+        assertEquals(2500, received.size());
+        verify(entityManager, times(2)).clear();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,183 @@
+package com.example.gaming_directory.service;
+
+import com.example.gaming_directory.cache.GameKey;
+import com.example.gaming_directory.cache.GamerKey;
+import com.example.gaming_directory.dto.GamerSkillBatchResult;
+import com.example.gaming_directory.dto.GamerSkillDTO;
+import com.example.gaming_directory.dto.GamerSkillOperation;
+import com.example.gaming_directory.enums.Level;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GamerSkillWriteBehindTest {
+
+    @Mock
+    private GamerSkillService gamerSkillService;
+
+    private GamerSkillWriteBehind writeBehind;
+
+    private final GamerKey joey = new GamerKey(1L, "Joey", "USA");
+    private final GamerKey ross = new GamerKey(2L, "Ross", "Canada");
+    private final GameKey diablo = new GameKey(1L, "Diablo");
+
+    @BeforeEach
+    void setUp() {
+        writeBehind = writeBehind(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeBehind.stop();
+    }
+
+    @Test
+    void submit_ShouldQueueLinkAndReturnPendingOperation() {
+        when(gamerSkillService.resolveLink("joey", "diablo", Level.PRO)).thenReturn(link(joey, Level.PRO));
+
+        Optional<GamerSkillOperation> operation = writeBehind.submit("joey", "diablo", Level.PRO);
+
+        assertEquals(GamerSkillOperation.Status.PENDING, operation.get().getStatus());
+        assertEquals("Joey", operation.get().getUsername());
+        assertEquals("Diablo", operation.get().getGameName());
+        assertEquals(1, writeBehind.getQueueSize());
+        assertEquals(operation, writeBehind.findOperation(operation.get().getOperationId()));
+    }
+
+    @Test
+    void submit_WithInvalidLink_ShouldFailWithoutQueueing() {
+        when(gamerSkillService.resolveLink("Nobody", "Diablo", Level.PRO))
+            .thenThrow(new IllegalArgumentException("Gamer not found with username: Nobody"));
+
+        assertThrows(IllegalArgumentException.class, () -> writeBehind.submit("Nobody", "Diablo", Level.PRO));
+        assertEquals(0, writeBehind.getQueueSize());
+    }
+
+    @Test
+    void submit_WhenQueueIsFull_ShouldRejectLink() {
+        String joeyOperation = submit(joey, Level.PRO);
+        submit(ross, Level.PRO);
+        when(gamerSkillService.resolveLink("Joey", "Diablo", Level.NOOB)).thenReturn(link(joey, Level.NOOB));
+
+        assertTrue(writeBehind.submit("Joey", "Diablo", Level.NOOB).isEmpty());
+        assertEquals(2, writeBehind.getQueueSize());
+        assertTrue(writeBehind.findOperation(joeyOperation).isPresent());
+    }
+
+    @Test
+    void submit_AfterStop_ShouldRejectLink() {
+        writeBehind.start();
+        writeBehind.stop();
+        when(gamerSkillService.resolveLink("Joey", "Diablo", Level.PRO)).thenReturn(link(joey, Level.PRO));
+
+        assertTrue(writeBehind.submit("Joey", "Diablo", Level.PRO).isEmpty());
+    }
+
+    @Test
+    void writer_ShouldWriteQueuedLinksAndRecordTheirOutcome() {
+        when(gamerSkillService.linkGamersToGames(anyList())).thenAnswer(invocation -> {
+            List<GamerSkillDTO> entries = invocation.getArgument(0);
+            return List.of(result(0, entries.get(0), GamerSkillBatchResult.Status.CREATED, 7L));
+        });
+        String operationId = submit(joey, Level.PRO);
+
+        writeBehind.start();
+        writeBehind.stop();
+
+        GamerSkillOperation operation = writeBehind.findOperation(operationId).get();
+        assertEquals(GamerSkillOperation.Status.CREATED, operation.getStatus());
+        assertEquals(7L, operation.getSkillId());
+        assertEquals(0, writeBehind.getQueueSize());
+    }
+
+    @Test
+    void writer_ShouldCoalesceRepeatedLinksOfAPairIntoOneWriteWithTheLastLevel() {
+        writeBehind = writeBehind(10);
+        when(gamerSkillService.linkGamersToGames(anyList())).thenAnswer(invocation -> {
+            List<GamerSkillDTO> entries = invocation.getArgument(0);
+            return List.of(
+                result(0, entries.get(0), GamerSkillBatchResult.Status.UPDATED, 3L),
+                result(1, entries.get(1), GamerSkillBatchResult.Status.CREATED, 4L));
+        });
+        String first = submit(joey, Level.NOOB);
+        String other = submit(ross, Level.PRO);
+        String second = submit(joey, Level.INVINCIBLE);
+
+        writeBehind.start();
+        writeBehind.stop();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GamerSkillDTO>> entries = ArgumentCaptor.forClass(List.class);
+        verify(gamerSkillService, times(1)).linkGamersToGames(entries.capture());
+        assertEquals(2, entries.getValue().size());
+        assertEquals("Joey", entries.getValue().get(0).getUsername());
+        assertEquals(Level.INVINCIBLE, entries.getValue().get(0).getLevel());
+        assertEquals("Ross", entries.getValue().get(1).getUsername());
+
+        assertEquals(3L, writeBehind.findOperation(first).get().getSkillId());
+        assertEquals(3L, writeBehind.findOperation(second).get().getSkillId());
+        assertEquals(GamerSkillOperation.Status.CREATED, writeBehind.findOperation(other).get().getStatus());
+    }
+
+    @Test
+    void writer_WhenBatchFails_ShouldFailEveryOperation() {
+        when(gamerSkillService.linkGamersToGames(anyList())).thenThrow(new DataAccessResourceFailureException("Connection lost"));
+        String first = submit(joey, Level.NOOB);
+        String second = submit(ross, Level.PRO);
+
+        writeBehind.start();
+        writeBehind.stop();
+
+        for (String operationId : List.of(first, second)) {
+            GamerSkillOperation operation = writeBehind.findOperation(operationId).get();
+            assertEquals(GamerSkillOperation.Status.FAILED, operation.getStatus());
+            assertNotNull(operation.getError());
+        }
+    }
+
+    @Test
+    void findOperation_WithUnknownId_ShouldBeEmpty() {
+        assertTrue(writeBehind.findOperation("unknown").isEmpty());
+    }
+
+    private GamerSkillWriteBehind writeBehind(int queueCapacity) {
+        GamerSkillWriteBehind writeBehind = new GamerSkillWriteBehind(
+            true, queueCapacity, 100, Duration.ofMillis(10), 1000, Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(writeBehind, "gamerSkillService", gamerSkillService);
+        ReflectionTestUtils.setField(writeBehind, "meterRegistry", new SimpleMeterRegistry());
+        return writeBehind;
+    }
+
+    private GamerSkillService.ResolvedLink link(GamerKey gamer, Level level) {
+        return new GamerSkillService.ResolvedLink(gamer, diablo, level);
+    }
+
+    // Accept a link of the gamer in Diablo and return its operation id
+    private String submit(GamerKey gamer, Level level) {
+        when(gamerSkillService.resolveLink(gamer.username(), diablo.name(), level)).thenReturn(link(gamer, level));
+        return writeBehind.submit(gamer.username(), diablo.name(), level).get().getOperationId();
+    }
+
+    private static GamerSkillBatchResult result(int index, GamerSkillDTO entry, GamerSkillBatchResult.Status status, Long skillId) {
+        GamerSkillBatchResult result = new GamerSkillBatchResult(index, entry);
+        result.setStatus(status);
+        result.setSkillId(skillId);
+        return result;
+    }
+}
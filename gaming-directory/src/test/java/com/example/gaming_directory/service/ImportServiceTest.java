@@ -0,0 +1,197 @@
+package com.example.gaming_directory.service;
+
+import com.example.gaming_directory.cache.CountryDictionary;
+import com.example.gaming_directory.dto.ImportReport;
+import com.example.gaming_directory.entity.Gamer;
+import com.example.gaming_directory.entity.GamerSkill;
+import com.example.gaming_directory.enums.ImportFormat;
+import com.example.gaming_directory.enums.Level;
+import com.example.gaming_directory.repository.GameRepository;
+import com.example.gaming_directory.repository.GamerRepository;
+import com.example.gaming_directory.repository.GamerSkillRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = {
+    "gaming.import.chunk-size=100",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({ImportService.class, CountryDictionary.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+class ImportServiceTest {
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private GamerRepository gamerRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private GamerSkillRepository gamerSkillRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void importRows_WithCsv_ShouldCreateGamersGamesAndSkills() throws IOException {
+        String csv = """
+            username,country,gameName,level
+            Joey,USA,Counter-Strike,PRO
+            Joey,USA,Diablo,noob
+            Ross,Canada,Counter-Strike,INVINCIBLE
+            Monica,UK,,
+            """;
+
+        ImportReport report = importService.importRows(stream(csv), ImportFormat.CSV);
+
+        assertThat(report.isCompleted()).isTrue();
+        assertThat(report.getRowsRead()).isEqualTo(4);
+        assertThat(report.getRowsRejected()).isZero();
+        assertThat(report.getGamersCreated()).isEqualTo(3);
+        assertThat(report.getGamesCreated()).isEqualTo(2);
+        assertThat(report.getSkillsCreated()).isEqualTo(3);
+        assertThat(gamerRepository.findByUsernameKey("monica")).isPresent();
+        assertThat(gamerSkillRepository.findAll())
+            .extracting(GamerSkill::getGamerName, GamerSkill::getGameName, GamerSkill::getLevel)
+            .contains(tuple("Joey", "Diablo", Level.NOOB));
+    }
+
+    @Test
+    void importRows_WithInvalidRows_ShouldRejectThemAndImportTheRest() throws IOException {
+        String ndjson = """
+            {"username":"Joey","country":"USA","gameName":"Counter-Strike","level":"PRO"}
+            {"username":"Jo","country":"USA"}
+            {"username":"Ross","country":"Canada","gameName":"Diablo"}
+            {"username":"Monica","country":"UK","gameName":"Diablo","level":"LEGEND"}
+            """;
+
+        ImportReport report = importService.importRows(stream(ndjson), ImportFormat.NDJSON);
+
+        assertThat(report.isCompleted()).isTrue();
+        assertThat(report.getRowsRead()).isEqualTo(4);
+        assertThat(report.getRowsRejected()).isEqualTo(3);
+        assertThat(report.getErrors()).containsExactly(
+            "Row 2: Username must be between 3 and 20 characters",
+            "Row 3: Game name and level must be given together",
+            "Row 4: Invalid level 'LEGEND'. Valid values are: [NOOB, PRO, INVINCIBLE]");
+        assertThat(gamerRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void importRows_WithCountryAliases_ShouldStoreCanonicalNamesAndRejectUnknownCountries() throws IOException {
+        String csv = """
+            username,country,gameName,level
+            Joey,us,,
+            Ross,United States of America,,
+            Monica,Atlantis,,
+            """;
+
+        ImportReport report = importService.importRows(stream(csv), ImportFormat.CSV);
+
+        assertThat(report.getGamersCreated()).isEqualTo(2);
+        assertThat(report.getErrors()).containsExactly("Row 3: Unknown country 'Atlantis'");
+        assertThat(gamerRepository.findByUsernameKey("joey")).get().extracting(Gamer::getCountry).isEqualTo("USA");
+        assertThat(gamerRepository.findByUsernameKey("ross")).get().extracting(Gamer::getCountry).isEqualTo("USA");
+    }
+
+    @Test
+    void importRows_WithNamesInOtherCase_ShouldResolveToOneGamerAndGame() throws IOException {
+        importService.importRows(stream("""
+            {"username":"Joey","country":"USA","gameName":"Counter-Strike","level":"PRO"}
+            """), ImportFormat.NDJSON);
+
+        ImportReport report = importService.importRows(stream("""
+            username,country,gameName,level
+            JOEY,USA,counter-strike,NOOB
+            joey,USA,DIABLO,PRO
+            Joey,USA,Diablo,INVINCIBLE
+            """), ImportFormat.CSV);
+
+        assertThat(report.getGamersCreated()).isZero();
+        assertThat(report.getGamesCreated()).isEqualTo(1);
+        assertThat(report.getSkillsCreated()).isEqualTo(1);
+        assertThat(report.getSkillsUpdated()).isEqualTo(1);
+        assertThat(gamerSkillRepository.findAll())
+            .extracting(GamerSkill::getGamerName, GamerSkill::getGameName, GamerSkill::getLevel)
+            .containsExactlyInAnyOrder(tuple("Joey", "Counter-Strike", Level.NOOB), tuple("Joey", "DIABLO", Level.INVINCIBLE));
+    }
+
+    @Test
+    void importRows_WithExistingRows_ShouldUpdateSkillsAndNotDuplicate() throws IOException {
+        importService.importRows(stream("""
+            {"username":"Joey","country":"USA","gameName":"Counter-Strike","level":"PRO"}
+            {"username":"Ross","country":"Canada","gameName":"Diablo","level":"NOOB"}
+            """), ImportFormat.NDJSON);
+
+        ImportReport report = importService.importRows(stream("""
+            {"username":"Joey","country":"USA","gameName":"Counter-Strike","level":"INVINCIBLE"}
+            {"username":"Ross","country":"Canada","gameName":"Diablo","level":"NOOB"}
+            {"username":"Ross","country":"Canada","gameName":"Counter-Strike","level":"PRO"}
+            """), ImportFormat.NDJSON);
+
+        assertThat(report.getGamersCreated()).isZero();
+        assertThat(report.getGamesCreated()).isZero();
+        assertThat(report.getSkillsCreated()).isEqualTo(1);
+        assertThat(report.getSkillsUpdated()).isEqualTo(1);
+        assertThat(gamerRepository.count()).isEqualTo(2);
+        assertThat(gameRepository.count()).isEqualTo(2);
+        assertThat(gamerSkillRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void importRows_WithManyRows_ShouldUseAFixedNumberOfStatementsPerChunk() throws IOException {
+        StringBuilder csv = new StringBuilder("username,country,gameName,level\n");
+        for (int i = 0; i < 1000; i++) {
+            csv.append("Gamer").append(i).append(",USA,Game").append(i % 10).append(",PRO\n");
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ImportReport report = importService.importRows(stream(csv.toString()), ImportFormat.CSV);
+
+        // 10 chunks of 100 rows; per chunk a few lookups, sequence calls and insert batches instead of ~300 statements
+        assertThat(report.getChunks()).isEqualTo(10);
+        assertThat(report.getSkillsCreated()).isEqualTo(1000);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2010);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(150);
+    }
+
+    @Test
+    void importRows_WithMalformedInput_ShouldStopAndKeepRowsReadBeforeIt() throws IOException {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 150; i++) {
+            ndjson.append("{\"username\":\"Gamer").append(i).append("\",\"country\":\"USA\"}\n");
+        }
+        ndjson.append("{\"username\": broken\n");
+
+        ImportReport report = importService.importRows(stream(ndjson.toString()), ImportFormat.NDJSON);
+
+        assertThat(report.isCompleted()).isFalse();
+        assertThat(report.getErrors()).singleElement().asString().startsWith("Row 151: Malformed input");
+        assertThat(report.getChunks()).isEqualTo(2);
+        assertThat(gamerRepository.count()).isEqualTo(150);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.gaming_directory.synthetic;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticDataGeneratorTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // A fresh database per test, migrated like the application's
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:synthetic-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void generate_ShouldInsertRequestedGamersAndGamesWithDistinctSkills() {
+        SyntheticDataProperties properties = new SyntheticDataProperties(2_000, 20, 3);
+        properties.setThreads(4);
+        properties.setBatchSize(300);
+
+        SyntheticDataGenerator.Result result = new SyntheticDataGenerator(dataSource, properties).generate();
+
+        assertThat(count("gamers")).isEqualTo(2_000);
+        assertThat(count("games")).isEqualTo(20);
+        assertThat(count("gamer_skills")).isEqualTo(result.skills());
+        // 1 to 5 skills per gamer, 3 on average
+        assertThat(result.skills()).isBetween(5_000L, 7_000L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT id) FROM gamer_skills", Long.class)).isEqualTo(result.skills());
+    }
+
+    @Test
+    void generate_ShouldSkewGamePopularityAndCountries() {
+        new SyntheticDataGenerator(dataSource, new SyntheticDataProperties(5_000, 50, 3)).generate();
+
+        List<Long> skillsPerGame = jdbcTemplate.queryForList(
+            "SELECT COUNT(*) FROM gamer_skills GROUP BY game_id ORDER BY game_id", Long.class);
+        assertThat(skillsPerGame.get(0)).isGreaterThan(skillsPerGame.get(9) * 3);
+
+        Map<String, Object> topCountry = jdbcTemplate.queryForMap(
+            "SELECT c.name AS country, COUNT(*) AS gamers FROM gamers gm JOIN countries c ON c.id = gm.country_id " +
+            "GROUP BY c.name ORDER BY gamers DESC LIMIT 1");
+        assertThat(topCountry.get("COUNTRY")).isEqualTo("USA");
+    }
+
+    @Test
+    void generate_WithSameSeed_ShouldProduceSameData() {
+        SyntheticDataProperties properties = new SyntheticDataProperties(1_000, 10, 3);
+        properties.setThreads(3);
+        properties.setBatchSize(100);
+        new SyntheticDataGenerator(dataSource, properties).generate();
+        List<String> first = skillsByGamerAndGame();
+
+        setUp();
+        properties.setThreads(1);
+        new SyntheticDataGenerator(dataSource, properties).generate();
+
+        assertThat(skillsByGamerAndGame()).isEqualTo(first);
+    }
+
+    @Test
+    void restartSequences_ShouldContinueAfterGeneratedRows() {
+        new SyntheticDataGenerator(dataSource, new SyntheticDataProperties(100, 5, 2)).generate();
+        new SyntheticDataGenerator(dataSource, new SyntheticDataProperties(100, 5, 2)).restartSequences();
+
+        Long nextGamerId = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR gamers_seq", Long.class);
+        // Hibernate's pooled optimizer hands out the 50 ids below the fetched value
+        assertThat(nextGamerId - 49).isEqualTo(101);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private List<String> skillsByGamerAndGame() {
+        return jdbcTemplate.queryForList(
+            "SELECT gm.username || ':' || c.name || ':' || gs.game_id || ':' || gs.level FROM gamer_skills gs " +
+            "JOIN gamers gm ON gm.id = gs.gamer_id JOIN countries c ON c.id = gm.country_id ORDER BY gm.id, gs.game_id", String.class);
+    }
+}
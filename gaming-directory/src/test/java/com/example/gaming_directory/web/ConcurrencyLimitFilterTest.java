@@ -0,0 +1,83 @@
+package com.example.gaming_directory.web;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void doFilter_ShouldReleasePermitAfterRequest() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(10));
+
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/gamers"), response, new MockFilterChain());
+            assertEquals(200, response.getStatus());
+        }
+        assertEquals(0, filter.getActiveRequests());
+    }
+
+    @Test
+    void doFilter_ShouldRejectWith503_WhenLimitReached() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(10));
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        FilterChain blocking = (request, response) -> {
+            inside.countDown();
+            try {
+                finish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        Thread busy = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/gamers"), new MockHttpServletResponse(), blocking);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/gamers"), rejected, chain);
+
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertNull(chain.getRequest()); // never reached the controller
+
+        finish.countDown();
+        busy.join();
+        assertEquals(0, filter.getActiveRequests());
+    }
+
+    @Test
+    void doFilter_ShouldHoldPermitUntilAsyncRequestCompletes() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(2, Duration.ofMillis(10));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/gamer-skills/export");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+        assertEquals(1, filter.getActiveRequests());
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(0, filter.getActiveRequests());
+    }
+
+    @Test
+    void constructor_ShouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimitFilter(0, Duration.ofSeconds(1)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.gaming_directory.web;
+
+import com.example.gaming_directory.datasource.ReadYourWrites;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    private final ReadYourWritesFilter filter =
+        new ReadYourWritesFilter(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void write_ShouldReturnWriteTimeToken() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/gamers"), response, (req, res) -> {});
+
+        assertEquals(String.valueOf(NOW.toEpochMilli()), response.getHeader(ReadYourWritesFilter.HEADER));
+    }
+
+    @Test
+    void read_ShouldReadOwnWrites_WithRecentToken() throws Exception {
+        assertTrue(readsOwnWrites(String.valueOf(NOW.minusSeconds(2).toEpochMilli())));
+        assertFalse(ReadYourWrites.isActive()); // cleared after the request
+    }
+
+    @Test
+    void read_ShouldUseReplica_WithoutTokenOrWithStaleOrMalformedToken() throws Exception {
+        assertFalse(readsOwnWrites(null));
+        assertFalse(readsOwnWrites(String.valueOf(NOW.minusSeconds(6).toEpochMilli())));
+        assertFalse(readsOwnWrites("yesterday"));
+    }
+
+    private boolean readsOwnWrites(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/gamers/1");
+        if (token != null) {
+            request.addHeader(ReadYourWritesFilter.HEADER, token);
+        }
+        AtomicBoolean active = new AtomicBoolean();
+        FilterChain chain = (req, res) -> active.set(ReadYourWrites.isActive());
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return active.get();
+    }
+}
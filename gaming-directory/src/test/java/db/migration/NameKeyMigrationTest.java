@@ -0,0 +1,27 @@
+package db.migration;
+
+import com.example.gaming_directory.entity.NameKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameKeyMigrationTest {
+
+    // Plain, mixed case, compatibility, composed/decomposed, special casing, non-Latin and symbol-heavy names
+    private static final List<String> NAMES = List.of(
+            "Joey", "JOEY", "joey", "Ｊｏｅｙ", "ﬁfa", "Pokémon", "Pokémon", "POKÉMON", "Straße", "STRASSE",
+            "İstanbul", "ǅemal", "ΣΊΣΥΦΟΣ", "Ⅻ", "ｶﾀｶﾅ", "ゲーム", "Counter-Strike: Global Offensive", "  spaced  ",
+            "dragon quest", "ｘＸ_Sn1per_Xｘ", "");
+
+    // The keys stored by V6 must stay what the application computes; when NameKey.of changes, a migration that
+    // recomputes the keys is needed, and V6 keeps its own copy unchanged
+    @Test
+    void nameKey_ShouldMatchNameKeyOf() {
+        for (String name : NAMES) {
+            assertThat(V6__add_name_keys.nameKey(name)).as(name).isEqualTo(NameKey.of(name));
+        }
+        assertThat(V6__add_name_keys.nameKey(null)).isNull();
+    }
+}